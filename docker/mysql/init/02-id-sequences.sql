@@ -0,0 +1,24 @@
+-- ID sequences for write-heavy entities (orders, order_items, inventory_histories, payments, member_coupons,
+-- stock_reservations)
+-- MySQL has no native sequences, so Hibernate emulates each one with a single-row table (next_val).
+-- These tables must exist before the application starts with ddl-auto: validate.
+-- Entities use allocationSize = 50; Hibernate advances next_val in steps of 50.
+
+USE ecommerce;
+
+CREATE TABLE IF NOT EXISTS orders_seq (next_val BIGINT NOT NULL) ENGINE = InnoDB;
+CREATE TABLE IF NOT EXISTS order_items_seq (next_val BIGINT NOT NULL) ENGINE = InnoDB;
+CREATE TABLE IF NOT EXISTS inventory_histories_seq (next_val BIGINT NOT NULL) ENGINE = InnoDB;
+CREATE TABLE IF NOT EXISTS payments_seq (next_val BIGINT NOT NULL) ENGINE = InnoDB;
+CREATE TABLE IF NOT EXISTS member_coupons_seq (next_val BIGINT NOT NULL) ENGINE = InnoDB;
+CREATE TABLE IF NOT EXISTS stock_reservations_seq (next_val BIGINT NOT NULL) ENGINE = InnoDB;
+
+INSERT INTO orders_seq SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM orders_seq);
+INSERT INTO order_items_seq SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM order_items_seq);
+INSERT INTO inventory_histories_seq SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM inventory_histories_seq);
+INSERT INTO payments_seq SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM payments_seq);
+INSERT INTO member_coupons_seq SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM member_coupons_seq);
+INSERT INTO stock_reservations_seq SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM stock_reservations_seq);
+
+-- Existing databases migrating from IDENTITY: move each sequence past the current max id, e.g.
+-- UPDATE orders_seq SET next_val = (SELECT COALESCE(MAX(id), 0) + 1 FROM orders);
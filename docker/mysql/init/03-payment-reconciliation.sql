@@ -0,0 +1,36 @@
+-- Payment reconciliation columns (reconciled_at, failure_code) and the keyset index the job scans.
+-- Required before starting with ddl-auto: validate. Each step runs only when the payments table exists
+-- and the column/index is missing, so the script is safe on a fresh volume and can be re-run by hand.
+
+USE ecommerce;
+
+SET @payments_exists = (SELECT COUNT(*) FROM information_schema.tables
+                        WHERE table_schema = DATABASE() AND table_name = 'payments');
+
+SET @ddl = IF(@payments_exists = 1 AND NOT EXISTS (
+                  SELECT 1 FROM information_schema.columns
+                  WHERE table_schema = DATABASE() AND table_name = 'payments' AND column_name = 'reconciled_at'),
+              'ALTER TABLE payments ADD COLUMN reconciled_at DATETIME(6) NULL',
+              'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF(@payments_exists = 1 AND NOT EXISTS (
+                  SELECT 1 FROM information_schema.columns
+                  WHERE table_schema = DATABASE() AND table_name = 'payments' AND column_name = 'failure_code'),
+              'ALTER TABLE payments ADD COLUMN failure_code VARCHAR(10) NULL',
+              'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF(@payments_exists = 1 AND NOT EXISTS (
+                  SELECT 1 FROM information_schema.statistics
+                  WHERE table_schema = DATABASE() AND table_name = 'payments'
+                    AND index_name = 'idx_payments_status_reconciled_at_id'),
+              'CREATE INDEX idx_payments_status_reconciled_at_id ON payments (status, reconciled_at, id)',
+              'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
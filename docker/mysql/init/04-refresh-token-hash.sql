@@ -0,0 +1,68 @@
+-- refresh_tokens: replace the raw token column with its SHA-256 hex (token_hash) and add the lookup indexes.
+-- Existing rows are backfilled with SHA2(token, 256), which matches RefreshTokenStore.hash (lowercase hex of the
+-- UTF-8 bytes), so issued refresh tokens keep working. Required before starting with ddl-auto: validate.
+-- Each step runs only when the table exists and the step is still pending, so the script is safe on a fresh
+-- volume and can be re-run by hand.
+
+USE ecommerce;
+
+SET @tokens_exists = (SELECT COUNT(*) FROM information_schema.tables
+                      WHERE table_schema = DATABASE() AND table_name = 'refresh_tokens');
+
+SET @raw_token_exists = (SELECT COUNT(*) FROM information_schema.columns
+                         WHERE table_schema = DATABASE() AND table_name = 'refresh_tokens'
+                           AND column_name = 'token');
+
+SET @ddl = IF(@tokens_exists = 1 AND NOT EXISTS (
+                  SELECT 1 FROM information_schema.columns
+                  WHERE table_schema = DATABASE() AND table_name = 'refresh_tokens' AND column_name = 'token_hash'),
+              'ALTER TABLE refresh_tokens ADD COLUMN token_hash VARCHAR(64) NULL',
+              'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF(@raw_token_exists = 1,
+              'UPDATE refresh_tokens SET token_hash = SHA2(token, 256) WHERE token_hash IS NULL',
+              'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- Dropping the raw column also drops its unique index
+SET @ddl = IF(@raw_token_exists = 1,
+              'ALTER TABLE refresh_tokens DROP COLUMN token, MODIFY COLUMN token_hash VARCHAR(64) NOT NULL',
+              'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF(@tokens_exists = 1 AND NOT EXISTS (
+                  SELECT 1 FROM information_schema.statistics
+                  WHERE table_schema = DATABASE() AND table_name = 'refresh_tokens'
+                    AND column_name = 'token_hash' AND non_unique = 0),
+              'CREATE UNIQUE INDEX uk_refresh_tokens_token_hash ON refresh_tokens (token_hash)',
+              'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF(@tokens_exists = 1 AND NOT EXISTS (
+                  SELECT 1 FROM information_schema.statistics
+                  WHERE table_schema = DATABASE() AND table_name = 'refresh_tokens'
+                    AND index_name = 'idx_refresh_tokens_member_id'),
+              'CREATE INDEX idx_refresh_tokens_member_id ON refresh_tokens (member_id)',
+              'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF(@tokens_exists = 1 AND NOT EXISTS (
+                  SELECT 1 FROM information_schema.statistics
+                  WHERE table_schema = DATABASE() AND table_name = 'refresh_tokens'
+                    AND index_name = 'idx_refresh_tokens_expires_at'),
+              'CREATE INDEX idx_refresh_tokens_expires_at ON refresh_tokens (expires_at)',
+              'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
@@ -0,0 +1,21 @@
+-- stock_reservations: one row per (order, inventory) reserved at checkout until payment confirms or the sweeper
+-- expires it. Required before starting with ddl-auto: validate. Ids come from stock_reservations_seq
+-- (02-id-sequences.sql), so the id column has no AUTO_INCREMENT.
+
+USE ecommerce;
+
+CREATE TABLE IF NOT EXISTS stock_reservations (
+    id                BIGINT      NOT NULL,
+    inventory_id      BIGINT      NOT NULL,
+    product_id        BIGINT      NOT NULL,
+    product_option_id BIGINT      NULL,
+    order_id          BIGINT      NOT NULL,
+    quantity          INT         NOT NULL,
+    status            VARCHAR(20) NOT NULL,
+    expires_at        DATETIME(6) NOT NULL,
+    created_at        DATETIME(6) NOT NULL,
+    updated_at        DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    INDEX idx_stock_reservations_order_id (order_id),
+    INDEX idx_stock_reservations_status_expires_at (status, expires_at)
+) ENGINE = InnoDB;
@@ -0,0 +1,42 @@
+-- Composite indexes behind the keyset (cursor) listings: a member's orders and products by status/category,
+-- both ordered by (created_at, id). ddl-auto: validate never creates indexes, so existing databases need this
+-- script. Each index is created only when its table exists and the index is missing, so the script is safe on a
+-- fresh volume and can be re-run by hand.
+
+USE ecommerce;
+
+SET @orders_exists = (SELECT COUNT(*) FROM information_schema.tables
+                      WHERE table_schema = DATABASE() AND table_name = 'orders');
+
+SET @products_exists = (SELECT COUNT(*) FROM information_schema.tables
+                        WHERE table_schema = DATABASE() AND table_name = 'products');
+
+SET @ddl = IF(@orders_exists = 1 AND NOT EXISTS (
+                  SELECT 1 FROM information_schema.statistics
+                  WHERE table_schema = DATABASE() AND table_name = 'orders'
+                    AND index_name = 'idx_orders_member_id_created_at_id'),
+              'CREATE INDEX idx_orders_member_id_created_at_id ON orders (member_id, created_at, id)',
+              'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF(@products_exists = 1 AND NOT EXISTS (
+                  SELECT 1 FROM information_schema.statistics
+                  WHERE table_schema = DATABASE() AND table_name = 'products'
+                    AND index_name = 'idx_products_status_created_at_id'),
+              'CREATE INDEX idx_products_status_created_at_id ON products (status, created_at, id)',
+              'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF(@products_exists = 1 AND NOT EXISTS (
+                  SELECT 1 FROM information_schema.statistics
+                  WHERE table_schema = DATABASE() AND table_name = 'products'
+                    AND index_name = 'idx_products_category_id_status_created_at_id'),
+              'CREATE INDEX idx_products_category_id_status_created_at_id ON products (category_id, status, created_at, id)',
+              'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
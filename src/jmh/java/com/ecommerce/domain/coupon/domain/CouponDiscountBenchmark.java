@@ -0,0 +1,62 @@
+package com.ecommerce.domain.coupon.domain;
+
+import com.ecommerce.domain.model.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CouponDiscountBenchmark {
+
+    private Coupon fixedAmount;
+    private Coupon percentage;
+    private Money orderAmount;
+    private Money belowMinimum;
+
+    @Setup
+    public void setUp() {
+        fixedAmount = Coupon.builder()
+                .name("5천원 할인")
+                .type(CouponType.FIXED_AMOUNT)
+                .discountValue(5000L)
+                .minOrderAmount(30000L)
+                .startDate(LocalDate.now())
+                .endDate(LocalDate.now().plusDays(30))
+                .build();
+        percentage = Coupon.builder()
+                .name("10% 할인")
+                .type(CouponType.PERCENTAGE)
+                .discountValue(10L)
+                .maxDiscountAmount(10000L)
+                .minOrderAmount(30000L)
+                .startDate(LocalDate.now())
+                .endDate(LocalDate.now().plusDays(30))
+                .build();
+        orderAmount = Money.of(153000L);
+        belowMinimum = Money.of(12000L);
+    }
+
+    @Benchmark
+    public Money fixedAmount() {
+        return fixedAmount.calculateDiscount(orderAmount);
+    }
+
+    @Benchmark
+    public Money percentageWithCap() {
+        return percentage.calculateDiscount(orderAmount);
+    }
+
+    @Benchmark
+    public Money belowMinOrderAmount() {
+        return percentage.calculateDiscount(belowMinimum);
+    }
+}
@@ -0,0 +1,29 @@
+package com.ecommerce.domain.member.domain;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MemberGradeBenchmark {
+
+    // 등급 경계 전후 금액을 섞어 분기 예측이 한쪽으로 치우치지 않게 한다
+    private final long[] purchaseAmounts = {
+            0L, 99_999L, 100_000L, 250_000L, 299_999L, 300_000L, 499_999L, 500_000L, 2_000_000L
+    };
+
+    @Benchmark
+    public void calculateGrade(Blackhole blackhole) {
+        for (long amount : purchaseAmounts) {
+            blackhole.consume(MemberGrade.calculateGrade(amount));
+        }
+    }
+}
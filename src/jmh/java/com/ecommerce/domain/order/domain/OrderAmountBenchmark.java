@@ -0,0 +1,55 @@
+package com.ecommerce.domain.order.domain;
+
+import com.ecommerce.domain.model.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class OrderAmountBenchmark {
+
+    @Param({"1", "10", "50"})
+    private int itemCount;
+
+    private Order order;
+    private Money[] amounts;
+
+    @Setup
+    public void setUp() {
+        order = Order.builder().memberId(1L).build();
+        amounts = new Money[itemCount];
+        for (int i = 0; i < itemCount; i++) {
+            order.addOrderItem(OrderItem.builder()
+                    .productId((long) i + 1)
+                    .productName("상품" + i)
+                    .unitPrice(Money.of(1000L + i))
+                    .quantity(2)
+                    .build());
+            amounts[i] = Money.of(1000L + i);
+        }
+    }
+
+    @Benchmark
+    public Money recalculateAmounts() {
+        order.recalculateAmounts();
+        return order.getFinalAmount();
+    }
+
+    @Benchmark
+    public Money moneyAddChain() {
+        Money total = Money.ZERO;
+        for (Money amount : amounts) {
+            total = total.add(amount);
+        }
+        return total.subtract(Money.of(500L)).add(Money.of(3000L));
+    }
+}
@@ -0,0 +1,33 @@
+package com.ecommerce.domain.order.domain;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class OrderStatusBenchmark {
+
+    private static final OrderStatus[] STATUSES = OrderStatus.values();
+
+    @Benchmark
+    public boolean canTransitionTo_Single() {
+        return OrderStatus.PAID.canTransitionTo(OrderStatus.PREPARING);
+    }
+
+    @Benchmark
+    public void canTransitionTo_AllPairs(Blackhole blackhole) {
+        for (OrderStatus from : STATUSES) {
+            for (OrderStatus to : STATUSES) {
+                blackhole.consume(from.canTransitionTo(to));
+            }
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.ecommerce.global.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.core.Authentication;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtTokenProviderBenchmark {
+
+    private JwtTokenProvider jwtTokenProvider;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        jwtTokenProvider = new JwtTokenProvider(new SimpleMeterRegistry());
+        setField("secretString", "benchmark-secret-key-must-be-at-least-256-bits-long-for-hs256");
+        setField("accessTokenValidity", 3_600_000L);
+        setField("refreshTokenValidity", 604_800_000L);
+        setField("verifiedCacheMaximumSize", 10_000L);
+        jwtTokenProvider.init();
+        accessToken = jwtTokenProvider.createAccessToken(1L, "user@example.com");
+        jwtTokenProvider.resolveAuthentication(accessToken);
+    }
+
+    // 이전 필터 경로(validateThenAuthenticate: 검증 2회)와 현재 경로(캐시 적중 / 캐시 미스 1회 검증)를 비교한다
+    @Benchmark
+    public boolean validateToken() {
+        return jwtTokenProvider.validateToken(accessToken);
+    }
+
+    @Benchmark
+    public Authentication getAuthentication() {
+        return jwtTokenProvider.getAuthentication(accessToken);
+    }
+
+    @Benchmark
+    public Authentication validateThenAuthenticate() {
+        if (!jwtTokenProvider.validateToken(accessToken)) {
+            return null;
+        }
+        return jwtTokenProvider.getAuthentication(accessToken);
+    }
+
+    @Benchmark
+    public Optional<Authentication> resolveAuthenticationCached() {
+        return jwtTokenProvider.resolveAuthentication(accessToken);
+    }
+
+    @Benchmark
+    public Optional<Authentication> verifyAndAuthenticateUncached() {
+        return jwtTokenProvider.verifyAndAuthenticate(accessToken);
+    }
+
+    private void setField(String name, Object value) {
+        Field field = ReflectionUtils.findField(JwtTokenProvider.class, name);
+        ReflectionUtils.makeAccessible(field);
+        ReflectionUtils.setField(field, jwtTokenProvider, value);
+    }
+}
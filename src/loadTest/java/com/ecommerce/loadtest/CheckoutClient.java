@@ -0,0 +1,149 @@
+package com.ecommerce.loadtest;
+
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+// 가상 스레드 하나가 회원 한 명의 가입 → 로그인 → 탐색 → 주문 → 결제 흐름을 실제 HTTP로 수행한다
+class CheckoutClient {
+
+    private static final String PASSWORD = "LoadTest1!";
+    private static final String CARD_NUMBER = "4000000000000000";
+
+    private final HttpClient httpClient;
+    private final JsonMapper jsonMapper;
+    private final LatencyRecorder recorder;
+    private final String baseUrl;
+
+    private String accessToken;
+
+    CheckoutClient(HttpClient httpClient, JsonMapper jsonMapper, LatencyRecorder recorder, String baseUrl) {
+        this.httpClient = httpClient;
+        this.jsonMapper = jsonMapper;
+        this.recorder = recorder;
+        this.baseUrl = baseUrl;
+    }
+
+    CheckoutOutcome checkout(int userIndex, LoadTestSettings settings, List<Long> couponIds) {
+        String email = "load" + userIndex + "@example.com";
+
+        if (send("signup", "POST", "/api/auth/signup", Map.of(
+                "email", email,
+                "password", PASSWORD,
+                "name", "부하테스트",
+                "phoneNumber", "010-1234-5678")).failed()) {
+            return CheckoutOutcome.ERROR;
+        }
+
+        Result login = send("login", "POST", "/api/auth/login", Map.of("email", email, "password", PASSWORD));
+        if (login.failed()) {
+            return CheckoutOutcome.ERROR;
+        }
+        accessToken = login.data().path("accessToken").asString();
+
+        Result listing = send("browse.list", "GET", "/api/products?page=0&size=" + settings.products(), null);
+        if (listing.failed()) {
+            return CheckoutOutcome.ERROR;
+        }
+        List<Long> productIds = new ArrayList<>();
+        listing.data().path("content").forEach(product -> productIds.add(product.path("id").asLong()));
+        if (productIds.isEmpty()) {
+            return CheckoutOutcome.ERROR;
+        }
+
+        List<Map<String, Object>> items = new ArrayList<>();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < settings.itemsPerOrder(); i++) {
+            Long productId = productIds.get(random.nextInt(productIds.size()));
+            if (send("browse.detail", "GET", "/api/products/" + productId, null).failed()) {
+                return CheckoutOutcome.ERROR;
+            }
+            if (items.stream().noneMatch(item -> item.get("productId").equals(productId))) {
+                items.add(Map.of("productId", productId, "quantity", 1));
+            }
+        }
+
+        Long couponId = null;
+        if (!couponIds.isEmpty()) {
+            couponId = couponIds.get(random.nextInt(couponIds.size()));
+            if (send("coupon.issue", "POST", "/api/coupons/issue", Map.of("couponId", couponId)).failed()) {
+                couponId = null;
+            }
+        }
+
+        Map<String, Object> orderRequest = new LinkedHashMap<>();
+        orderRequest.put("items", items);
+        orderRequest.put("shippingInfo", Map.of(
+                "recipientName", "부하테스트",
+                "recipientPhone", "010-1234-5678",
+                "zipCode", "12345",
+                "address1", "서울시 강남구 테헤란로 1"));
+        orderRequest.put("couponId", couponId);
+
+        Result order = send("order.create", "POST", "/api/orders", orderRequest);
+        if (order.failed()) {
+            return order.status() == 400 ? CheckoutOutcome.SOLD_OUT : CheckoutOutcome.ERROR;
+        }
+
+        Result payment = send("payment.process", "POST", "/api/payments", Map.of(
+                "orderId", order.data().path("id").asLong(),
+                "method", "CREDIT_CARD",
+                "idempotencyKey", UUID.randomUUID().toString(),
+                "cardNumber", CARD_NUMBER));
+        if (payment.failed()) {
+            return CheckoutOutcome.ERROR;
+        }
+        return "APPROVED".equals(payment.data().path("status").asString())
+                ? CheckoutOutcome.COMPLETED
+                : CheckoutOutcome.PAYMENT_FAILED;
+    }
+
+    private Result send(String endpoint, String method, String path, Object body) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .method(method, body == null
+                        ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofString(jsonMapper.writeValueAsString(body)));
+        if (accessToken != null) {
+            builder.header("Authorization", "Bearer " + accessToken);
+        }
+
+        long startedAt = System.nanoTime();
+        try {
+            HttpResponse<String> response = httpClient.send(builder.build(), HttpResponse.BodyHandlers.ofString());
+            recorder.record(endpoint, System.nanoTime() - startedAt, response.statusCode() < 400);
+            JsonNode root = response.body().isEmpty() ? null : jsonMapper.readTree(response.body());
+            return new Result(response.statusCode(), root == null ? null : root.path("data"));
+        } catch (Exception e) {
+            recorder.record(endpoint, System.nanoTime() - startedAt, false);
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            return new Result(-1, null);
+        }
+    }
+
+    private record Result(int status, JsonNode data) {
+
+        boolean failed() {
+            return status < 200 || status >= 300 || data == null;
+        }
+    }
+
+    enum CheckoutOutcome {
+        COMPLETED,
+        SOLD_OUT,
+        PAYMENT_FAILED,
+        ERROR
+    }
+}
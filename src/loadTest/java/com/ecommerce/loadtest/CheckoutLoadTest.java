@@ -0,0 +1,171 @@
+package com.ecommerce.loadtest;
+
+import com.ecommerce.domain.coupon.dao.CouponRepository;
+import com.ecommerce.domain.inventory.dao.InventoryRepository;
+import com.ecommerce.domain.product.dao.CategoryRepository;
+import com.ecommerce.domain.product.dao.ProductRepository;
+import com.ecommerce.loadtest.CheckoutClient.CheckoutOutcome;
+import com.ecommerce.loadtest.LatencyRecorder.EndpointSummary;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import tools.jackson.databind.SerializationFeature;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class CheckoutLoadTest {
+
+    private static final Path REPORT_DIR = Path.of("build", "reports", "loadtest");
+
+    @Value("${local.server.port}")
+    private int port;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private InventoryRepository inventoryRepository;
+
+    @Autowired
+    private CouponRepository couponRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private RetryCounter retryCounter;
+
+    @TestConfiguration
+    static class RetryCounterConfig {
+
+        @Bean
+        RetryCounter retryCounter() {
+            return new RetryCounter();
+        }
+    }
+
+    @Test
+    @DisplayName("동시 결제 흐름의 지연 시간, 처리량, 초과 판매, 락 충돌 재시도를 측정한다")
+    void checkout() throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        LoadTestSeeder.SeedData seed = new LoadTestSeeder(
+                categoryRepository, productRepository, inventoryRepository, couponRepository).seed(settings);
+
+        LatencyRecorder recorder = new LatencyRecorder();
+        JsonMapper jsonMapper = JsonMapper.builder().build();
+        Map<CheckoutOutcome, Integer> outcomes = new EnumMap<>(CheckoutOutcome.class);
+
+        long elapsedNanos;
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient httpClient = HttpClient.newBuilder()
+                     .executor(clients)
+                     .connectTimeout(Duration.ofSeconds(5))
+                     .build()) {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<CheckoutOutcome>> futures = new ArrayList<>();
+            for (int i = 0; i < settings.users(); i++) {
+                int userIndex = i;
+                futures.add(clients.submit(() -> {
+                    start.await();
+                    return new CheckoutClient(httpClient, jsonMapper, recorder, "http://localhost:" + port)
+                            .checkout(userIndex, settings, seed.couponIds());
+                }));
+            }
+
+            long startedAt = System.nanoTime();
+            start.countDown();
+            for (Future<CheckoutOutcome> future : futures) {
+                outcomes.merge(future.get(), 1, Integer::sum);
+            }
+            elapsedNanos = System.nanoTime() - startedAt;
+        }
+
+        long oversold = countOversold(settings);
+        Map<String, Object> report = buildReport(settings, recorder, outcomes, elapsedNanos, oversold);
+        print(recorder.summarize(), report);
+        write(jsonMapper, settings, report);
+
+        assertThat(oversold).isZero();
+    }
+
+    // 취소되지 않은 주문의 상품별 판매 수량이 초기 재고를 넘은 만큼을 초과 판매로 본다
+    private long countOversold(LoadTestSettings settings) {
+        Long oversold = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(SUM(GREATEST(sold - ?, 0)), 0) FROM (" +
+                "  SELECT oi.product_id, SUM(oi.quantity) AS sold FROM order_items oi" +
+                "  JOIN orders o ON o.id = oi.order_id WHERE o.status <> 'CANCELLED'" +
+                "  GROUP BY oi.product_id) s",
+                Long.class, settings.stockPerProduct());
+        Long negative = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM inventories WHERE quantity < 0", Long.class);
+        return (oversold == null ? 0 : oversold) + (negative == null ? 0 : negative);
+    }
+
+    private Map<String, Object> buildReport(LoadTestSettings settings, LatencyRecorder recorder,
+                                            Map<CheckoutOutcome, Integer> outcomes,
+                                            long elapsedNanos, long oversold) {
+        double elapsedSeconds = elapsedNanos / 1_000_000_000.0;
+        int completed = outcomes.getOrDefault(CheckoutOutcome.COMPLETED, 0);
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("startedAt", LocalDateTime.now().toString());
+        report.put("settings", settings);
+        report.put("elapsedSeconds", elapsedSeconds);
+        report.put("checkoutsPerSecond", completed / elapsedSeconds);
+        report.put("requestsPerSecond", recorder.totalRequests() / elapsedSeconds);
+        report.put("outcomes", outcomes);
+        report.put("oversold", oversold);
+        report.put("lockConflictRetries", retryCounter.lockConflicts());
+        report.put("retriesExhausted", retryCounter.exhausted());
+        report.put("endpoints", recorder.summarize());
+        return report;
+    }
+
+    private void print(Map<String, EndpointSummary> endpoints, Map<String, Object> report) {
+        System.out.printf("%n%-16s %8s %8s %10s %10s %10s %10s%n",
+                "endpoint", "count", "fail", "p50(ms)", "p95(ms)", "p99(ms)", "max(ms)");
+        endpoints.forEach((endpoint, summary) -> System.out.printf("%-16s %8d %8d %10.1f %10.1f %10.1f %10.1f%n",
+                endpoint, summary.count(), summary.failures(),
+                summary.p50Ms(), summary.p95Ms(), summary.p99Ms(), summary.maxMs()));
+        System.out.printf("%nelapsed=%.2fs checkouts/s=%.1f requests/s=%.1f outcomes=%s%n",
+                report.get("elapsedSeconds"), report.get("checkoutsPerSecond"),
+                report.get("requestsPerSecond"), report.get("outcomes"));
+        System.out.printf("oversold=%s lockConflictRetries=%s retriesExhausted=%s%n",
+                report.get("oversold"), report.get("lockConflictRetries"), report.get("retriesExhausted"));
+    }
+
+    // 플랫폼/가상 스레드 실행을 나란히 비교할 수 있게 파일 이름에 실행 모드를 남긴다
+    private void write(JsonMapper jsonMapper, LoadTestSettings settings, Map<String, Object> report) throws IOException {
+        Files.createDirectories(REPORT_DIR);
+        String mode = settings.virtualThreads() ? "virtual" : "platform";
+        Path file = REPORT_DIR.resolve("checkout-" + mode + "-" + System.currentTimeMillis() + ".json");
+        Files.writeString(file, jsonMapper.writer(SerializationFeature.INDENT_OUTPUT).writeValueAsString(report));
+        System.out.println("report: " + file.toAbsolutePath());
+    }
+}
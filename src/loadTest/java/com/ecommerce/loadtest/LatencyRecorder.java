@@ -0,0 +1,55 @@
+package com.ecommerce.loadtest;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+class LatencyRecorder {
+
+    private final Map<String, ConcurrentLinkedQueue<Long>> samples = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> failures = new ConcurrentHashMap<>();
+
+    void record(String endpoint, long nanos, boolean success) {
+        samples.computeIfAbsent(endpoint, key -> new ConcurrentLinkedQueue<>()).add(nanos);
+        if (!success) {
+            failures.computeIfAbsent(endpoint, key -> new LongAdder()).increment();
+        }
+    }
+
+    long totalRequests() {
+        return samples.values().stream().mapToLong(ConcurrentLinkedQueue::size).sum();
+    }
+
+    Map<String, EndpointSummary> summarize() {
+        Map<String, EndpointSummary> summaries = new LinkedHashMap<>();
+        samples.keySet().stream().sorted().forEach(endpoint -> {
+            long[] sorted = samples.get(endpoint).stream().mapToLong(Long::longValue).toArray();
+            Arrays.sort(sorted);
+            LongAdder failed = failures.get(endpoint);
+            summaries.put(endpoint, new EndpointSummary(
+                    sorted.length,
+                    failed == null ? 0 : failed.sum(),
+                    percentileMillis(sorted, 50),
+                    percentileMillis(sorted, 95),
+                    percentileMillis(sorted, 99),
+                    sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1_000_000.0
+            ));
+        });
+        return summaries;
+    }
+
+    // nearest-rank 방식
+    private double percentileMillis(long[] sorted, int percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+        return sorted[Math.max(rank - 1, 0)] / 1_000_000.0;
+    }
+
+    record EndpointSummary(long count, long failures, double p50Ms, double p95Ms, double p99Ms, double maxMs) {
+    }
+}
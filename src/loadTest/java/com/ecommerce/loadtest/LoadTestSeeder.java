@@ -0,0 +1,75 @@
+package com.ecommerce.loadtest;
+
+import com.ecommerce.domain.coupon.dao.CouponRepository;
+import com.ecommerce.domain.coupon.domain.Coupon;
+import com.ecommerce.domain.coupon.domain.CouponType;
+import com.ecommerce.domain.inventory.dao.InventoryRepository;
+import com.ecommerce.domain.inventory.domain.Inventory;
+import com.ecommerce.domain.model.Money;
+import com.ecommerce.domain.product.dao.CategoryRepository;
+import com.ecommerce.domain.product.dao.ProductRepository;
+import com.ecommerce.domain.product.domain.Category;
+import com.ecommerce.domain.product.domain.Product;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+@RequiredArgsConstructor
+class LoadTestSeeder {
+
+    private final CategoryRepository categoryRepository;
+    private final ProductRepository productRepository;
+    private final InventoryRepository inventoryRepository;
+    private final CouponRepository couponRepository;
+
+    SeedData seed(LoadTestSettings settings) {
+        Category category = categoryRepository.save(Category.builder()
+                .name("부하테스트")
+                .sortOrder(1)
+                .build());
+
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < settings.products(); i++) {
+            Product product = Product.builder()
+                    .name("부하테스트 상품 " + i)
+                    .description("부하테스트용 상품")
+                    .basePrice(Money.of(20000))
+                    .sellingPrice(Money.of(18000))
+                    .category(category)
+                    .build();
+            product.activate();
+            products.add(product);
+        }
+        List<Long> productIds = productRepository.saveAll(products).stream()
+                .map(Product::getId)
+                .toList();
+
+        inventoryRepository.saveAll(productIds.stream()
+                .map(productId -> Inventory.builder()
+                        .productId(productId)
+                        .quantity(settings.stockPerProduct())
+                        .build())
+                .toList());
+
+        List<Long> couponIds = new ArrayList<>();
+        for (int i = 0; i < settings.coupons(); i++) {
+            Coupon coupon = Coupon.builder()
+                    .name("부하테스트 쿠폰 " + i)
+                    .type(CouponType.FIXED_AMOUNT)
+                    .discountValue(1000L)
+                    .totalQuantity(settings.users())
+                    .startDate(LocalDate.now().minusDays(1))
+                    .endDate(LocalDate.now().plusDays(1))
+                    .build();
+            coupon.activate();
+            couponIds.add(couponRepository.save(coupon).getId());
+        }
+
+        return new SeedData(productIds, couponIds);
+    }
+
+    record SeedData(List<Long> productIds, List<Long> couponIds) {
+    }
+}
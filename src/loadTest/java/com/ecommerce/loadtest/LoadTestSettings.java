@@ -0,0 +1,23 @@
+package com.ecommerce.loadtest;
+
+// -Dloadtest.users=500 처럼 시스템 프로퍼티로 조정한다 (./gradlew loadTest -Dloadtest.users=500)
+record LoadTestSettings(
+        int users,
+        int products,
+        int stockPerProduct,
+        int itemsPerOrder,
+        int coupons,
+        boolean virtualThreads
+) {
+
+    static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                Integer.getInteger("loadtest.users", 100),
+                Integer.getInteger("loadtest.products", 20),
+                Integer.getInteger("loadtest.stock-per-product", 10),
+                Integer.getInteger("loadtest.items-per-order", 2),
+                Integer.getInteger("loadtest.coupons", 1),
+                Boolean.getBoolean("loadtest.virtual-threads")
+        );
+    }
+}
@@ -0,0 +1,40 @@
+package com.ecommerce.loadtest;
+
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.retry.RetryCallback;
+import org.springframework.retry.RetryContext;
+import org.springframework.retry.RetryListener;
+
+import java.util.concurrent.atomic.LongAdder;
+
+// @EnableRetry는 컨텍스트의 RetryListener 빈을 모든 @Retryable 메서드에 전역으로 등록한다
+class RetryCounter implements RetryListener {
+
+    private final LongAdder lockConflicts = new LongAdder();
+    private final LongAdder exhausted = new LongAdder();
+
+    @Override
+    public <T, E extends Throwable> void onError(RetryContext context, RetryCallback<T, E> callback,
+                                                 Throwable throwable) {
+        if (throwable instanceof ConcurrencyFailureException) {
+            lockConflicts.increment();
+        }
+    }
+
+    @Override
+    public <T, E extends Throwable> void close(RetryContext context, RetryCallback<T, E> callback,
+                                               Throwable throwable) {
+        // 재시도 횟수를 모두 쓰고도 락 충돌로 끝난 호출
+        if (throwable instanceof ConcurrencyFailureException) {
+            exhausted.increment();
+        }
+    }
+
+    long lockConflicts() {
+        return lockConflicts.sum();
+    }
+
+    long exhausted() {
+        return exhausted.sum();
+    }
+}
@@ -1,10 +1,13 @@
 package com.ecommerce.domain.coupon.api;
 
+import com.ecommerce.domain.coupon.application.CouponIssueQueue;
+import com.ecommerce.domain.coupon.application.CouponIssueTicket;
 import com.ecommerce.domain.coupon.application.CouponService;
 import com.ecommerce.domain.coupon.domain.Coupon;
 import com.ecommerce.domain.coupon.domain.MemberCoupon;
 import com.ecommerce.domain.coupon.dto.CouponCreateRequest;
 import com.ecommerce.domain.coupon.dto.CouponIssueRequest;
+import com.ecommerce.domain.coupon.dto.CouponIssueTicketResponse;
 import com.ecommerce.domain.coupon.dto.CouponResponse;
 import com.ecommerce.domain.coupon.dto.MemberCouponResponse;
 import com.ecommerce.global.common.ApiResponse;
@@ -24,6 +27,7 @@ import java.util.List;
 public class CouponController {
 
     private final CouponService couponService;
+    private final CouponIssueQueue couponIssueQueue;
 
     @GetMapping("/available")
     public ResponseEntity<ApiResponse<List<CouponResponse>>> getIssuableCoupons() {
@@ -40,13 +44,38 @@ public class CouponController {
         return ResponseEntity.ok(ApiResponse.ok(CouponResponse.from(coupon)));
     }
 
+    // 선착순 게이트가 켜져 있으면 메모리 판정 결과만 202로 돌려주고, DB 반영은 배치로 처리된다
     @PostMapping("/issue")
-    public ResponseEntity<ApiResponse<MemberCouponResponse>> issueCoupon(
+    public ResponseEntity<ApiResponse<?>> issueCoupon(
             @AuthenticationPrincipal CustomUserDetails userDetails,
             @Valid @RequestBody CouponIssueRequest request) {
+        if (couponService.isIssueGateEnabled()) {
+            couponService.admitThroughGate(userDetails.getMemberId(), request.getCouponId());
+            return ResponseEntity.status(HttpStatus.ACCEPTED)
+                    .body(ApiResponse.ok(CouponIssueTicketResponse.admitted(request.getCouponId())));
+        }
+
         MemberCoupon memberCoupon = couponService.issueCoupon(
                 userDetails.getMemberId(), request.getCouponId());
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(ApiResponse.created(MemberCouponResponse.from(memberCoupon)));
     }
+
+    @PostMapping("/issue/async")
+    public ResponseEntity<ApiResponse<CouponIssueTicketResponse>> issueCouponAsync(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @Valid @RequestBody CouponIssueRequest request) {
+        CouponIssueTicket ticket = couponIssueQueue.submit(
+                userDetails.getMemberId(), request.getCouponId());
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.ok(CouponIssueTicketResponse.from(ticket)));
+    }
+
+    @GetMapping("/issue/tickets/{ticketId}")
+    public ResponseEntity<ApiResponse<CouponIssueTicketResponse>> getIssueTicket(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @PathVariable String ticketId) {
+        CouponIssueTicket ticket = couponIssueQueue.getTicket(userDetails.getMemberId(), ticketId);
+        return ResponseEntity.ok(ApiResponse.ok(CouponIssueTicketResponse.from(ticket)));
+    }
 }
@@ -0,0 +1,10 @@
+package com.ecommerce.domain.coupon.application;
+
+import java.util.List;
+
+public record CouponIssueBatchResult(
+        List<Long> issuedMemberIds,
+        List<Long> duplicatedMemberIds,
+        List<Long> rejectedMemberIds
+) {
+}
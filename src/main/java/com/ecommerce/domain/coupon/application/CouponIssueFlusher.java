@@ -0,0 +1,59 @@
+package com.ecommerce.domain.coupon.application;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CouponIssueFlusher {
+
+    private final CouponIssueGate couponIssueGate;
+    private final CouponService couponService;
+
+    @Value("${coupon.issue-gate.flush-batch-size:500}")
+    private int flushBatchSize;
+
+    @Value("${coupon.issue-gate.flush-max-attempts:5}")
+    private int flushMaxAttempts;
+
+    @Scheduled(fixedDelayString = "${coupon.issue-gate.flush-interval-ms:200}")
+    public void flush() {
+        if (!couponIssueGate.isEnabled()) {
+            return;
+        }
+
+        for (CouponIssueSlot slot : couponIssueGate.getSlots()) {
+            List<Long> memberIds;
+            while (!(memberIds = slot.drain(flushBatchSize)).isEmpty()) {
+                try {
+                    CouponIssueBatchResult result = couponService.issueBatch(slot.getCouponId(), memberIds);
+                    slot.settle(result);
+                    slot.flushed();
+                    if (!result.rejectedMemberIds().isEmpty()) {
+                        log.warn("Coupon sold out before admitted issues were persisted: couponId={}, memberIds={}",
+                                slot.getCouponId(), result.rejectedMemberIds());
+                    }
+                } catch (Exception e) {
+                    if (slot.recordFlushFailure() >= flushMaxAttempts) {
+                        // 같은 배치가 계속 실패하면 이 쿠폰의 뒤 당첨자까지 막히므로 격리하고 수동 반영을 기다린다
+                        slot.deadLetter(memberIds);
+                        log.error("Dead-lettered admitted coupon issues after {} attempts: couponId={}, memberIds={}",
+                                flushMaxAttempts, slot.getCouponId(), memberIds, e);
+                        continue;
+                    }
+                    // 반영 실패 시 다음 주기에 같은 순서로 다시 반영한다
+                    slot.requeue(memberIds);
+                    log.warn("Failed to persist admitted coupon issues: couponId={}, size={}",
+                            slot.getCouponId(), memberIds.size(), e);
+                    break;
+                }
+            }
+        }
+    }
+}
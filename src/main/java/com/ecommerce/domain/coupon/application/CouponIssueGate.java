@@ -0,0 +1,58 @@
+package com.ecommerce.domain.coupon.application;
+
+import com.ecommerce.domain.coupon.domain.Coupon;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+@Component
+public class CouponIssueGate {
+
+    @Getter
+    private final boolean enabled;
+
+    private final ConcurrentMap<Long, CouponIssueSlot> slots = new ConcurrentHashMap<>();
+
+    public CouponIssueGate(@Value("${coupon.issue-gate.enabled:false}") boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public CouponIssueSlot getSlot(Long couponId) {
+        return slots.get(couponId);
+    }
+
+    public CouponIssueSlot open(Coupon coupon, Collection<Long> holderIds) {
+        CouponIssueSlot slot = new CouponIssueSlot(coupon, holderIds);
+        CouponIssueSlot existing = slots.putIfAbsent(coupon.getId(), slot);
+        return existing != null ? existing : slot;
+    }
+
+    public void recordIssued(Long couponId, Long memberId) {
+        CouponIssueSlot slot = slots.get(couponId);
+        if (slot != null) {
+            slot.recordIssued(memberId);
+        }
+    }
+
+    public void activate(Long couponId) {
+        CouponIssueSlot slot = slots.get(couponId);
+        if (slot != null) {
+            slot.activate();
+        }
+    }
+
+    public void deactivate(Long couponId) {
+        CouponIssueSlot slot = slots.get(couponId);
+        if (slot != null) {
+            slot.deactivate();
+        }
+    }
+
+    public Collection<CouponIssueSlot> getSlots() {
+        return slots.values();
+    }
+}
@@ -0,0 +1,181 @@
+package com.ecommerce.domain.coupon.application;
+
+import com.ecommerce.domain.coupon.exception.CouponException;
+import com.ecommerce.global.error.BusinessException;
+import com.ecommerce.global.error.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+public class CouponIssueQueue {
+
+    private final CouponService couponService;
+
+    @Getter
+    private final boolean enabled;
+
+    private final int workerCount;
+    private final int batchSize;
+    private final long ticketTtlMinutes;
+    private final BlockingQueue<CouponIssueTicket> queue;
+    private final ConcurrentMap<String, CouponIssueTicket> tickets = new ConcurrentHashMap<>();
+    private final Counter rejectedCounter;
+    private ExecutorService workers;
+
+    public CouponIssueQueue(CouponService couponService,
+                            MeterRegistry meterRegistry,
+                            @Value("${coupon.issue-queue.enabled:false}") boolean enabled,
+                            @Value("${coupon.issue-queue.capacity:10000}") int capacity,
+                            @Value("${coupon.issue-queue.workers:2}") int workerCount,
+                            @Value("${coupon.issue-queue.batch-size:200}") int batchSize,
+                            @Value("${coupon.issue-queue.ticket-ttl-minutes:30}") long ticketTtlMinutes) {
+        this.couponService = couponService;
+        this.enabled = enabled;
+        this.workerCount = workerCount;
+        this.batchSize = batchSize;
+        this.ticketTtlMinutes = ticketTtlMinutes;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+
+        Gauge.builder("coupon.issue.queue.depth", queue, BlockingQueue::size)
+                .description("발급 대기 중인 쿠폰 요청 수")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("coupon.issue.queue.rejected")
+                .description("대기열 포화로 거절된 쿠폰 발급 요청 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        workers = Executors.newFixedThreadPool(workerCount,
+                Thread.ofPlatform().name("coupon-issue-worker-", 0).daemon(true).factory());
+        for (int i = 0; i < workerCount; i++) {
+            workers.submit(this::runWorker);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (workers != null) {
+            workers.shutdownNow();
+        }
+    }
+
+    public CouponIssueTicket submit(Long memberId, Long couponId) {
+        CouponIssueTicket ticket = new CouponIssueTicket(memberId, couponId);
+
+        if (!enabled) {
+            // 비동기 모드가 꺼져 있으면 즉시 발급(또는 게이트 판정)하고 완료된 티켓을 돌려준다
+            if (couponService.isIssueGateEnabled()) {
+                couponService.admitThroughGate(memberId, couponId);
+                ticket.admitted();
+            } else {
+                couponService.issueCoupon(memberId, couponId);
+                ticket.issued();
+            }
+            tickets.put(ticket.getId(), ticket);
+            return ticket;
+        }
+
+        tickets.put(ticket.getId(), ticket);
+        if (!queue.offer(ticket)) {
+            tickets.remove(ticket.getId());
+            rejectedCounter.increment();
+            throw CouponException.issueQueueFull();
+        }
+        return ticket;
+    }
+
+    public CouponIssueTicket getTicket(Long memberId, String ticketId) {
+        CouponIssueTicket ticket = tickets.get(ticketId);
+        if (ticket == null || !ticket.getMemberId().equals(memberId)) {
+            throw CouponException.ticketNotFound();
+        }
+        return ticket;
+    }
+
+    public int getDepth() {
+        return queue.size();
+    }
+
+    @Scheduled(fixedDelayString = "${coupon.issue-queue.ticket-sweep-interval-ms:60000}")
+    public void evictCompletedTickets() {
+        LocalDateTime threshold = LocalDateTime.now().minusMinutes(ticketTtlMinutes);
+        tickets.values().removeIf(ticket -> ticket.isCompleted() && ticket.getCompletedAt().isBefore(threshold));
+    }
+
+    private void runWorker() {
+        List<CouponIssueTicket> batch = new ArrayList<>(batchSize);
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                batch.add(queue.take());
+                queue.drainTo(batch, batchSize - 1);
+                process(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                log.error("Coupon issue worker failed to process a batch: size={}", batch.size(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    void process(List<CouponIssueTicket> batch) {
+        Map<Long, List<CouponIssueTicket>> ticketsByCoupon = batch.stream()
+                .collect(Collectors.groupingBy(CouponIssueTicket::getCouponId, LinkedHashMap::new, Collectors.toList()));
+        ticketsByCoupon.forEach(this::issue);
+    }
+
+    private void issue(Long couponId, List<CouponIssueTicket> couponTickets) {
+        List<Long> memberIds = couponTickets.stream()
+                .map(CouponIssueTicket::getMemberId)
+                .toList();
+
+        try {
+            CouponIssueBatchResult result = couponService.issueQueuedBatch(couponId, memberIds);
+            Set<Long> issued = new HashSet<>(result.issuedMemberIds());
+            Set<Long> duplicated = new HashSet<>(result.duplicatedMemberIds());
+            for (CouponIssueTicket ticket : couponTickets) {
+                if (issued.remove(ticket.getMemberId())) {
+                    ticket.issued();
+                } else if (duplicated.contains(ticket.getMemberId())) {
+                    ticket.rejected(ErrorCode.COUPON_ALREADY_ISSUED);
+                } else {
+                    ticket.rejected(ErrorCode.COUPON_EXHAUSTED);
+                }
+            }
+        } catch (BusinessException e) {
+            couponTickets.forEach(ticket -> ticket.rejected(e.getErrorCode()));
+        } catch (Exception e) {
+            log.warn("Failed to issue queued coupons: couponId={}, size={}", couponId, couponTickets.size(), e);
+            couponTickets.forEach(CouponIssueTicket::failed);
+        }
+    }
+}
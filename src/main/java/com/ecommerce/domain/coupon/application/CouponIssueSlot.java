@@ -0,0 +1,163 @@
+package com.ecommerce.domain.coupon.application;
+
+import com.ecommerce.domain.coupon.domain.Coupon;
+import com.ecommerce.domain.coupon.exception.CouponException;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Getter
+public class CouponIssueSlot {
+
+    private final Coupon coupon;
+    private final boolean limited;
+    private final AtomicInteger remaining;
+    private final Set<Long> holderIds = ConcurrentHashMap.newKeySet();
+    private final Deque<Long> pendingMemberIds = new ConcurrentLinkedDeque<>();
+    private final Deque<Long> deadLetterMemberIds = new ConcurrentLinkedDeque<>();
+    private volatile boolean active;
+
+    // 반영 스케줄러만 접근한다
+    @Getter(AccessLevel.NONE)
+    private int flushFailures;
+
+    CouponIssueSlot(Coupon coupon, Collection<Long> holderIds) {
+        this.coupon = coupon;
+        this.limited = coupon.getTotalQuantity() != null;
+        this.remaining = new AtomicInteger(coupon.getRemainingQuantity());
+        this.holderIds.addAll(holderIds);
+        this.active = coupon.isActive();
+    }
+
+    public Long getCouponId() {
+        return coupon.getId();
+    }
+
+    public int getRemainingQuantity() {
+        return remaining.get();
+    }
+
+    public boolean isIssuable() {
+        return active && coupon.isWithinPeriod();
+    }
+
+    void admit(Long memberId) {
+        if (!holderIds.add(memberId)) {
+            throw CouponException.alreadyIssued();
+        }
+        if (!take()) {
+            holderIds.remove(memberId);
+            throw CouponException.exhausted();
+        }
+        pendingMemberIds.addLast(memberId);
+    }
+
+    // 게이트 밖에서 발급하는 요청(대기열)도 게이트와 같은 수량을 나눠 쓰도록 DB 반영 전에 슬롯 몫을 먼저 확보한다.
+    // issuedMemberIds는 확보에 성공한 회원이다
+    CouponIssueBatchResult claim(List<Long> memberIds) {
+        List<Long> claimed = new ArrayList<>();
+        List<Long> duplicated = new ArrayList<>();
+        List<Long> exhausted = new ArrayList<>();
+        for (Long memberId : memberIds) {
+            if (!holderIds.add(memberId)) {
+                duplicated.add(memberId);
+            } else if (!take()) {
+                holderIds.remove(memberId);
+                exhausted.add(memberId);
+            } else {
+                claimed.add(memberId);
+            }
+        }
+        return new CouponIssueBatchResult(claimed, duplicated, exhausted);
+    }
+
+    // 확보한 몫을 DB에 반영하지 못했을 때 되돌린다
+    void release(List<Long> memberIds) {
+        for (Long memberId : memberIds) {
+            if (holderIds.remove(memberId) && limited) {
+                remaining.incrementAndGet();
+            }
+        }
+    }
+
+    void recordIssued(Long memberId) {
+        if (holderIds.add(memberId)) {
+            take();
+        }
+    }
+
+    void activate() {
+        this.active = true;
+    }
+
+    void deactivate() {
+        this.active = false;
+    }
+
+    List<Long> drain(int maxSize) {
+        List<Long> memberIds = new ArrayList<>();
+        Long memberId;
+        while (memberIds.size() < maxSize && (memberId = pendingMemberIds.pollFirst()) != null) {
+            memberIds.add(memberId);
+        }
+        return memberIds;
+    }
+
+    void requeue(List<Long> memberIds) {
+        for (int i = memberIds.size() - 1; i >= 0; i--) {
+            pendingMemberIds.addFirst(memberIds.get(i));
+        }
+    }
+
+    void flushed() {
+        flushFailures = 0;
+    }
+
+    int recordFlushFailure() {
+        return ++flushFailures;
+    }
+
+    // 반복해서 반영에 실패한 당첨자는 뒤 당첨자를 막지 않도록 따로 보관한다. 통과 응답을 받았으므로 보유자와 수량은 그대로 둔다
+    void deadLetter(List<Long> memberIds) {
+        deadLetterMemberIds.addAll(memberIds);
+        flushFailures = 0;
+    }
+
+    List<Long> getDeadLetterMemberIds() {
+        return List.copyOf(deadLetterMemberIds);
+    }
+
+    void settle(CouponIssueBatchResult result) {
+        // 이미 DB에 발급 이력이 있던 회원은 수량을 소모하지 않았으므로 되돌린다
+        if (limited) {
+            remaining.addAndGet(result.duplicatedMemberIds().size());
+        }
+        // DB 기준으로 수량이 소진되어 반영하지 못한 회원은 보유자에서 제외한다
+        if (!result.rejectedMemberIds().isEmpty()) {
+            result.rejectedMemberIds().forEach(holderIds::remove);
+            remaining.set(0);
+        }
+    }
+
+    private boolean take() {
+        if (!limited) {
+            return true;
+        }
+        int current;
+        do {
+            current = remaining.get();
+            if (current <= 0) {
+                return false;
+            }
+        } while (!remaining.compareAndSet(current, current - 1));
+        return true;
+    }
+}
@@ -0,0 +1,53 @@
+package com.ecommerce.domain.coupon.application;
+
+import com.ecommerce.global.error.ErrorCode;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Getter
+public class CouponIssueTicket {
+
+    private final String id;
+    private final Long memberId;
+    private final Long couponId;
+    private final LocalDateTime requestedAt;
+    private volatile CouponIssueTicketStatus status = CouponIssueTicketStatus.QUEUED;
+    private volatile ErrorCode errorCode;
+    private volatile LocalDateTime completedAt;
+
+    CouponIssueTicket(Long memberId, Long couponId) {
+        this.id = UUID.randomUUID().toString();
+        this.memberId = memberId;
+        this.couponId = couponId;
+        this.requestedAt = LocalDateTime.now();
+    }
+
+    public boolean isCompleted() {
+        return status != CouponIssueTicketStatus.QUEUED;
+    }
+
+    // 선착순 게이트를 통과해 발급이 확정되었고 DB 반영만 남은 상태
+    void admitted() {
+        complete(CouponIssueTicketStatus.ADMITTED, null);
+    }
+
+    void issued() {
+        complete(CouponIssueTicketStatus.ISSUED, null);
+    }
+
+    void rejected(ErrorCode errorCode) {
+        complete(CouponIssueTicketStatus.REJECTED, errorCode);
+    }
+
+    void failed() {
+        complete(CouponIssueTicketStatus.FAILED, ErrorCode.INTERNAL_SERVER_ERROR);
+    }
+
+    private void complete(CouponIssueTicketStatus status, ErrorCode errorCode) {
+        this.errorCode = errorCode;
+        this.completedAt = LocalDateTime.now();
+        this.status = status;
+    }
+}
@@ -0,0 +1,9 @@
+package com.ecommerce.domain.coupon.application;
+
+public enum CouponIssueTicketStatus {
+    QUEUED,
+    ADMITTED,
+    ISSUED,
+    REJECTED,
+    FAILED
+}
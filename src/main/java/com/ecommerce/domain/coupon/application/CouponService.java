@@ -8,10 +8,16 @@ import com.ecommerce.domain.coupon.domain.MemberCoupon;
 import com.ecommerce.domain.coupon.exception.CouponException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -20,6 +26,7 @@ public class CouponService {
 
     private final CouponRepository couponRepository;
     private final MemberCouponRepository memberCouponRepository;
+    private final CouponIssueGate couponIssueGate;
 
     public List<Coupon> getIssuableCoupons() {
         return couponRepository.findIssuableCoupons(LocalDate.now());
@@ -41,6 +48,10 @@ public class CouponService {
         return memberCouponRepository.findApplicableCoupons(memberId, orderAmount);
     }
 
+    public boolean isIssueGateEnabled() {
+        return couponIssueGate.isEnabled();
+    }
+
     @Transactional
     public MemberCoupon issueCoupon(Long memberId, Long couponId) {
         if (memberCouponRepository.existsByMemberIdAndCouponId(memberId, couponId)) {
@@ -54,8 +65,108 @@ public class CouponService {
             throw CouponException.notAvailable();
         }
 
-        MemberCoupon memberCoupon = MemberCoupon.issue(memberId, coupon);
-        return memberCouponRepository.save(memberCoupon);
+        CouponIssueSlot slot = couponIssueGate.getSlot(couponId);
+        if (slot == null) {
+            MemberCoupon memberCoupon = memberCouponRepository.save(MemberCoupon.issue(memberId, coupon));
+            couponIssueGate.recordIssued(couponId, memberId);
+            return memberCoupon;
+        }
+
+        CouponIssueBatchResult claim = claim(slot, memberId);
+        if (!claim.duplicatedMemberIds().isEmpty()) {
+            throw CouponException.alreadyIssued();
+        }
+        if (!claim.rejectedMemberIds().isEmpty()) {
+            throw CouponException.exhausted();
+        }
+        return memberCouponRepository.save(MemberCoupon.issue(memberId, coupon));
+    }
+
+    // 선착순 판정만 메모리에서 하고 DB 반영은 CouponIssueFlusher가 배치로 처리한다.
+    // 대부분을 차지하는 거절 요청이 커넥션을 잡지 않도록 트랜잭션 밖에서 판정한다 (슬롯을 처음 열 때만 조회)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void admitThroughGate(Long memberId, Long couponId) {
+        CouponIssueSlot slot = couponIssueGate.getSlot(couponId);
+        if (slot == null) {
+            Coupon coupon = getCoupon(couponId);
+            slot = couponIssueGate.open(coupon, memberCouponRepository.findMemberIdsByCouponId(couponId));
+        }
+
+        if (!slot.isIssuable()) {
+            throw CouponException.notAvailable();
+        }
+
+        slot.admit(memberId);
+    }
+
+    @Transactional
+    public CouponIssueBatchResult issueBatch(Long couponId, List<Long> memberIds) {
+        Coupon coupon = couponRepository.findByIdWithLock(couponId)
+                .orElseThrow(CouponException::notFound);
+        return issueBatch(coupon, memberIds);
+    }
+
+    @Transactional
+    public CouponIssueBatchResult issueQueuedBatch(Long couponId, List<Long> memberIds) {
+        Coupon coupon = couponRepository.findByIdWithLock(couponId)
+                .orElseThrow(CouponException::notFound);
+
+        // 게이트와 달리 큐 요청은 접수 시점에 검증하지 않았으므로 여기서 발급 가능 여부를 확인한다
+        if (!coupon.isActive() || !coupon.isWithinPeriod()) {
+            throw CouponException.notAvailable();
+        }
+
+        CouponIssueSlot slot = couponIssueGate.getSlot(couponId);
+        if (slot == null) {
+            CouponIssueBatchResult result = issueBatch(coupon, memberIds);
+            result.issuedMemberIds().forEach(memberId -> couponIssueGate.recordIssued(couponId, memberId));
+            return result;
+        }
+
+        // 게이트가 통과시켰지만 아직 DB에 반영하지 않은 당첨자 몫은 DB 잔여 수량에 그대로 남아 있다.
+        // 슬롯에서 먼저 수량을 확보한 회원만 발급해야 뒤늦게 반영되는 당첨자가 거절되지 않는다
+        CouponIssueBatchResult claim = slot.claim(memberIds);
+        runOnRollback(() -> slot.release(claim.issuedMemberIds()));
+
+        CouponIssueBatchResult result = claim.issuedMemberIds().isEmpty()
+                ? new CouponIssueBatchResult(List.of(), List.of(), List.of())
+                : issueBatch(coupon, claim.issuedMemberIds());
+        slot.settle(result);
+
+        return new CouponIssueBatchResult(
+                result.issuedMemberIds(),
+                concat(claim.duplicatedMemberIds(), result.duplicatedMemberIds()),
+                concat(claim.rejectedMemberIds(), result.rejectedMemberIds())
+        );
+    }
+
+    private CouponIssueBatchResult issueBatch(Coupon coupon, List<Long> memberIds) {
+        Long couponId = coupon.getId();
+        Set<Long> holderIds = new HashSet<>(
+                memberCouponRepository.findMemberIdsByCouponIdAndMemberIdIn(couponId, memberIds));
+        int remaining = coupon.getRemainingQuantity();
+
+        List<MemberCoupon> memberCoupons = new ArrayList<>();
+        List<Long> issued = new ArrayList<>();
+        List<Long> duplicated = new ArrayList<>();
+        List<Long> rejected = new ArrayList<>();
+        for (Long memberId : memberIds) {
+            if (!holderIds.add(memberId)) {
+                duplicated.add(memberId);
+            } else if (memberCoupons.size() >= remaining) {
+                rejected.add(memberId);
+            } else {
+                memberCoupons.add(MemberCoupon.builder()
+                        .memberId(memberId)
+                        .coupon(coupon)
+                        .build());
+                issued.add(memberId);
+            }
+        }
+
+        coupon.issue(memberCoupons.size());
+        memberCouponRepository.saveAll(memberCoupons);
+        return new CouponIssueBatchResult(issued, duplicated, rejected);
     }
 
     @Transactional
@@ -106,6 +217,7 @@ public class CouponService {
         Coupon coupon = couponRepository.findById(couponId)
                 .orElseThrow(CouponException::notFound);
         coupon.deactivate();
+        couponIssueGate.deactivate(couponId);
     }
 
     @Transactional
@@ -113,6 +225,7 @@ public class CouponService {
         Coupon coupon = couponRepository.findById(couponId)
                 .orElseThrow(CouponException::notFound);
         coupon.activate();
+        couponIssueGate.activate(couponId);
     }
 
     @Transactional
@@ -122,9 +235,48 @@ public class CouponService {
         }
 
         couponRepository.findById(couponId).ifPresent(coupon -> {
-            if (coupon.isAvailable()) {
-                MemberCoupon memberCoupon = MemberCoupon.issue(memberId, coupon);
-                memberCouponRepository.save(memberCoupon);
+            if (!coupon.isAvailable()) {
+                return;
+            }
+
+            CouponIssueSlot slot = couponIssueGate.getSlot(couponId);
+            if (slot != null && claim(slot, memberId).issuedMemberIds().isEmpty()) {
+                return;
+            }
+
+            MemberCoupon memberCoupon = MemberCoupon.issue(memberId, coupon);
+            memberCouponRepository.save(memberCoupon);
+            if (slot == null) {
+                couponIssueGate.recordIssued(couponId, memberId);
+            }
+        });
+    }
+
+    // 게이트가 통과시켰지만 아직 DB에 반영하지 않은 당첨자 몫은 DB 잔여 수량에 그대로 남아 있으므로,
+    // 슬롯이 열려 있으면 즉시 발급도 대기열 배치와 같이 슬롯에서 먼저 수량을 확보하고 롤백 시 되돌린다
+    private CouponIssueBatchResult claim(CouponIssueSlot slot, Long memberId) {
+        CouponIssueBatchResult claim = slot.claim(List.of(memberId));
+        runOnRollback(() -> slot.release(claim.issuedMemberIds()));
+        return claim;
+    }
+
+    private static List<Long> concat(List<Long> first, List<Long> second) {
+        List<Long> merged = new ArrayList<>(first);
+        merged.addAll(second);
+        return merged;
+    }
+
+    // 슬롯의 인메모리 수량은 트랜잭션 롤백 대상이 아니므로 롤백 시 직접 되돌린다
+    private void runOnRollback(Runnable compensation) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    compensation.run();
+                }
             }
         });
     }
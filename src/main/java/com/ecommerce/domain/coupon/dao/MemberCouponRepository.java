@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -26,6 +27,13 @@ public interface MemberCouponRepository extends JpaRepository<MemberCoupon, Long
 
     boolean existsByMemberIdAndCouponId(Long memberId, Long couponId);
 
+    @Query("SELECT mc.memberId FROM MemberCoupon mc WHERE mc.coupon.id = :couponId")
+    List<Long> findMemberIdsByCouponId(@Param("couponId") Long couponId);
+
+    @Query("SELECT mc.memberId FROM MemberCoupon mc WHERE mc.coupon.id = :couponId AND mc.memberId IN :memberIds")
+    List<Long> findMemberIdsByCouponIdAndMemberIdIn(@Param("couponId") Long couponId,
+                                                    @Param("memberIds") Collection<Long> memberIds);
+
     @Query("SELECT mc FROM MemberCoupon mc JOIN FETCH mc.coupon " +
             "WHERE mc.memberId = :memberId AND mc.status = 'AVAILABLE' " +
             "AND mc.coupon.minOrderAmount <= :orderAmount " +
@@ -85,8 +85,12 @@ public class Coupon extends BaseTimeEntity {
     }
 
     public boolean isAvailable() {
+        return isActive && isWithinPeriod() && hasRemainingQuantity();
+    }
+
+    public boolean isWithinPeriod() {
         LocalDate today = LocalDate.now();
-        return isActive && !today.isBefore(startDate) && !today.isAfter(endDate) && hasRemainingQuantity();
+        return !today.isBefore(startDate) && !today.isAfter(endDate);
     }
 
     public boolean hasRemainingQuantity() {
@@ -107,6 +111,13 @@ public class Coupon extends BaseTimeEntity {
         this.issuedQuantity++;
     }
 
+    public void issue(int count) {
+        if (count > getRemainingQuantity()) {
+            throw CouponException.quantityExceeded();
+        }
+        this.issuedQuantity += count;
+    }
+
     public void cancelIssue() {
         if (this.issuedQuantity > 0) {
             this.issuedQuantity--;
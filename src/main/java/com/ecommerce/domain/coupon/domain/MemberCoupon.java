@@ -18,7 +18,8 @@ import java.time.LocalDateTime;
 public class MemberCoupon extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "member_coupons_seq")
+    @SequenceGenerator(name = "member_coupons_seq", sequenceName = "member_coupons_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "member_id", nullable = false)
@@ -0,0 +1,42 @@
+package com.ecommerce.domain.coupon.dto;
+
+import com.ecommerce.domain.coupon.application.CouponIssueTicket;
+import com.ecommerce.domain.coupon.application.CouponIssueTicketStatus;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+public class CouponIssueTicketResponse {
+
+    private String ticketId;
+    private Long couponId;
+    private CouponIssueTicketStatus status;
+    private String errorCode;
+    private String errorMessage;
+    private LocalDateTime requestedAt;
+    private LocalDateTime completedAt;
+
+    // 게이트를 통과한 동기 발급 요청: DB 반영 전이므로 발급 쿠폰 id 대신 상태만 돌려준다
+    public static CouponIssueTicketResponse admitted(Long couponId) {
+        return CouponIssueTicketResponse.builder()
+                .couponId(couponId)
+                .status(CouponIssueTicketStatus.ADMITTED)
+                .requestedAt(LocalDateTime.now())
+                .build();
+    }
+
+    public static CouponIssueTicketResponse from(CouponIssueTicket ticket) {
+        return CouponIssueTicketResponse.builder()
+                .ticketId(ticket.getId())
+                .couponId(ticket.getCouponId())
+                .status(ticket.getStatus())
+                .errorCode(ticket.getErrorCode() != null ? ticket.getErrorCode().getCode() : null)
+                .errorMessage(ticket.getErrorCode() != null ? ticket.getErrorCode().getMessage() : null)
+                .requestedAt(ticket.getRequestedAt())
+                .completedAt(ticket.getCompletedAt())
+                .build();
+    }
+}
@@ -25,6 +25,10 @@ public class CouponException extends BusinessException {
         return new CouponException(ErrorCode.COUPON_ALREADY_ISSUED);
     }
 
+    public static CouponException exhausted() {
+        return new CouponException(ErrorCode.COUPON_EXHAUSTED);
+    }
+
     public static CouponException alreadyUsed() {
         return new CouponException(ErrorCode.COUPON_ALREADY_USED);
     }
@@ -44,4 +48,12 @@ public class CouponException extends BusinessException {
     public static CouponException cannotRestore() {
         return new CouponException(ErrorCode.COUPON_CANNOT_RESTORE);
     }
+
+    public static CouponException issueQueueFull() {
+        return new CouponException(ErrorCode.COUPON_ISSUE_QUEUE_FULL);
+    }
+
+    public static CouponException ticketNotFound() {
+        return new CouponException(ErrorCode.COUPON_ISSUE_TICKET_NOT_FOUND);
+    }
 }
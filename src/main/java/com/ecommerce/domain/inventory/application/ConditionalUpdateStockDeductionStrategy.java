@@ -0,0 +1,18 @@
+package com.ecommerce.domain.inventory.application;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "inventory.deduction.strategy", havingValue = "conditional-update")
+public class ConditionalUpdateStockDeductionStrategy implements StockDeductionStrategy {
+
+    private final InventoryService inventoryService;
+
+    @Override
+    public void deduct(Long productId, Long optionId, int quantity, Long orderId) {
+        inventoryService.deductStockAtomically(productId, optionId, quantity, orderId);
+    }
+}
@@ -0,0 +1,158 @@
+package com.ecommerce.domain.inventory.application;
+
+import com.ecommerce.domain.inventory.domain.InventoryKey;
+import com.ecommerce.domain.inventory.exception.InventoryException;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Getter
+public class HotStock {
+
+    private static final long PENDING_BIAS = 1L << 31;
+    private static final long PENDING_MASK = 0xFFFFFFFFL;
+
+    private final InventoryKey key;
+    private final Long inventoryId;
+
+    // 상위 32비트는 가용 수량, 하위 32비트는 DB에 아직 반영되지 않은 가용 수량 변화량이다.
+    // 가용 검사와 차감은 전체 수량에 대한 하나의 CAS여야 초과 판매가 없으므로 LongAdder처럼 나누지 않고,
+    // 두 값을 같은 CAS로 바꿔 정합성 검사가 한 시점의 값을 읽게 한다
+    @Getter(AccessLevel.NONE)
+    private final AtomicLong state;
+    private final Deque<HotStockChange> pendingChanges = new ConcurrentLinkedDeque<>();
+    private final Deque<HotStockChange> deadLetters = new ConcurrentLinkedDeque<>();
+
+    // 동기화 스케줄러만 접근한다 (synchronized(this))
+    @Getter(AccessLevel.NONE)
+    private int flushFailures;
+
+    HotStock(InventoryKey key, Long inventoryId, int available) {
+        this.key = key;
+        this.inventoryId = inventoryId;
+        this.state = new AtomicLong(pack(available, 0));
+    }
+
+    public int getAvailableQuantity() {
+        return availableOf(state.get());
+    }
+
+    void deduct(int quantity, Long orderId) {
+        take(quantity);
+        pendingChanges.addLast(new HotStockChange(HotStockChange.Type.DEDUCT, quantity, orderId));
+    }
+
+    void restore(int quantity, Long orderId) {
+        add(quantity, quantity);
+        pendingChanges.addLast(new HotStockChange(HotStockChange.Type.RESTORE, quantity, orderId));
+    }
+
+    void reserve(int quantity) {
+        take(quantity);
+        pendingChanges.addLast(new HotStockChange(HotStockChange.Type.RESERVE, quantity, null));
+    }
+
+    void confirmReservation(int quantity, Long orderId) {
+        pendingChanges.addLast(new HotStockChange(HotStockChange.Type.CONFIRM_RESERVATION, quantity, orderId));
+    }
+
+    void cancelReservation(int quantity) {
+        add(quantity, quantity);
+        pendingChanges.addLast(new HotStockChange(HotStockChange.Type.CANCEL_RESERVATION, quantity, null));
+    }
+
+    // 입고는 DB에 먼저 반영되므로 반영 대기 변화량에 더하지 않는다
+    void release(int quantity) {
+        add(quantity, 0);
+    }
+
+    List<HotStockChange> drain(int maxSize) {
+        List<HotStockChange> changes = new ArrayList<>();
+        HotStockChange change;
+        while (changes.size() < maxSize && (change = pendingChanges.pollFirst()) != null) {
+            changes.add(change);
+        }
+        return changes;
+    }
+
+    void requeue(List<HotStockChange> changes) {
+        for (int i = changes.size() - 1; i >= 0; i--) {
+            pendingChanges.addFirst(changes.get(i));
+        }
+    }
+
+    void flushed(List<HotStockChange> changes) {
+        add(0, -sumAvailableDelta(changes));
+        flushFailures = 0;
+    }
+
+    int recordFlushFailure() {
+        return ++flushFailures;
+    }
+
+    // 반복해서 반영에 실패한 변경은 뒤 변경을 막지 않도록 따로 보관한다. DB에는 반영되지 않았으므로 대기 변화량에 남긴다
+    void deadLetter(List<HotStockChange> changes) {
+        deadLetters.addAll(changes);
+        flushFailures = 0;
+    }
+
+    List<HotStockChange> getDeadLetters() {
+        return List.copyOf(deadLetters);
+    }
+
+    int pendingAvailableDelta() {
+        return pendingDeltaOf(state.get());
+    }
+
+    Snapshot snapshot() {
+        long current = state.get();
+        return new Snapshot(availableOf(current), pendingDeltaOf(current));
+    }
+
+    private void take(int quantity) {
+        if (quantity < 0) {
+            throw new IllegalArgumentException("차감 수량은 0 이상이어야 합니다.");
+        }
+        long current;
+        do {
+            current = state.get();
+            if (availableOf(current) < quantity) {
+                throw InventoryException.insufficientStock();
+            }
+        } while (!state.compareAndSet(current, pack(availableOf(current) - quantity, pendingDeltaOf(current) - quantity)));
+    }
+
+    private void add(int availableDelta, int pendingDelta) {
+        long current;
+        do {
+            current = state.get();
+        } while (!state.compareAndSet(current,
+                pack(availableOf(current) + availableDelta, pendingDeltaOf(current) + pendingDelta)));
+    }
+
+    private static int sumAvailableDelta(List<HotStockChange> changes) {
+        return changes.stream()
+                .mapToInt(HotStockChange::availableDelta)
+                .sum();
+    }
+
+    private static long pack(int available, int pendingDelta) {
+        return ((long) available << 32) | (pendingDelta + PENDING_BIAS);
+    }
+
+    private static int availableOf(long state) {
+        return (int) (state >> 32);
+    }
+
+    private static int pendingDeltaOf(long state) {
+        return (int) ((state & PENDING_MASK) - PENDING_BIAS);
+    }
+
+    record Snapshot(int available, int pendingDelta) {
+    }
+}
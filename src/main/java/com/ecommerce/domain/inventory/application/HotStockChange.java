@@ -0,0 +1,24 @@
+package com.ecommerce.domain.inventory.application;
+
+public record HotStockChange(
+        Type type,
+        int quantity,
+        Long orderId
+) {
+
+    public enum Type {
+        DEDUCT,
+        RESTORE,
+        RESERVE,
+        CONFIRM_RESERVATION,
+        CANCEL_RESERVATION
+    }
+
+    public int availableDelta() {
+        return switch (type) {
+            case DEDUCT, RESERVE -> -quantity;
+            case CONFIRM_RESERVATION -> 0;
+            case RESTORE, CANCEL_RESERVATION -> quantity;
+        };
+    }
+}
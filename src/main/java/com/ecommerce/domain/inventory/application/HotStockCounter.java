@@ -0,0 +1,79 @@
+package com.ecommerce.domain.inventory.application;
+
+import com.ecommerce.domain.inventory.domain.Inventory;
+import com.ecommerce.domain.inventory.domain.InventoryKey;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+@Component
+public class HotStockCounter {
+
+    @Getter
+    private final boolean enabled;
+
+    @Getter
+    private final Set<Long> hotProductIds;
+
+    private final ConcurrentMap<InventoryKey, HotStock> stocks = new ConcurrentHashMap<>();
+
+    public HotStockCounter(@Value("${inventory.hot-sku.enabled:false}") boolean enabled,
+                           @Value("${inventory.hot-sku.product-ids:}") Set<Long> hotProductIds) {
+        this.enabled = enabled;
+        this.hotProductIds = Set.copyOf(hotProductIds);
+    }
+
+    public boolean isHot(Long productId, Long optionId) {
+        return enabled && stocks.containsKey(InventoryKey.of(productId, optionId));
+    }
+
+    public void load(Inventory inventory) {
+        InventoryKey key = InventoryKey.from(inventory);
+        stocks.put(key, new HotStock(key, inventory.getId(), inventory.getAvailableQuantity()));
+    }
+
+    public int getAvailableQuantity(Long productId, Long optionId) {
+        return get(productId, optionId).getAvailableQuantity();
+    }
+
+    public void deduct(Long productId, Long optionId, int quantity, Long orderId) {
+        get(productId, optionId).deduct(quantity, orderId);
+    }
+
+    public void restore(Long productId, Long optionId, int quantity, Long orderId) {
+        get(productId, optionId).restore(quantity, orderId);
+    }
+
+    public void reserve(Long productId, Long optionId, int quantity) {
+        get(productId, optionId).reserve(quantity);
+    }
+
+    public void confirmReservation(Long productId, Long optionId, int quantity, Long orderId) {
+        get(productId, optionId).confirmReservation(quantity, orderId);
+    }
+
+    public void cancelReservation(Long productId, Long optionId, int quantity) {
+        get(productId, optionId).cancelReservation(quantity);
+    }
+
+    public void release(Long productId, Long optionId, int quantity) {
+        get(productId, optionId).release(quantity);
+    }
+
+    public Collection<HotStock> getStocks() {
+        return stocks.values();
+    }
+
+    private HotStock get(Long productId, Long optionId) {
+        HotStock stock = stocks.get(InventoryKey.of(productId, optionId));
+        if (stock == null) {
+            throw new IllegalStateException("핫 SKU로 적재되지 않은 재고입니다.");
+        }
+        return stock;
+    }
+}
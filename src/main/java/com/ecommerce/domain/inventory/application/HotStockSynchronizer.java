@@ -0,0 +1,129 @@
+package com.ecommerce.domain.inventory.application;
+
+import com.ecommerce.domain.inventory.domain.Inventory;
+import com.ecommerce.domain.inventory.domain.InventoryKey;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HotStockSynchronizer {
+
+    private final HotStockCounter hotStockCounter;
+    private final InventoryService inventoryService;
+
+    @Value("${inventory.hot-sku.flush-batch-size:500}")
+    private int flushBatchSize;
+
+    @Value("${inventory.hot-sku.flush-max-attempts:5}")
+    private int flushMaxAttempts;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadCounters() {
+        if (!hotStockCounter.isEnabled() || hotStockCounter.getHotProductIds().isEmpty()) {
+            return;
+        }
+
+        inventoryService.getInventoriesByProductIds(hotStockCounter.getHotProductIds())
+                .values()
+                .forEach(hotStockCounter::load);
+
+        log.info("Loaded {} hot SKU stock counters", hotStockCounter.getStocks().size());
+    }
+
+    @Scheduled(fixedDelayString = "${inventory.hot-sku.flush-interval-ms:1000}")
+    public void flush() {
+        if (!hotStockCounter.isEnabled()) {
+            return;
+        }
+
+        for (HotStock stock : hotStockCounter.getStocks()) {
+            // 반영과 정합성 검사가 서로의 중간 상태를 보지 않도록 재고 단위로 직렬화한다. 주문 경로는 이 잠금을 쓰지 않는다
+            synchronized (stock) {
+                flushStock(stock);
+            }
+        }
+    }
+
+    private void flushStock(HotStock stock) {
+        List<HotStockChange> changes = stock.drain(flushBatchSize);
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        try {
+            inventoryService.applyHotStockChanges(stock.getInventoryId(), changes);
+            stock.flushed(changes);
+        } catch (Exception e) {
+            if (stock.recordFlushFailure() >= flushMaxAttempts) {
+                // 같은 배치가 계속 실패하면 뒤 변경까지 막히므로 격리하고 수동 반영을 기다린다
+                stock.deadLetter(changes);
+                log.error("Dead-lettered hot stock changes after {} attempts: key={}, changes={}",
+                        flushMaxAttempts, stock.getKey(), changes, e);
+                return;
+            }
+            // 반영 실패 시 다음 주기에 같은 순서로 다시 반영한다
+            stock.requeue(changes);
+            log.warn("Failed to flush hot stock changes: key={}, size={}", stock.getKey(), changes.size(), e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${inventory.hot-sku.reconcile-interval-ms:60000}")
+    public void reconcileScheduled() {
+        if (!hotStockCounter.isEnabled()) {
+            return;
+        }
+
+        List<Discrepancy> discrepancies = reconcile();
+        if (!discrepancies.isEmpty()) {
+            log.warn("Hot stock counters diverged from inventories: {}", discrepancies);
+        }
+
+        for (HotStock stock : hotStockCounter.getStocks()) {
+            List<HotStockChange> deadLetters = stock.getDeadLetters();
+            if (!deadLetters.isEmpty()) {
+                log.warn("Hot stock has {} dead-lettered changes awaiting manual apply: key={}",
+                        deadLetters.size(), stock.getKey());
+            }
+        }
+    }
+
+    public List<Discrepancy> reconcile() {
+        List<Discrepancy> discrepancies = new ArrayList<>();
+
+        for (HotStock stock : hotStockCounter.getStocks()) {
+            InventoryKey key = stock.getKey();
+
+            // 카운터와 반영 대기 변화량은 한 번에 읽고, 반영이 끼어들지 않는 동안 DB를 읽어야 같은 시점을 비교한다
+            synchronized (stock) {
+                HotStock.Snapshot snapshot = stock.snapshot();
+                Inventory inventory = inventoryService.getInventory(key.productId(), key.productOptionId());
+                int expectedQuantity = inventory.getAvailableQuantity() + snapshot.pendingDelta();
+
+                if (expectedQuantity != snapshot.available()) {
+                    discrepancies.add(new Discrepancy(key, snapshot.available(), inventory.getAvailableQuantity(),
+                            snapshot.pendingDelta()));
+                }
+            }
+        }
+
+        return discrepancies;
+    }
+
+    public record Discrepancy(
+            InventoryKey key,
+            int counterQuantity,
+            int persistedQuantity,
+            int pendingDelta
+    ) {
+    }
+}
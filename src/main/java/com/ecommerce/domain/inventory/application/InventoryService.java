@@ -2,15 +2,37 @@ package com.ecommerce.domain.inventory.application;
 
 import com.ecommerce.domain.inventory.dao.InventoryHistoryRepository;
 import com.ecommerce.domain.inventory.dao.InventoryRepository;
+import com.ecommerce.domain.inventory.dao.StockReservationRepository;
 import com.ecommerce.domain.inventory.domain.Inventory;
 import com.ecommerce.domain.inventory.domain.InventoryHistory;
+import com.ecommerce.domain.inventory.domain.InventoryKey;
+import com.ecommerce.domain.inventory.domain.ReservationStatus;
+import com.ecommerce.domain.inventory.domain.StockReservation;
+import com.ecommerce.domain.inventory.dto.InventoryStockRow;
 import com.ecommerce.domain.inventory.exception.InventoryException;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -21,17 +43,38 @@ public class InventoryService {
 
     private final InventoryRepository inventoryRepository;
     private final InventoryHistoryRepository inventoryHistoryRepository;
+    private final HotStockCounter hotStockCounter;
+    private final StockReservationRepository stockReservationRepository;
+    private final EntityManager entityManager;
+
+    @Value("${inventory.reservation.ttl-minutes:15}")
+    private long reservationTtlMinutes;
 
     public int getAvailableQuantity(Long productId, Long optionId) {
+        if (hotStockCounter.isHot(productId, optionId)) {
+            return hotStockCounter.getAvailableQuantity(productId, optionId);
+        }
         Inventory inventory = findInventory(productId, optionId);
         return inventory.getAvailableQuantity();
     }
 
     public boolean hasStock(Long productId, Long optionId, int quantity) {
+        if (hotStockCounter.isHot(productId, optionId)) {
+            return hotStockCounter.getAvailableQuantity(productId, optionId) >= quantity;
+        }
         Inventory inventory = findInventory(productId, optionId);
         return inventory.hasAvailableStock(quantity);
     }
 
+    public Map<InventoryKey, Inventory> getInventoriesByProductIds(Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return Map.of();
+        }
+        return inventoryRepository.findByProductIdIn(productIds)
+                .stream()
+                .collect(Collectors.toMap(InventoryKey::from, Function.identity()));
+    }
+
     @Transactional
     @Retryable(
             retryFor = ObjectOptimisticLockingFailureException.class,
@@ -39,6 +82,11 @@ public class InventoryService {
             backoff = @Backoff(delay = 100, multiplier = 2)
     )
     public void deductStock(Long productId, Long optionId, int quantity, Long orderId) {
+        if (hotStockCounter.isHot(productId, optionId)) {
+            deductHotStock(productId, optionId, quantity, orderId);
+            return;
+        }
+
         Inventory inventory = findInventoryWithLock(productId, optionId);
 
         int beforeQuantity = inventory.getQuantity();
@@ -48,6 +96,87 @@ public class InventoryService {
         inventoryHistoryRepository.save(history);
     }
 
+    @Transactional
+    public void deductStockAtomically(Long productId, Long optionId, int quantity, Long orderId) {
+        if (quantity < 0) {
+            throw new IllegalArgumentException("차감 수량은 0 이상이어야 합니다.");
+        }
+
+        if (hotStockCounter.isHot(productId, optionId)) {
+            deductHotStock(productId, optionId, quantity, orderId);
+            return;
+        }
+
+        // 가용 재고 조건을 포함한 (상품, 옵션) 키의 단일 UPDATE로 차감하여 엔티티 조회와 버전 충돌 재시도를 피한다
+        LocalDateTime now = LocalDateTime.now();
+        int updated = optionId == null
+                ? inventoryRepository.deductIfAvailable(productId, quantity, now)
+                : inventoryRepository.deductIfAvailable(productId, optionId, quantity, now);
+        if (updated == 0) {
+            throw InventoryException.insufficientStock();
+        }
+
+        // 이력의 차감 후 수량은 UPDATE가 잡은 행 잠금 안에서 읽으므로 다른 차감과 섞이지 않는다
+        InventoryStockRow stock = (optionId == null
+                ? inventoryRepository.findStockRow(productId)
+                : inventoryRepository.findStockRow(productId, optionId))
+                .orElseThrow(InventoryException::notFound);
+        detachInventory(stock.id());
+
+        InventoryHistory history = InventoryHistory.createDeductHistory(stock.id(), quantity, stock.quantity(), orderId);
+        inventoryHistoryRepository.save(history);
+    }
+
+    // 결제 확정 트랜잭션에 참여하므로 여기서 재시도하지 않는다. 잠금 실패 시 바깥 트랜잭션이 통째로 재시도한다
+    @Transactional
+    public void deductStocks(List<StockLine> lines, Long orderId) {
+        Map<InventoryKey, Integer> quantities = mergeQuantities(lines);
+        Map<InventoryKey, Integer> persistedQuantities = new TreeMap<>();
+        List<StockLine> hotDeducted = new ArrayList<>();
+
+        try {
+            for (Map.Entry<InventoryKey, Integer> entry : quantities.entrySet()) {
+                InventoryKey key = entry.getKey();
+                if (hotStockCounter.isHot(key.productId(), key.productOptionId())) {
+                    hotStockCounter.deduct(key.productId(), key.productOptionId(), entry.getValue(), orderId);
+                    hotDeducted.add(new StockLine(key.productId(), key.productOptionId(), entry.getValue()));
+                } else {
+                    persistedQuantities.put(key, entry.getValue());
+                }
+            }
+
+            if (!persistedQuantities.isEmpty()) {
+                deductPersistedStocks(persistedQuantities, orderId);
+            }
+        } catch (RuntimeException e) {
+            restoreHotStocks(hotDeducted, orderId);
+            throw e;
+        }
+
+        runOnRollback(() -> restoreHotStocks(hotDeducted, orderId));
+    }
+
+    private void deductPersistedStocks(Map<InventoryKey, Integer> quantities, Long orderId) {
+        Set<Long> productIds = new HashSet<>();
+        quantities.keySet().forEach(key -> productIds.add(key.productId()));
+
+        Map<InventoryKey, Inventory> inventories = inventoryRepository.findByProductIdInWithLock(productIds)
+                .stream()
+                .collect(Collectors.toMap(InventoryKey::from, Function.identity()));
+
+        List<InventoryHistory> histories = new ArrayList<>();
+        for (Map.Entry<InventoryKey, Integer> entry : quantities.entrySet()) {
+            Inventory inventory = inventories.get(entry.getKey());
+            if (inventory == null) {
+                throw InventoryException.notFound();
+            }
+            inventory.deductStock(entry.getValue());
+            histories.add(InventoryHistory.createDeductHistory(inventory, entry.getValue(), orderId));
+        }
+
+        inventoryHistoryRepository.saveAll(histories);
+    }
+
     @Transactional
     @Retryable(
             retryFor = ObjectOptimisticLockingFailureException.class,
@@ -55,6 +184,11 @@ public class InventoryService {
             backoff = @Backoff(delay = 100, multiplier = 2)
     )
     public void restoreStock(Long productId, Long optionId, int quantity, Long orderId) {
+        if (hotStockCounter.isHot(productId, optionId)) {
+            runAfterCommit(() -> hotStockCounter.restore(productId, optionId, quantity, orderId));
+            return;
+        }
+
         Inventory inventory = findInventoryWithLock(productId, optionId);
 
         inventory.restore(quantity);
@@ -76,16 +210,31 @@ public class InventoryService {
 
         InventoryHistory history = InventoryHistory.createInboundHistory(inventory, quantity, reason);
         inventoryHistoryRepository.save(history);
+
+        if (hotStockCounter.isHot(productId, optionId)) {
+            runAfterCommit(() -> hotStockCounter.release(productId, optionId, quantity));
+        }
     }
 
     @Transactional
     public void reserve(Long productId, Long optionId, int quantity) {
+        if (hotStockCounter.isHot(productId, optionId)) {
+            hotStockCounter.reserve(productId, optionId, quantity);
+            runOnRollback(() -> hotStockCounter.cancelReservation(productId, optionId, quantity));
+            return;
+        }
+
         Inventory inventory = findInventoryWithLock(productId, optionId);
         inventory.reserve(quantity);
     }
 
     @Transactional
     public void confirmReservation(Long productId, Long optionId, int quantity, Long orderId) {
+        if (hotStockCounter.isHot(productId, optionId)) {
+            runAfterCommit(() -> hotStockCounter.confirmReservation(productId, optionId, quantity, orderId));
+            return;
+        }
+
         Inventory inventory = findInventoryWithLock(productId, optionId);
         inventory.confirmReservation(quantity);
 
@@ -95,16 +244,171 @@ public class InventoryService {
 
     @Transactional
     public void cancelReservation(Long productId, Long optionId, int quantity) {
+        if (hotStockCounter.isHot(productId, optionId)) {
+            runAfterCommit(() -> hotStockCounter.cancelReservation(productId, optionId, quantity));
+            return;
+        }
+
         Inventory inventory = findInventoryWithLock(productId, optionId);
         inventory.cancelReservation(quantity);
     }
 
+    @Transactional
+    public void reserveForOrder(Long orderId, List<StockLine> lines) {
+        Map<InventoryKey, Integer> quantities = mergeQuantities(lines);
+
+        Set<Long> productIds = new HashSet<>();
+        quantities.keySet().forEach(key -> productIds.add(key.productId()));
+        Map<InventoryKey, Inventory> inventories = getInventoriesByProductIds(productIds);
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiresAt = now.plusMinutes(reservationTtlMinutes);
+        List<StockReservation> reservations = new ArrayList<>();
+        List<StockReservation> hotReservations = new ArrayList<>();
+
+        try {
+            for (Map.Entry<InventoryKey, Integer> entry : quantities.entrySet()) {
+                InventoryKey key = entry.getKey();
+                int quantity = entry.getValue();
+
+                Inventory inventory = inventories.get(key);
+                if (inventory == null) {
+                    throw InventoryException.notFound();
+                }
+
+                StockReservation reservation = StockReservation.builder()
+                        .inventoryId(inventory.getId())
+                        .productId(key.productId())
+                        .productOptionId(key.productOptionId())
+                        .orderId(orderId)
+                        .quantity(quantity)
+                        .expiresAt(expiresAt)
+                        .build();
+
+                if (hotStockCounter.isHot(key.productId(), key.productOptionId())) {
+                    hotStockCounter.reserve(key.productId(), key.productOptionId(), quantity);
+                    hotReservations.add(reservation);
+                } else {
+                    if (inventoryRepository.reserveIfAvailable(inventory.getId(), quantity, now) == 0) {
+                        throw InventoryException.insufficientStock();
+                    }
+                    detachInventory(inventory.getId());
+                }
+
+                reservations.add(reservation);
+            }
+        } catch (RuntimeException e) {
+            cancelHotReservations(hotReservations);
+            throw e;
+        }
+
+        runOnRollback(() -> cancelHotReservations(hotReservations));
+        stockReservationRepository.saveAll(reservations);
+    }
+
+    @Transactional
+    public Set<InventoryKey> confirmReservations(Long orderId) {
+        List<StockReservation> reservations = findActiveReservations(orderId);
+        LocalDateTime now = LocalDateTime.now();
+
+        List<InventoryHistory> histories = new ArrayList<>();
+        Set<InventoryKey> confirmedKeys = new HashSet<>();
+
+        for (StockReservation reservation : reservations) {
+            InventoryKey key = reservation.getKey();
+
+            if (hotStockCounter.isHot(key.productId(), key.productOptionId())) {
+                int quantity = reservation.getQuantity();
+                runAfterCommit(() -> hotStockCounter.confirmReservation(
+                        key.productId(), key.productOptionId(), quantity, orderId));
+            } else {
+                if (inventoryRepository.confirmReserved(reservation.getInventoryId(), reservation.getQuantity(), now) == 0) {
+                    throw new IllegalStateException("확정 수량이 예약 수량보다 많습니다.");
+                }
+                int afterQuantity = inventoryRepository.findQuantityById(reservation.getInventoryId());
+                detachInventory(reservation.getInventoryId());
+                histories.add(InventoryHistory.createDeductHistory(
+                        reservation.getInventoryId(), reservation.getQuantity(), afterQuantity, orderId));
+            }
+
+            reservation.confirm();
+            confirmedKeys.add(key);
+        }
+
+        inventoryHistoryRepository.saveAll(histories);
+        return confirmedKeys;
+    }
+
+    @Transactional
+    public void releaseReservations(Long orderId) {
+        LocalDateTime now = LocalDateTime.now();
+
+        for (StockReservation reservation : findActiveReservations(orderId)) {
+            releaseReservedStock(reservation.getKey(), reservation.getInventoryId(), reservation.getQuantity(), now);
+            reservation.release();
+        }
+    }
+
+    @Transactional
+    public int releaseExpiredReservations(int batchSize) {
+        LocalDateTime now = LocalDateTime.now();
+        List<StockReservation> expired = stockReservationRepository.findExpiredWithLock(
+                ReservationStatus.RESERVED, now, PageRequest.of(0, batchSize));
+
+        if (expired.isEmpty()) {
+            return 0;
+        }
+
+        Map<InventoryKey, Long> inventoryIds = new TreeMap<>();
+        Map<InventoryKey, Integer> quantities = new TreeMap<>();
+        for (StockReservation reservation : expired) {
+            inventoryIds.put(reservation.getKey(), reservation.getInventoryId());
+            quantities.merge(reservation.getKey(), reservation.getQuantity(), Integer::sum);
+        }
+
+        quantities.forEach((key, quantity) -> releaseReservedStock(key, inventoryIds.get(key), quantity, now));
+
+        List<Long> reservationIds = expired.stream()
+                .map(StockReservation::getId)
+                .toList();
+        stockReservationRepository.updateStatus(reservationIds, ReservationStatus.EXPIRED, now);
+        return expired.size();
+    }
+
+    @Transactional
+    public void applyHotStockChanges(Long inventoryId, List<HotStockChange> changes) {
+        Inventory inventory = inventoryRepository.findById(inventoryId)
+                .orElseThrow(InventoryException::notFound);
+
+        List<InventoryHistory> histories = new ArrayList<>();
+        for (HotStockChange change : changes) {
+            switch (change.type()) {
+                case DEDUCT -> {
+                    inventory.deductStock(change.quantity());
+                    histories.add(InventoryHistory.createDeductHistory(inventory, change.quantity(), change.orderId()));
+                }
+                case RESTORE -> {
+                    inventory.restore(change.quantity());
+                    histories.add(InventoryHistory.createRestoreHistory(inventory, change.quantity(), change.orderId()));
+                }
+                case RESERVE -> inventory.reserve(change.quantity());
+                case CONFIRM_RESERVATION -> {
+                    inventory.confirmReservation(change.quantity());
+                    histories.add(InventoryHistory.createDeductHistory(inventory, change.quantity(), change.orderId()));
+                }
+                case CANCEL_RESERVATION -> inventory.cancelReservation(change.quantity());
+            }
+        }
+
+        inventoryHistoryRepository.saveAll(histories);
+    }
+
     // Admin API methods
     public Inventory getInventory(Long productId, Long optionId) {
         return findInventory(productId, optionId);
     }
 
-    public java.util.List<Inventory> getInventoriesByProductId(Long productId) {
+    public List<Inventory> getInventoriesByProductId(Long productId) {
         return inventoryRepository.findByProductId(productId);
     }
 
@@ -123,6 +427,87 @@ public class InventoryService {
         return inventoryHistoryRepository.findByInventoryIdOrderByCreatedAtDesc(inventoryId, pageable);
     }
 
+    private List<StockReservation> findActiveReservations(Long orderId) {
+        return stockReservationRepository.findByOrderIdAndStatusWithLock(orderId, ReservationStatus.RESERVED)
+                .stream()
+                .sorted(Comparator.comparing(StockReservation::getKey))
+                .toList();
+    }
+
+    private void releaseReservedStock(InventoryKey key, Long inventoryId, int quantity, LocalDateTime now) {
+        if (hotStockCounter.isHot(key.productId(), key.productOptionId())) {
+            runAfterCommit(() -> hotStockCounter.cancelReservation(key.productId(), key.productOptionId(), quantity));
+            return;
+        }
+        if (inventoryRepository.releaseReserved(inventoryId, quantity, now) == 0) {
+            throw new IllegalStateException("취소 수량이 예약 수량보다 많습니다.");
+        }
+        detachInventory(inventoryId);
+    }
+
+    // 차감은 가용 수량 검사와 함께 즉시 반영해야 하므로 먼저 반영하고 롤백되면 되돌린다
+    private void deductHotStock(Long productId, Long optionId, int quantity, Long orderId) {
+        hotStockCounter.deduct(productId, optionId, quantity, orderId);
+        runOnRollback(() -> hotStockCounter.restore(productId, optionId, quantity, orderId));
+    }
+
+    private void cancelHotReservations(List<StockReservation> reservations) {
+        for (StockReservation reservation : reservations) {
+            hotStockCounter.cancelReservation(reservation.getProductId(), reservation.getProductOptionId(),
+                    reservation.getQuantity());
+        }
+    }
+
+    private void restoreHotStocks(List<StockLine> lines, Long orderId) {
+        for (StockLine line : lines) {
+            hotStockCounter.restore(line.productId(), line.productOptionId(), line.quantity(), orderId);
+        }
+    }
+
+    private Map<InventoryKey, Integer> mergeQuantities(List<StockLine> lines) {
+        Map<InventoryKey, Integer> quantities = new TreeMap<>();
+        for (StockLine line : lines) {
+            quantities.merge(line.key(), line.quantity(), Integer::sum);
+        }
+        return quantities;
+    }
+
+    // 인메모리 카운터는 트랜잭션 롤백 대상이 아니므로 가용 수량을 늘리거나 예약을 확정하는 변경은 커밋된 뒤에만 반영한다.
+    // 롤백된 트랜잭션이 재시도되어도 확정·해제가 두 번 큐에 쌓이지 않는다
+    private void runAfterCommit(Runnable change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            change.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                change.run();
+            }
+        });
+    }
+
+    // 인메모리 카운터는 트랜잭션 롤백 대상이 아니므로 롤백 시 직접 되돌린다
+    private void runOnRollback(Runnable compensation) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    compensation.run();
+                }
+            }
+        });
+    }
+
+    // 벌크 UPDATE 전에 같은 트랜잭션에서 읽어 둔 재고 엔티티는 옛 수량과 버전을 들고 있으므로 분리해 다음 조회가 DB에서 읽게 한다.
+    // 로드되지 않은 행이면 getReference는 SQL 없이 프록시만 만든다
+    private void detachInventory(Long inventoryId) {
+        entityManager.detach(entityManager.getReference(Inventory.class, inventoryId));
+    }
+
     private Inventory findInventory(Long productId, Long optionId) {
         if (optionId == null) {
             return inventoryRepository.findByProductIdAndProductOptionIdIsNull(productId)
@@ -0,0 +1,25 @@
+package com.ecommerce.domain.inventory.application;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "inventory.deduction.strategy", havingValue = "optimistic", matchIfMissing = true)
+public class OptimisticStockDeductionStrategy implements StockDeductionStrategy {
+
+    private final InventoryService inventoryService;
+
+    @Override
+    public void deduct(Long productId, Long optionId, int quantity, Long orderId) {
+        inventoryService.deductStock(productId, optionId, quantity, orderId);
+    }
+
+    @Override
+    public void deductAll(List<StockLine> lines, Long orderId) {
+        inventoryService.deductStocks(lines, orderId);
+    }
+}
@@ -0,0 +1,15 @@
+package com.ecommerce.domain.inventory.application;
+
+import java.util.Comparator;
+import java.util.List;
+
+public interface StockDeductionStrategy {
+
+    void deduct(Long productId, Long optionId, int quantity, Long orderId);
+
+    default void deductAll(List<StockLine> lines, Long orderId) {
+        lines.stream()
+                .sorted(Comparator.comparing(StockLine::key))
+                .forEach(line -> deduct(line.productId(), line.productOptionId(), line.quantity(), orderId));
+    }
+}
@@ -0,0 +1,14 @@
+package com.ecommerce.domain.inventory.application;
+
+import com.ecommerce.domain.inventory.domain.InventoryKey;
+
+public record StockLine(
+        Long productId,
+        Long productOptionId,
+        int quantity
+) {
+
+    public InventoryKey key() {
+        return InventoryKey.of(productId, productOptionId);
+    }
+}
@@ -0,0 +1,36 @@
+package com.ecommerce.domain.inventory.application;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StockReservationSweeper {
+
+    private final InventoryService inventoryService;
+
+    @Value("${inventory.reservation.sweep-batch-size:500}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${inventory.reservation.sweep-interval-ms:60000}")
+    public void releaseExpiredReservations() {
+        try {
+            int total = 0;
+            int released;
+            do {
+                released = inventoryService.releaseExpiredReservations(batchSize);
+                total += released;
+            } while (released == batchSize);
+
+            if (total > 0) {
+                log.info("Released {} expired stock reservations", total);
+            }
+        } catch (Exception e) {
+            log.error("Failed to release expired stock reservations", e);
+        }
+    }
+}
@@ -1,12 +1,16 @@
 package com.ecommerce.domain.inventory.dao;
 
 import com.ecommerce.domain.inventory.domain.Inventory;
+import com.ecommerce.domain.inventory.dto.InventoryStockRow;
 import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -26,4 +30,65 @@ public interface InventoryRepository extends JpaRepository<Inventory, Long> {
                                                             @Param("optionId") Long optionId);
 
     List<Inventory> findByProductId(Long productId);
+
+    @Query("SELECT i FROM Inventory i WHERE i.productId IN :productIds")
+    List<Inventory> findByProductIdIn(@Param("productIds") Collection<Long> productIds);
+
+    // 교착 상태를 피하기 위해 항상 (상품, 옵션) 순서로 잠근다
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT i FROM Inventory i WHERE i.productId IN :productIds ORDER BY i.productId, i.productOptionId")
+    List<Inventory> findByProductIdInWithLock(@Param("productIds") Collection<Long> productIds);
+
+    // 아래 벌크 UPDATE는 영속성 컨텍스트를 거치지 않는다. clearAutomatically는 같은 트랜잭션의 주문·결제 엔티티까지
+    // 분리해 이후 변경을 잃게 하므로, 서비스에서 갱신한 재고 엔티티만 분리한다
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Inventory i SET i.quantity = i.quantity - :quantity, i.version = i.version + 1, " +
+           "i.updatedAt = :now WHERE i.productId = :productId AND i.productOptionId IS NULL " +
+           "AND i.quantity - i.reservedQuantity >= :quantity")
+    int deductIfAvailable(@Param("productId") Long productId,
+                          @Param("quantity") int quantity,
+                          @Param("now") LocalDateTime now);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Inventory i SET i.quantity = i.quantity - :quantity, i.version = i.version + 1, " +
+           "i.updatedAt = :now WHERE i.productId = :productId AND i.productOptionId = :optionId " +
+           "AND i.quantity - i.reservedQuantity >= :quantity")
+    int deductIfAvailable(@Param("productId") Long productId,
+                          @Param("optionId") Long optionId,
+                          @Param("quantity") int quantity,
+                          @Param("now") LocalDateTime now);
+
+    @Query("SELECT new com.ecommerce.domain.inventory.dto.InventoryStockRow(i.id, i.quantity) " +
+           "FROM Inventory i WHERE i.productId = :productId AND i.productOptionId IS NULL")
+    Optional<InventoryStockRow> findStockRow(@Param("productId") Long productId);
+
+    @Query("SELECT new com.ecommerce.domain.inventory.dto.InventoryStockRow(i.id, i.quantity) " +
+           "FROM Inventory i WHERE i.productId = :productId AND i.productOptionId = :optionId")
+    Optional<InventoryStockRow> findStockRow(@Param("productId") Long productId,
+                                             @Param("optionId") Long optionId);
+
+    @Query("SELECT i.quantity FROM Inventory i WHERE i.id = :id")
+    int findQuantityById(@Param("id") Long id);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Inventory i SET i.reservedQuantity = i.reservedQuantity + :quantity, i.version = i.version + 1, " +
+           "i.updatedAt = :now WHERE i.id = :id AND i.quantity - i.reservedQuantity >= :quantity")
+    int reserveIfAvailable(@Param("id") Long id,
+                           @Param("quantity") int quantity,
+                           @Param("now") LocalDateTime now);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Inventory i SET i.quantity = i.quantity - :quantity, " +
+           "i.reservedQuantity = i.reservedQuantity - :quantity, i.version = i.version + 1, " +
+           "i.updatedAt = :now WHERE i.id = :id AND i.reservedQuantity >= :quantity")
+    int confirmReserved(@Param("id") Long id,
+                        @Param("quantity") int quantity,
+                        @Param("now") LocalDateTime now);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Inventory i SET i.reservedQuantity = i.reservedQuantity - :quantity, i.version = i.version + 1, " +
+           "i.updatedAt = :now WHERE i.id = :id AND i.reservedQuantity >= :quantity")
+    int releaseReserved(@Param("id") Long id,
+                        @Param("quantity") int quantity,
+                        @Param("now") LocalDateTime now);
 }
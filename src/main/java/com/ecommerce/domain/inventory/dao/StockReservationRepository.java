@@ -0,0 +1,39 @@
+package com.ecommerce.domain.inventory.dao;
+
+import com.ecommerce.domain.inventory.domain.ReservationStatus;
+import com.ecommerce.domain.inventory.domain.StockReservation;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface StockReservationRepository extends JpaRepository<StockReservation, Long> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM StockReservation r WHERE r.orderId = :orderId AND r.status = :status")
+    List<StockReservation> findByOrderIdAndStatusWithLock(@Param("orderId") Long orderId,
+                                                          @Param("status") ReservationStatus status);
+
+    // 다른 인스턴스의 스위퍼가 잡고 있는 행은 건너뛴다 (SKIP LOCKED)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT r FROM StockReservation r WHERE r.status = :status AND r.expiresAt < :now ORDER BY r.id")
+    List<StockReservation> findExpiredWithLock(@Param("status") ReservationStatus status,
+                                               @Param("now") LocalDateTime now,
+                                               Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE StockReservation r SET r.status = :status, r.updatedAt = :now WHERE r.id IN :ids")
+    int updateStatus(@Param("ids") Collection<Long> ids,
+                     @Param("status") ReservationStatus status,
+                     @Param("now") LocalDateTime now);
+}
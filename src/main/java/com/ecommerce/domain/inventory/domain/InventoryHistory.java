@@ -14,7 +14,8 @@ import lombok.NoArgsConstructor;
 public class InventoryHistory extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "inventory_histories_seq")
+    @SequenceGenerator(name = "inventory_histories_seq", sequenceName = "inventory_histories_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -61,6 +62,19 @@ public class InventoryHistory extends BaseTimeEntity {
                 .build();
     }
 
+    public static InventoryHistory createDeductHistory(Long inventoryId, int quantity, int afterQuantity,
+                                                       Long orderId) {
+        return InventoryHistory.builder()
+                .inventoryId(inventoryId)
+                .changeType(InventoryChangeType.DEDUCT)
+                .changeQuantity(quantity)
+                .beforeQuantity(afterQuantity + quantity)
+                .afterQuantity(afterQuantity)
+                .orderId(orderId)
+                .reason("주문으로 인한 재고 차감")
+                .build();
+    }
+
     public static InventoryHistory createRestoreHistory(Inventory inventory, int quantity, Long orderId) {
         return InventoryHistory.builder()
                 .inventoryId(inventory.getId())
@@ -0,0 +1,26 @@
+package com.ecommerce.domain.inventory.domain;
+
+import java.util.Comparator;
+
+public record InventoryKey(
+        Long productId,
+        Long productOptionId
+) implements Comparable<InventoryKey> {
+
+    private static final Comparator<InventoryKey> ORDER = Comparator
+            .comparing(InventoryKey::productId)
+            .thenComparing(InventoryKey::productOptionId, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+    public static InventoryKey of(Long productId, Long productOptionId) {
+        return new InventoryKey(productId, productOptionId);
+    }
+
+    public static InventoryKey from(Inventory inventory) {
+        return new InventoryKey(inventory.getProductId(), inventory.getProductOptionId());
+    }
+
+    @Override
+    public int compareTo(InventoryKey other) {
+        return ORDER.compare(this, other);
+    }
+}
@@ -0,0 +1,8 @@
+package com.ecommerce.domain.inventory.domain;
+
+public enum ReservationStatus {
+    RESERVED,
+    CONFIRMED,
+    RELEASED,
+    EXPIRED
+}
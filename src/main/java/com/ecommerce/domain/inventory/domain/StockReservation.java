@@ -0,0 +1,82 @@
+package com.ecommerce.domain.inventory.domain;
+
+import com.ecommerce.domain.model.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "stock_reservations", indexes = {
+        @Index(name = "idx_stock_reservations_order_id", columnList = "order_id"),
+        @Index(name = "idx_stock_reservations_status_expires_at", columnList = "status, expires_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StockReservation extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "stock_reservations_seq")
+    @SequenceGenerator(name = "stock_reservations_seq", sequenceName = "stock_reservations_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long inventoryId;
+
+    @Column(nullable = false)
+    private Long productId;
+
+    private Long productOptionId;
+
+    @Column(nullable = false)
+    private Long orderId;
+
+    @Column(nullable = false)
+    private int quantity;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ReservationStatus status = ReservationStatus.RESERVED;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Builder
+    public StockReservation(Long inventoryId, Long productId, Long productOptionId, Long orderId,
+                            int quantity, LocalDateTime expiresAt) {
+        this.inventoryId = inventoryId;
+        this.productId = productId;
+        this.productOptionId = productOptionId;
+        this.orderId = orderId;
+        this.quantity = quantity;
+        this.expiresAt = expiresAt;
+        this.status = ReservationStatus.RESERVED;
+    }
+
+    public InventoryKey getKey() {
+        return InventoryKey.of(productId, productOptionId);
+    }
+
+    public void confirm() {
+        validateReserved();
+        this.status = ReservationStatus.CONFIRMED;
+    }
+
+    public void release() {
+        validateReserved();
+        this.status = ReservationStatus.RELEASED;
+    }
+
+    public boolean isExpired() {
+        return LocalDateTime.now().isAfter(expiresAt);
+    }
+
+    private void validateReserved() {
+        if (this.status != ReservationStatus.RESERVED) {
+            throw new IllegalStateException("예약 상태가 아닌 재고 예약입니다.");
+        }
+    }
+}
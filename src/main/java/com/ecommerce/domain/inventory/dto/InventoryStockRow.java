@@ -0,0 +1,7 @@
+package com.ecommerce.domain.inventory.dto;
+
+public record InventoryStockRow(
+        Long id,
+        int quantity
+) {
+}
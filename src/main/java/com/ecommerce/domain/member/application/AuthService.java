@@ -1,10 +1,9 @@
 package com.ecommerce.domain.member.application;
 
 import com.ecommerce.domain.member.dao.MemberRepository;
-import com.ecommerce.domain.member.dao.RefreshTokenRepository;
 import com.ecommerce.domain.member.domain.Member;
-import com.ecommerce.domain.member.domain.RefreshToken;
 import com.ecommerce.domain.member.dto.LoginRequest;
+import com.ecommerce.domain.member.dto.RefreshTokenRow;
 import com.ecommerce.domain.member.dto.TokenResponse;
 import com.ecommerce.domain.member.exception.MemberException;
 import com.ecommerce.global.security.JwtTokenProvider;
@@ -12,6 +11,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
@@ -22,15 +22,24 @@ import java.time.LocalDateTime;
 public class AuthService {
 
     private final MemberRepository memberRepository;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenStore refreshTokenStore;
     private final JwtTokenProvider jwtTokenProvider;
     private final PasswordEncoder passwordEncoder;
+    private final LoginTransactionService loginTransactionService;
+    private final LoginRateLimiter loginRateLimiter;
+    private final LoginFailureCounter loginFailureCounter;
+    private final PasswordRehasher passwordRehasher;
 
     @Value("${jwt.refresh-token-validity}")
     private long refreshTokenValidity;
 
-    @Transactional
-    public TokenResponse login(LoginRequest request) {
+    // 해시 대기 동안 커넥션을 붙잡지 않도록 조회와 갱신만 짧은 트랜잭션으로 나눈다
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public TokenResponse login(LoginRequest request, String clientIp) {
+        if (!loginRateLimiter.tryAcquire(request.getEmail(), clientIp)) {
+            throw MemberException.tooManyLoginAttempts();
+        }
+
         Member member = memberRepository.findByEmail(request.getEmail())
                 .orElseThrow(MemberException::notFound);
 
@@ -39,68 +48,55 @@ public class AuthService {
         }
 
         if (!passwordEncoder.matches(request.getPassword(), member.getPassword())) {
-            member.recordLoginFailure();
+            int failures = loginFailureCounter.increment(member.getEmail());
+            if (failures >= member.getRemainingAttemptsBeforeLock()) {
+                int drained = loginFailureCounter.drain(member.getEmail());
+                if (drained > 0) {
+                    loginTransactionService.recordFailures(member.getId(), drained);
+                }
+            }
             throw MemberException.invalidPassword();
         }
 
-        member.recordLoginSuccess();
-        return createTokenResponse(member);
+        loginFailureCounter.reset(member.getEmail());
+        TokenResponse response = loginTransactionService.issueTokens(member.getId());
+        passwordRehasher.rehashAsync(member.getId(), request.getPassword(), member.getPassword());
+        return response;
     }
 
+    // JWT 파싱 1회, 토큰 해시 인덱스 조회 최대 1회(캐시 적중 시 0회)와 조건부 교체 UPDATE 1회로 끝난다
     @Transactional
     public TokenResponse refresh(String refreshTokenValue) {
-        if (!jwtTokenProvider.validateToken(refreshTokenValue)) {
-            throw MemberException.invalidRefreshToken();
-        }
-
-        if (!jwtTokenProvider.isRefreshToken(refreshTokenValue)) {
+        if (!jwtTokenProvider.isValidRefreshToken(refreshTokenValue)) {
             throw MemberException.invalidRefreshToken();
         }
 
-        RefreshToken refreshToken = refreshTokenRepository.findByToken(refreshTokenValue)
+        String tokenHash = RefreshTokenStore.hash(refreshTokenValue);
+        RefreshTokenRow refreshToken = refreshTokenStore.find(tokenHash)
                 .orElseThrow(MemberException::invalidRefreshToken);
 
-        if (refreshToken.isExpired()) {
-            refreshTokenRepository.delete(refreshToken);
+        if (refreshToken.isExpired(LocalDateTime.now())) {
+            refreshTokenStore.revoke(tokenHash);
             throw MemberException.invalidRefreshToken();
         }
 
-        Long memberId = jwtTokenProvider.getMemberId(refreshTokenValue);
-        Member member = memberRepository.findById(memberId)
-                .orElseThrow(MemberException::notFound);
-
-        if (!member.isActive()) {
+        if (!refreshToken.isMemberActive()) {
             throw MemberException.accountLocked();
         }
 
-        String newAccessToken = jwtTokenProvider.createAccessToken(member.getId(), member.getEmail());
-        String newRefreshToken = jwtTokenProvider.createRefreshToken(member.getId(), member.getEmail());
+        String newAccessToken = jwtTokenProvider.createAccessToken(refreshToken.memberId(), refreshToken.email());
+        String newRefreshToken = jwtTokenProvider.createRefreshToken(refreshToken.memberId(), refreshToken.email());
 
         LocalDateTime expiresAt = LocalDateTime.now().plusSeconds(refreshTokenValidity / 1000);
-        refreshToken.updateToken(newRefreshToken, expiresAt);
+        if (!refreshTokenStore.rotate(tokenHash, refreshToken, newRefreshToken, expiresAt)) {
+            throw MemberException.invalidRefreshToken();
+        }
 
         return TokenResponse.of(newAccessToken, newRefreshToken, jwtTokenProvider.getAccessTokenValidity());
     }
 
     @Transactional
     public void logout(Long memberId) {
-        refreshTokenRepository.deleteByMemberId(memberId);
-    }
-
-    private TokenResponse createTokenResponse(Member member) {
-        String accessToken = jwtTokenProvider.createAccessToken(member.getId(), member.getEmail());
-        String refreshTokenValue = jwtTokenProvider.createRefreshToken(member.getId(), member.getEmail());
-
-        LocalDateTime expiresAt = LocalDateTime.now().plusSeconds(refreshTokenValidity / 1000);
-
-        refreshTokenRepository.findByMemberId(member.getId())
-                .ifPresentOrElse(
-                        token -> token.updateToken(refreshTokenValue, expiresAt),
-                        () -> refreshTokenRepository.save(
-                                new RefreshToken(member.getId(), refreshTokenValue, expiresAt)
-                        )
-                );
-
-        return TokenResponse.of(accessToken, refreshTokenValue, jwtTokenProvider.getAccessTokenValidity());
+        refreshTokenStore.revokeAll(memberId);
     }
 }
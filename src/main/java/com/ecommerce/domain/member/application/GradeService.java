@@ -3,6 +3,7 @@ package com.ecommerce.domain.member.application;
 import com.ecommerce.domain.member.dao.MemberRepository;
 import com.ecommerce.domain.member.domain.Member;
 import com.ecommerce.domain.member.domain.MemberGrade;
+import com.ecommerce.domain.member.dto.MemberSnapshot;
 import com.ecommerce.domain.member.exception.MemberException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -19,18 +20,16 @@ public class GradeService {
 
     private final MemberRepository memberRepository;
     private final GradeBenefitProvider gradeBenefitProvider;
+    private final MemberSnapshotReader memberSnapshotReader;
 
     public MemberGrade getMemberGrade(Long memberId) {
-        Member member = memberRepository.findById(memberId)
-                .orElseThrow(MemberException::notFound);
-        return member.getGrade();
+        return memberSnapshotReader.getSnapshot(memberId).grade();
     }
 
     public GradeBenefitProvider.GradeBenefit getGradeBenefits(Long memberId) {
-        Member member = memberRepository.findById(memberId)
-                .orElseThrow(MemberException::notFound);
+        MemberSnapshot member = memberSnapshotReader.getSnapshot(memberId);
         return gradeBenefitProvider.getBenefitsWithProgress(
-                member.getGrade(), member.getTotalPurchaseAmount());
+                member.grade(), member.totalPurchaseAmount());
     }
 
     @Transactional
@@ -79,21 +78,19 @@ public class GradeService {
     }
 
     public boolean isEligibleForUpgrade(Long memberId) {
-        Member member = memberRepository.findById(memberId)
-                .orElseThrow(MemberException::notFound);
+        MemberSnapshot member = memberSnapshotReader.getSnapshot(memberId);
 
-        MemberGrade currentGrade = member.getGrade();
-        MemberGrade calculatedGrade = MemberGrade.calculateGrade(member.getTotalPurchaseAmount());
+        MemberGrade currentGrade = member.grade();
+        MemberGrade calculatedGrade = MemberGrade.calculateGrade(member.totalPurchaseAmount());
 
         return calculatedGrade.ordinal() > currentGrade.ordinal();
     }
 
     public long getAmountToNextGrade(Long memberId) {
-        Member member = memberRepository.findById(memberId)
-                .orElseThrow(MemberException::notFound);
+        MemberSnapshot member = memberSnapshotReader.getSnapshot(memberId);
 
         GradeBenefitProvider.GradeBenefit benefits = gradeBenefitProvider.getBenefitsWithProgress(
-                member.getGrade(), member.getTotalPurchaseAmount());
+                member.grade(), member.totalPurchaseAmount());
 
         return benefits.amountToNextGrade() != null ? benefits.amountToNextGrade() : 0L;
     }
@@ -0,0 +1,44 @@
+package com.ecommerce.domain.member.application;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 로그인 실패 횟수를 메모리에서 센다. 실패마다 members 행을 갱신하지 않고 잠금 기준에 도달할 때만 DB에 반영한다
+@Component
+public class LoginFailureCounter {
+
+    private final Cache<String, AtomicInteger> failures;
+
+    public LoginFailureCounter(@Value("${auth.login.failure-window-minutes:30}") long failureWindowMinutes,
+                               @Value("${auth.login.rate-limit.maximum-keys:100000}") long maximumKeys) {
+        this.failures = Caffeine.newBuilder()
+                .maximumSize(maximumKeys)
+                .expireAfterWrite(Duration.ofMinutes(failureWindowMinutes))
+                .build();
+    }
+
+    public int increment(String email) {
+        return failures.get(key(email), ignored -> new AtomicInteger()).incrementAndGet();
+    }
+
+    // 누적 실패 수를 0으로 바꾸며 가져간다. 동시에 잠금 기준에 도달한 요청 중 먼저 가져간 쪽만 0이 아닌 값을 받으므로
+    // 같은 실패가 두 번 반영되지 않는다
+    public int drain(String email) {
+        AtomicInteger count = failures.getIfPresent(key(email));
+        return count == null ? 0 : count.getAndSet(0);
+    }
+
+    public void reset(String email) {
+        failures.invalidate(key(email));
+    }
+
+    private String key(String email) {
+        return email.toLowerCase(Locale.ROOT);
+    }
+}
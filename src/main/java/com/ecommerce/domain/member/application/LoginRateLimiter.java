@@ -0,0 +1,96 @@
+package com.ecommerce.domain.member.application;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Locale;
+import java.util.function.LongSupplier;
+
+// 이메일/클라이언트 IP별 슬라이딩 윈도로 로그인 시도를 제한한다.
+// 비밀번호 해시와 DB 조회보다 먼저 검사해 크리덴셜 스터핑 중에도 BCrypt 비용이 들지 않게 한다
+@Component
+public class LoginRateLimiter {
+
+    private final Cache<String, SlidingWindow> windows;
+    private final int maxAttemptsPerEmail;
+    private final int maxAttemptsPerIp;
+    private final long windowMillis;
+    private final LongSupplier clock;
+
+    private final Counter emailRejections;
+    private final Counter ipRejections;
+
+    @Autowired
+    public LoginRateLimiter(MeterRegistry meterRegistry,
+                            @Value("${auth.login.rate-limit.max-attempts-per-email:10}") int maxAttemptsPerEmail,
+                            @Value("${auth.login.rate-limit.max-attempts-per-ip:30}") int maxAttemptsPerIp,
+                            @Value("${auth.login.rate-limit.window-seconds:60}") long windowSeconds,
+                            @Value("${auth.login.rate-limit.maximum-keys:100000}") long maximumKeys) {
+        this(meterRegistry, maxAttemptsPerEmail, maxAttemptsPerIp, windowSeconds, maximumKeys,
+                System::currentTimeMillis);
+    }
+
+    LoginRateLimiter(MeterRegistry meterRegistry, int maxAttemptsPerEmail, int maxAttemptsPerIp,
+                     long windowSeconds, long maximumKeys, LongSupplier clock) {
+        this.maxAttemptsPerEmail = maxAttemptsPerEmail;
+        this.maxAttemptsPerIp = maxAttemptsPerIp;
+        this.windowMillis = Duration.ofSeconds(windowSeconds).toMillis();
+        this.clock = clock;
+        // 윈도 동안 시도가 없던 키는 비어 있는 것과 같으므로 접근 기준으로 만료시킨다
+        this.windows = Caffeine.newBuilder()
+                .maximumSize(maximumKeys)
+                .expireAfterAccess(Duration.ofSeconds(windowSeconds))
+                .build();
+
+        this.emailRejections = Counter.builder("auth.login.rate-limited")
+                .tag("key", "email")
+                .description("시도 횟수 제한으로 거절된 로그인 요청 수")
+                .register(meterRegistry);
+        this.ipRejections = Counter.builder("auth.login.rate-limited")
+                .tag("key", "ip")
+                .description("시도 횟수 제한으로 거절된 로그인 요청 수")
+                .register(meterRegistry);
+    }
+
+    public boolean tryAcquire(String email, String clientIp) {
+        long now = clock.getAsLong();
+
+        if (clientIp != null && !window("ip:" + clientIp).tryAcquire(now, windowMillis, maxAttemptsPerIp)) {
+            ipRejections.increment();
+            return false;
+        }
+        if (!window("email:" + email.toLowerCase(Locale.ROOT)).tryAcquire(now, windowMillis, maxAttemptsPerEmail)) {
+            emailRejections.increment();
+            return false;
+        }
+        return true;
+    }
+
+    private SlidingWindow window(String key) {
+        return windows.get(key, ignored -> new SlidingWindow());
+    }
+
+    // 윈도 안의 시도 시각만 보관하므로 키당 메모리는 허용 횟수를 넘지 않는다
+    private static class SlidingWindow {
+
+        private final ArrayDeque<Long> attempts = new ArrayDeque<>();
+
+        synchronized boolean tryAcquire(long now, long windowMillis, int maxAttempts) {
+            while (!attempts.isEmpty() && attempts.peekFirst() <= now - windowMillis) {
+                attempts.pollFirst();
+            }
+            if (attempts.size() >= maxAttempts) {
+                return false;
+            }
+            attempts.addLast(now);
+            return true;
+        }
+    }
+}
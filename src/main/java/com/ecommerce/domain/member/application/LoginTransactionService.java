@@ -0,0 +1,54 @@
+package com.ecommerce.domain.member.application;
+
+import com.ecommerce.domain.member.dao.MemberRepository;
+import com.ecommerce.domain.member.domain.Member;
+import com.ecommerce.domain.member.dto.TokenResponse;
+import com.ecommerce.domain.member.exception.MemberException;
+import com.ecommerce.global.security.JwtTokenProvider;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+// 로그인의 DB 단계만 담당한다. 비밀번호 해시는 이 트랜잭션 밖에서 커넥션 없이 수행된다
+@Service
+@RequiredArgsConstructor
+public class LoginTransactionService {
+
+    private final MemberRepository memberRepository;
+    private final RefreshTokenStore refreshTokenStore;
+    private final JwtTokenProvider jwtTokenProvider;
+
+    @Value("${jwt.refresh-token-validity}")
+    private long refreshTokenValidity;
+
+    @Transactional
+    public void recordFailures(Long memberId, int failures) {
+        Member member = memberRepository.findById(memberId)
+                .orElseThrow(MemberException::notFound);
+        member.recordLoginFailures(failures);
+    }
+
+    @Transactional
+    public TokenResponse issueTokens(Long memberId) {
+        Member member = memberRepository.findById(memberId)
+                .orElseThrow(MemberException::notFound);
+
+        // 잠금 기간이 지났으면 여기서 활성 상태로 되돌려 저장되고, 그 사이 잠겼다면 거절한다
+        if (member.isLocked()) {
+            throw MemberException.accountLocked();
+        }
+        member.recordLoginSuccess();
+
+        String accessToken = jwtTokenProvider.createAccessToken(member.getId(), member.getEmail());
+        String refreshTokenValue = jwtTokenProvider.createRefreshToken(member.getId(), member.getEmail());
+
+        LocalDateTime expiresAt = LocalDateTime.now().plusSeconds(refreshTokenValidity / 1000);
+
+        refreshTokenStore.save(member.getId(), member.getEmail(), refreshTokenValue, expiresAt);
+
+        return TokenResponse.of(accessToken, refreshTokenValue, jwtTokenProvider.getAccessTokenValidity());
+    }
+}
@@ -0,0 +1,47 @@
+package com.ecommerce.domain.member.application;
+
+import com.ecommerce.domain.member.domain.Member;
+import com.ecommerce.global.config.CacheNames;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 정보 수정, 탈퇴, 로그인 실패 잠금, 구매액/등급 반영 등 회원 행이 갱신되면 스냅샷을 비운다
+@Component
+@RequiredArgsConstructor
+public class MemberCacheEvictionListener {
+
+    private final CacheManager cacheManager;
+
+    @PostUpdate
+    @PostRemove
+    public void onChange(Member member) {
+        evictAfterCommit(member.getId());
+    }
+
+    private void evictAfterCommit(Long memberId) {
+        // 커밋 전에 비우면 동시 조회가 변경 전 값을 다시 캐시할 수 있으므로 커밋 이후에 비운다
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(memberId);
+                }
+            });
+            return;
+        }
+        evict(memberId);
+    }
+
+    void evict(Long memberId) {
+        Cache cache = cacheManager.getCache(CacheNames.MEMBER);
+        if (cache != null) {
+            cache.evict(memberId);
+        }
+    }
+}
@@ -24,6 +24,7 @@ public class MemberService {
 
     private final MemberRepository memberRepository;
     private final PasswordEncoder passwordEncoder;
+    private final MemberSnapshotReader memberSnapshotReader;
 
     @Transactional
     public MemberResponse signup(SignupRequest request) {
@@ -42,8 +43,7 @@ public class MemberService {
     }
 
     public MemberResponse getMember(Long memberId) {
-        Member member = findMemberById(memberId);
-        return MemberResponse.from(member);
+        return MemberResponse.from(memberSnapshotReader.getSnapshot(memberId));
     }
 
     @Transactional
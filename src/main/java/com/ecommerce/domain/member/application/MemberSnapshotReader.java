@@ -0,0 +1,27 @@
+package com.ecommerce.domain.member.application;
+
+import com.ecommerce.domain.member.dao.MemberRepository;
+import com.ecommerce.domain.member.dto.MemberSnapshot;
+import com.ecommerce.domain.member.exception.MemberException;
+import com.ecommerce.global.config.CacheNames;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+// 등급/회원 정보 조회가 요청마다 members를 반복해서 읽지 않도록 스냅샷을 캐시한다.
+// 회원 행이 바뀌면 MemberCacheEvictionListener가 커밋 이후에 비운다
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class MemberSnapshotReader {
+
+    private final MemberRepository memberRepository;
+
+    @Cacheable(cacheNames = CacheNames.MEMBER, key = "#memberId")
+    public MemberSnapshot getSnapshot(Long memberId) {
+        return memberRepository.findById(memberId)
+                .map(MemberSnapshot::from)
+                .orElseThrow(MemberException::notFound);
+    }
+}
@@ -0,0 +1,87 @@
+package com.ecommerce.domain.member.application;
+
+import com.ecommerce.domain.member.dao.MemberRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+// 로그인에 성공한 비밀번호의 해시가 현재 설정(알고리즘/비용)보다 약하면 응답 이후 백그라운드에서 다시 해시한다.
+// 강제 비밀번호 재설정 없이 해시 비용을 조정할 수 있다
+@Slf4j
+@Component
+public class PasswordRehasher {
+
+    private final PasswordEncoder passwordEncoder;
+    private final MemberRepository memberRepository;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+
+    private final Counter rehashed;
+    private final Counter skipped;
+    private final Counter failed;
+
+    public PasswordRehasher(PasswordEncoder passwordEncoder, MemberRepository memberRepository,
+                            MeterRegistry meterRegistry) {
+        this.passwordEncoder = passwordEncoder;
+        this.memberRepository = memberRepository;
+        this.rehashed = resultCounter(meterRegistry, "rehashed");
+        this.skipped = resultCounter(meterRegistry, "skipped");
+        this.failed = resultCounter(meterRegistry, "failed");
+    }
+
+    public void rehashAsync(Long memberId, String rawPassword, String currentHash) {
+        if (!passwordEncoder.upgradeEncoding(currentHash) || !inFlight.add(memberId)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    rehash(memberId, rawPassword, currentHash);
+                } finally {
+                    inFlight.remove(memberId);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(memberId);
+        }
+    }
+
+    // 해시 풀이 포화되어 거절되면 다음 로그인에서 다시 시도된다
+    void rehash(Long memberId, String rawPassword, String currentHash) {
+        try {
+            String newHash = passwordEncoder.encode(rawPassword);
+            int updated = memberRepository.updatePasswordIfUnchanged(
+                    memberId, currentHash, newHash, LocalDateTime.now());
+            if (updated == 1) {
+                rehashed.increment();
+            } else {
+                skipped.increment();
+            }
+        } catch (Exception e) {
+            failed.increment();
+            log.warn("Failed to rehash password: memberId={}", memberId, e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private static Counter resultCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("auth.password.rehash")
+                .tag("result", result)
+                .description("로그인 후 비밀번호 재해시 결과")
+                .register(meterRegistry);
+    }
+}
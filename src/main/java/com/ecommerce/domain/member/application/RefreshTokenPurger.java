@@ -0,0 +1,41 @@
+package com.ecommerce.domain.member.application;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenPurger {
+
+    private final RefreshTokenStore refreshTokenStore;
+
+    @Value("${auth.refresh-token.purge-batch-size:1000}")
+    private int batchSize;
+
+    @Value("${auth.refresh-token.purge-max-batches:100}")
+    private int maxBatches;
+
+    @Scheduled(fixedDelayString = "${auth.refresh-token.purge-interval-ms:600000}")
+    public void purgeExpiredTokens() {
+        try {
+            int total = 0;
+            int batches = 0;
+            int purged;
+            do {
+                purged = refreshTokenStore.purgeExpired(batchSize);
+                total += purged;
+                batches++;
+            } while (purged == batchSize && batches < maxBatches);
+
+            if (total > 0) {
+                log.info("Purged {} expired refresh tokens in {} batches", total, batches);
+            }
+        } catch (Exception e) {
+            log.error("Failed to purge expired refresh tokens", e);
+        }
+    }
+}
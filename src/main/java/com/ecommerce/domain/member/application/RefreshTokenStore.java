@@ -0,0 +1,123 @@
+package com.ecommerce.domain.member.application;
+
+import com.ecommerce.domain.member.dao.RefreshTokenRepository;
+import com.ecommerce.domain.member.domain.MemberStatus;
+import com.ecommerce.domain.member.domain.RefreshToken;
+import com.ecommerce.domain.member.dto.RefreshTokenRow;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+
+// 리프레시 토큰은 SHA-256 해시로만 조회/저장한다.
+// 활성 토큰 해시를 메모리에 두어 갱신 요청이 조회 없이 조건부 UPDATE 한 번으로 끝나게 한다.
+// 캐시는 가속용일 뿐이고, 교체/폐기 여부는 항상 UPDATE 조건(현재 해시, 만료, 회원 상태)이 최종 판단한다
+@Component
+public class RefreshTokenStore {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final Cache<String, RefreshTokenRow> activeTokens;
+
+    public RefreshTokenStore(RefreshTokenRepository refreshTokenRepository,
+                             MeterRegistry meterRegistry,
+                             @Value("${auth.refresh-token.cache.maximum-size:100000}") long maximumSize,
+                             @Value("${auth.refresh-token.cache.ttl-minutes:60}") long ttlMinutes) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.activeTokens = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, activeTokens, "refresh-tokens");
+    }
+
+    public static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다", e);
+        }
+    }
+
+    // 캐시에 없을 때만 토큰 해시 인덱스로 한 번 조회한다
+    public Optional<RefreshTokenRow> find(String tokenHash) {
+        RefreshTokenRow cached = activeTokens.getIfPresent(tokenHash);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        Optional<RefreshTokenRow> row = refreshTokenRepository.findRowByTokenHash(tokenHash);
+        row.filter(RefreshTokenRow::isMemberActive)
+                .filter(r -> !r.isExpired(LocalDateTime.now()))
+                .ifPresent(r -> activeTokens.put(tokenHash, r));
+        return row;
+    }
+
+    // 회원당 토큰 한 행을 유지한다 (로그인 시 기존 토큰은 무효화)
+    @Transactional
+    public void save(Long memberId, String email, String token, LocalDateTime expiresAt) {
+        String tokenHash = hash(token);
+        RefreshToken refreshToken = refreshTokenRepository.findByMemberId(memberId)
+                .map(existing -> {
+                    activeTokens.invalidate(existing.getTokenHash());
+                    existing.updateToken(tokenHash, expiresAt);
+                    return existing;
+                })
+                .orElseGet(() -> refreshTokenRepository.save(new RefreshToken(memberId, tokenHash, expiresAt)));
+
+        activeTokens.put(tokenHash, new RefreshTokenRow(
+                refreshToken.getId(), memberId, email, MemberStatus.ACTIVE, expiresAt));
+    }
+
+    @Transactional
+    public boolean rotate(String currentTokenHash, RefreshTokenRow row, String newToken, LocalDateTime expiresAt) {
+        activeTokens.invalidate(currentTokenHash);
+
+        String newTokenHash = hash(newToken);
+        int updated = refreshTokenRepository.rotate(row.id(), currentTokenHash, newTokenHash, expiresAt,
+                LocalDateTime.now(), MemberStatus.ACTIVE);
+        if (updated == 0) {
+            return false;
+        }
+
+        activeTokens.put(newTokenHash, row.withExpiresAt(expiresAt));
+        return true;
+    }
+
+    @Transactional
+    public void revoke(String tokenHash) {
+        activeTokens.invalidate(tokenHash);
+        refreshTokenRepository.deleteByTokenHash(tokenHash);
+    }
+
+    // 캐시에 남은 해시는 DB 행이 없어 교체 UPDATE에서 거절되므로 따로 지우지 않는다
+    @Transactional
+    public void revokeAll(Long memberId) {
+        refreshTokenRepository.deleteByMemberId(memberId);
+    }
+
+    // 만료 행을 인덱스 순서로 최대 batchSize건씩 지워 삭제 잠금과 언두 로그를 짧게 유지한다
+    @Transactional
+    public int purgeExpired(int batchSize) {
+        List<Long> ids = refreshTokenRepository.findExpiredIds(LocalDateTime.now(), PageRequest.of(0, batchSize));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return refreshTokenRepository.deleteByIdIn(ids);
+    }
+}
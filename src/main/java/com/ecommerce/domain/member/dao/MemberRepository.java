@@ -3,8 +3,10 @@ package com.ecommerce.domain.member.dao;
 import com.ecommerce.domain.member.domain.Member;
 import com.ecommerce.domain.member.domain.MemberStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -26,4 +28,14 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
 
     @Query("SELECT m FROM Member m WHERE m.status = 'ACTIVE'")
     List<Member> findByStatusActive();
+
+    // 재해시하는 동안 비밀번호가 바뀌었으면 갱신하지 않는다
+    @Transactional
+    @Modifying
+    @Query("UPDATE Member m SET m.password = :newPassword, m.updatedAt = :now " +
+           "WHERE m.id = :id AND m.password = :currentPassword")
+    int updatePasswordIfUnchanged(@Param("id") Long id,
+                                  @Param("currentPassword") String currentPassword,
+                                  @Param("newPassword") String newPassword,
+                                  @Param("now") LocalDateTime now);
 }
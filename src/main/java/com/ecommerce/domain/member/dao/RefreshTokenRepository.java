@@ -1,23 +1,49 @@
 package com.ecommerce.domain.member.dao;
 
+import com.ecommerce.domain.member.domain.MemberStatus;
 import com.ecommerce.domain.member.domain.RefreshToken;
+import com.ecommerce.domain.member.dto.RefreshTokenRow;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
 
-    Optional<RefreshToken> findByToken(String token);
+    @Query("SELECT new com.ecommerce.domain.member.dto.RefreshTokenRow(r.id, r.memberId, m.email, m.status, r.expiresAt) " +
+            "FROM RefreshToken r JOIN Member m ON m.id = r.memberId " +
+            "WHERE r.tokenHash = :tokenHash")
+    Optional<RefreshTokenRow> findRowByTokenHash(@Param("tokenHash") String tokenHash);
 
     Optional<RefreshToken> findByMemberId(Long memberId);
 
     void deleteByMemberId(Long memberId);
 
     @Modifying
-    @Query("DELETE FROM RefreshToken r WHERE r.expiresAt < :now")
-    int deleteExpiredTokens(@Param("now") LocalDateTime now);
+    @Query("DELETE FROM RefreshToken r WHERE r.tokenHash = :tokenHash")
+    int deleteByTokenHash(@Param("tokenHash") String tokenHash);
+
+    // 현재 해시와 일치하고 회원이 활성일 때만 교체한다. 0이면 이미 교체/폐기된 토큰이다
+    @Modifying
+    @Query("UPDATE RefreshToken r SET r.tokenHash = :newTokenHash, r.expiresAt = :expiresAt " +
+            "WHERE r.id = :id AND r.tokenHash = :currentTokenHash AND r.expiresAt > :now " +
+            "AND EXISTS (SELECT 1 FROM Member m WHERE m.id = r.memberId AND m.status = :activeStatus)")
+    int rotate(@Param("id") Long id,
+               @Param("currentTokenHash") String currentTokenHash,
+               @Param("newTokenHash") String newTokenHash,
+               @Param("expiresAt") LocalDateTime expiresAt,
+               @Param("now") LocalDateTime now,
+               @Param("activeStatus") MemberStatus activeStatus);
+
+    @Query("SELECT r.id FROM RefreshToken r WHERE r.expiresAt < :now ORDER BY r.expiresAt")
+    List<Long> findExpiredIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM RefreshToken r WHERE r.id IN :ids")
+    int deleteByIdIn(@Param("ids") List<Long> ids);
 }
@@ -81,7 +81,12 @@ public class Member extends BaseTimeEntity {
     }
 
     public void recordLoginFailure() {
-        this.failedLoginCount++;
+        recordLoginFailures(1);
+    }
+
+    // 메모리에 모아 둔 실패 횟수를 잠금 기준에 도달했을 때 한 번에 반영한다
+    public void recordLoginFailures(int count) {
+        this.failedLoginCount += count;
         if (this.failedLoginCount >= MAX_LOGIN_ATTEMPTS) {
             int lockMinutes = calculateLockMinutes();
             this.lockedUntil = LocalDateTime.now().plusMinutes(lockMinutes);
@@ -99,6 +104,10 @@ public class Member extends BaseTimeEntity {
         };
     }
 
+    public int getRemainingAttemptsBeforeLock() {
+        return MAX_LOGIN_ATTEMPTS - this.failedLoginCount % MAX_LOGIN_ATTEMPTS;
+    }
+
     public boolean isLocked() {
         if (this.status != MemberStatus.LOCKED) {
             return false;
@@ -7,8 +7,12 @@ import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 
+// 토큰 원문 대신 SHA-256 해시(hex 64자)만 저장한다. 고정 길이 키라 인덱스가 작고, DB가 유출돼도 토큰을 재사용할 수 없다
 @Entity
-@Table(name = "refresh_tokens")
+@Table(name = "refresh_tokens", indexes = {
+        @Index(name = "idx_refresh_tokens_member_id", columnList = "member_id"),
+        @Index(name = "idx_refresh_tokens_expires_at", columnList = "expires_at")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class RefreshToken {
@@ -20,8 +24,8 @@ public class RefreshToken {
     @Column(nullable = false)
     private Long memberId;
 
-    @Column(nullable = false, unique = true, length = 500)
-    private String token;
+    @Column(nullable = false, unique = true, length = 64)
+    private String tokenHash;
 
     @Column(nullable = false)
     private LocalDateTime expiresAt;
@@ -29,9 +33,9 @@ public class RefreshToken {
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
-    public RefreshToken(Long memberId, String token, LocalDateTime expiresAt) {
+    public RefreshToken(Long memberId, String tokenHash, LocalDateTime expiresAt) {
         this.memberId = memberId;
-        this.token = token;
+        this.tokenHash = tokenHash;
         this.expiresAt = expiresAt;
         this.createdAt = LocalDateTime.now();
     }
@@ -40,8 +44,8 @@ public class RefreshToken {
         return LocalDateTime.now().isAfter(expiresAt);
     }
 
-    public void updateToken(String newToken, LocalDateTime newExpiresAt) {
-        this.token = newToken;
+    public void updateToken(String newTokenHash, LocalDateTime newExpiresAt) {
+        this.tokenHash = newTokenHash;
         this.expiresAt = newExpiresAt;
     }
 }
@@ -30,4 +30,16 @@ public class MemberResponse {
                 .createdAt(member.getCreatedAt())
                 .build();
     }
+
+    public static MemberResponse from(MemberSnapshot snapshot) {
+        return MemberResponse.builder()
+                .id(snapshot.id())
+                .email(snapshot.email())
+                .name(snapshot.name())
+                .phoneNumber(snapshot.phoneNumber())
+                .grade(snapshot.grade())
+                .totalPurchaseAmount(snapshot.totalPurchaseAmount())
+                .createdAt(snapshot.createdAt())
+                .build();
+    }
 }
@@ -0,0 +1,33 @@
+package com.ecommerce.domain.member.dto;
+
+import com.ecommerce.domain.member.domain.Member;
+import com.ecommerce.domain.member.domain.MemberGrade;
+import com.ecommerce.domain.member.domain.MemberStatus;
+
+import java.time.LocalDateTime;
+
+// 조회 전용 회원 스냅샷: 비밀번호와 로그인 잠금 정보는 담지 않는다
+public record MemberSnapshot(
+        Long id,
+        String email,
+        String name,
+        String phoneNumber,
+        MemberGrade grade,
+        MemberStatus status,
+        long totalPurchaseAmount,
+        LocalDateTime createdAt
+) {
+
+    public static MemberSnapshot from(Member member) {
+        return new MemberSnapshot(
+                member.getId(),
+                member.getEmail(),
+                member.getName(),
+                member.getPhoneNumber(),
+                member.getGrade(),
+                member.getStatus(),
+                member.getTotalPurchaseAmount(),
+                member.getCreatedAt()
+        );
+    }
+}
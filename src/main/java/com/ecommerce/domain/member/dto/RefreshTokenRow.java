@@ -0,0 +1,27 @@
+package com.ecommerce.domain.member.dto;
+
+import com.ecommerce.domain.member.domain.MemberStatus;
+
+import java.time.LocalDateTime;
+
+// 토큰 갱신 전용 프로젝션: 토큰 해시 인덱스 한 번으로 회원 이메일/상태까지 읽는다
+public record RefreshTokenRow(
+        Long id,
+        Long memberId,
+        String email,
+        MemberStatus memberStatus,
+        LocalDateTime expiresAt
+) {
+
+    public boolean isExpired(LocalDateTime now) {
+        return now.isAfter(expiresAt);
+    }
+
+    public boolean isMemberActive() {
+        return memberStatus == MemberStatus.ACTIVE;
+    }
+
+    public RefreshTokenRow withExpiresAt(LocalDateTime newExpiresAt) {
+        return new RefreshTokenRow(id, memberId, email, memberStatus, newExpiresAt);
+    }
+}
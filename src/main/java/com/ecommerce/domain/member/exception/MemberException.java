@@ -29,6 +29,10 @@ public class MemberException extends BusinessException {
         return new MemberException(ErrorCode.INVALID_PASSWORD);
     }
 
+    public static MemberException tooManyLoginAttempts() {
+        return new MemberException(ErrorCode.TOO_MANY_LOGIN_ATTEMPTS);
+    }
+
     public static MemberException invalidRefreshToken() {
         return new MemberException(ErrorCode.INVALID_REFRESH_TOKEN);
     }
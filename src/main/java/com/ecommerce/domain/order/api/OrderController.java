@@ -4,6 +4,7 @@ import com.ecommerce.domain.order.application.OrderService;
 import com.ecommerce.domain.order.dto.OrderCreateRequest;
 import com.ecommerce.domain.order.dto.OrderResponse;
 import com.ecommerce.global.common.ApiResponse;
+import com.ecommerce.global.common.CursorResponse;
 import com.ecommerce.global.common.PageResponse;
 import com.ecommerce.global.security.CustomUserDetails;
 import jakarta.validation.Valid;
@@ -54,6 +55,16 @@ public class OrderController {
         return ResponseEntity.ok(ApiResponse.ok(response));
     }
 
+    @GetMapping("/cursor")
+    public ResponseEntity<ApiResponse<CursorResponse<OrderResponse>>> getOrdersByCursor(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        CursorResponse<OrderResponse> response = orderService.getOrdersByCursor(
+                userDetails.getMemberId(), cursor, size);
+        return ResponseEntity.ok(ApiResponse.ok(response));
+    }
+
     @PostMapping("/{orderId}/cancel")
     public ResponseEntity<ApiResponse<OrderResponse>> cancelOrder(
             @AuthenticationPrincipal CustomUserDetails userDetails,
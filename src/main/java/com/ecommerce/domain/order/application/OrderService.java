@@ -1,7 +1,13 @@
 package com.ecommerce.domain.order.application;
 
 import com.ecommerce.domain.inventory.application.InventoryService;
+import com.ecommerce.domain.inventory.application.StockDeductionStrategy;
+import com.ecommerce.domain.inventory.application.StockLine;
+import com.ecommerce.domain.inventory.domain.Inventory;
+import com.ecommerce.domain.inventory.domain.InventoryKey;
+import com.ecommerce.domain.inventory.exception.InventoryException;
 import com.ecommerce.domain.model.Money;
+import com.ecommerce.domain.order.dao.OrderItemRepository;
 import com.ecommerce.domain.order.dao.OrderRepository;
 import com.ecommerce.domain.order.domain.Order;
 import com.ecommerce.domain.order.domain.OrderItem;
@@ -12,14 +18,22 @@ import com.ecommerce.domain.order.exception.OrderException;
 import com.ecommerce.domain.product.application.ProductService;
 import com.ecommerce.domain.product.domain.Product;
 import com.ecommerce.domain.product.domain.ProductOption;
+import com.ecommerce.domain.product.exception.ProductException;
+import com.ecommerce.global.common.CursorResponse;
+import com.ecommerce.global.common.PageCursor;
 import com.ecommerce.global.common.PageResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -27,8 +41,10 @@ import java.util.List;
 public class OrderService {
 
     private final OrderRepository orderRepository;
+    private final OrderItemRepository orderItemRepository;
     private final ProductService productService;
     private final InventoryService inventoryService;
+    private final StockDeductionStrategy stockDeductionStrategy;
 
     @Transactional
     public OrderResponse createOrder(Long memberId, OrderCreateRequest request) {
@@ -40,15 +56,31 @@ public class OrderService {
                 .couponId(request.getCouponId())
                 .build();
 
-        for (OrderItemRequest itemRequest : request.getItems()) {
-            Product product = productService.findByIdWithOptions(itemRequest.getProductId());
+        List<OrderItemRequest> itemRequests = request.getItems();
+        Set<Long> productIds = itemRequests.stream()
+                .map(OrderItemRequest::getProductId)
+                .collect(Collectors.toSet());
+
+        Map<Long, Product> products = productService.findAllByIdsWithOptions(productIds);
+        Map<InventoryKey, Inventory> inventories = inventoryService.getInventoriesByProductIds(productIds);
+
+        for (OrderItemRequest itemRequest : itemRequests) {
+            Product product = products.get(itemRequest.getProductId());
+            if (product == null) {
+                throw ProductException.notFound();
+            }
 
             if (!product.isPurchasable()) {
                 throw OrderException.invalidStatus();
             }
 
-            if (!inventoryService.hasStock(itemRequest.getProductId(),
-                    itemRequest.getProductOptionId(), itemRequest.getQuantity())) {
+            Inventory inventory = inventories.get(
+                    InventoryKey.of(itemRequest.getProductId(), itemRequest.getProductOptionId()));
+            if (inventory == null) {
+                throw InventoryException.notFound();
+            }
+
+            if (!inventory.hasAvailableStock(itemRequest.getQuantity())) {
                 throw OrderException.invalidStatus();
             }
 
@@ -77,6 +109,7 @@ public class OrderService {
         }
 
         Order savedOrder = orderRepository.save(order);
+        inventoryService.reserveForOrder(savedOrder.getId(), toStockLines(savedOrder));
         return OrderResponse.from(savedOrder);
     }
 
@@ -97,17 +130,35 @@ public class OrderService {
     }
 
     public PageResponse<OrderResponse> getOrders(Long memberId, int page, int size) {
-        Page<Order> orderPage = orderRepository.findByMemberIdOrderByCreatedAtDesc(
+        // 주문 헤더 한 번, 해당 페이지의 주문 항목 한 번만 프로젝션으로 조회한다.
+        // 항목을 조인하면 페이지가 주문이 아닌 항목 행 단위로 잘리므로 페이지 크기와 무관한 2회 조회로 둔다
+        Page<OrderSummaryRow> orderPage = orderRepository.findSummaryRowsByMemberId(
                 memberId, PageRequest.of(page, size));
 
-        List<OrderResponse> content = orderPage.getContent().stream()
-                .map(OrderResponse::from)
-                .toList();
-
-        return PageResponse.of(content, page, size,
+        return PageResponse.of(toOrderResponses(orderPage.getContent()), page, size,
                 orderPage.getTotalElements(), orderPage.getTotalPages());
     }
 
+    public CursorResponse<OrderResponse> getOrdersByCursor(Long memberId, String cursor, int size) {
+        PageCursor pageCursor = PageCursor.decode(cursor);
+        Pageable pageable = PageCursor.limit(size);
+
+        // 오프셋 목록과 같은 헤더/항목 프로젝션 2회 조회를 쓰고, 헤더만 키셋 조건으로 자른다
+        Slice<OrderSummaryRow> orderSlice = pageCursor == null
+                ? orderRepository.findSummaryRowSliceByMemberId(memberId, pageable)
+                : orderRepository.findSummaryRowSliceByMemberIdBefore(
+                        memberId, pageCursor.createdAt(), pageCursor.id(), pageable);
+
+        List<OrderSummaryRow> rows = orderSlice.getContent();
+        PageCursor nextCursor = null;
+        if (orderSlice.hasNext()) {
+            OrderSummaryRow last = rows.getLast();
+            nextCursor = PageCursor.of(last.createdAt(), last.id());
+        }
+
+        return CursorResponse.of(toOrderResponses(rows), pageable.getPageSize(), nextCursor);
+    }
+
     @Transactional
     public OrderResponse cancelOrder(Long memberId, Long orderId) {
         Order order = orderRepository.findByIdWithItems(orderId)
@@ -119,13 +170,17 @@ public class OrderService {
             throw OrderException.cannotCancel();
         }
 
-        for (OrderItem item : order.getOrderItems()) {
-            inventoryService.restoreStock(
-                    item.getProductId(),
-                    item.getProductOptionId(),
-                    item.getQuantity(),
-                    order.getId()
-            );
+        if (order.isPending()) {
+            inventoryService.releaseReservations(order.getId());
+        } else {
+            for (OrderItem item : order.getOrderItems()) {
+                inventoryService.restoreStock(
+                        item.getProductId(),
+                        item.getProductOptionId(),
+                        item.getQuantity(),
+                        order.getId()
+                );
+            }
         }
 
         order.cancel();
@@ -141,13 +196,15 @@ public class OrderService {
             throw OrderException.alreadyPaid();
         }
 
-        for (OrderItem item : order.getOrderItems()) {
-            inventoryService.deductStock(
-                    item.getProductId(),
-                    item.getProductOptionId(),
-                    item.getQuantity(),
-                    order.getId()
-            );
+        Set<InventoryKey> confirmedKeys = inventoryService.confirmReservations(order.getId());
+
+        // 예약이 없거나 만료되어 해제된 항목만 재고를 직접 차감한다
+        List<StockLine> unreservedLines = toStockLines(order).stream()
+                .filter(line -> !confirmedKeys.contains(line.key()))
+                .toList();
+
+        if (!unreservedLines.isEmpty()) {
+            stockDeductionStrategy.deductAll(unreservedLines, order.getId());
         }
 
         order.markAsPaid();
@@ -168,12 +225,33 @@ public class OrderService {
                 .orElseThrow(OrderException::notFound);
     }
 
+    private List<OrderResponse> toOrderResponses(List<OrderSummaryRow> rows) {
+        List<Long> orderIds = rows.stream()
+                .map(OrderSummaryRow::id)
+                .toList();
+        Map<Long, List<OrderItemResponse>> itemsByOrderId = orderIds.isEmpty()
+                ? Map.of()
+                : orderItemRepository.findRowsByOrderIdIn(orderIds).stream()
+                        .collect(Collectors.groupingBy(OrderItemRow::orderId,
+                                Collectors.mapping(OrderItemResponse::from, Collectors.toList())));
+
+        return rows.stream()
+                .map(row -> OrderResponse.from(row, itemsByOrderId.getOrDefault(row.id(), List.of())))
+                .toList();
+    }
+
     private void validateOrderOwner(Order order, Long memberId) {
         if (!order.getMemberId().equals(memberId)) {
             throw OrderException.notFound();
         }
     }
 
+    private List<StockLine> toStockLines(Order order) {
+        return order.getOrderItems().stream()
+                .map(item -> new StockLine(item.getProductId(), item.getProductOptionId(), item.getQuantity()))
+                .toList();
+    }
+
     private ShippingInfo createShippingInfo(ShippingInfoRequest request) {
         return ShippingInfo.builder()
                 .recipientName(request.getRecipientName())
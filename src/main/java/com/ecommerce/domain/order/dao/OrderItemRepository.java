@@ -1,11 +1,21 @@
 package com.ecommerce.domain.order.dao;
 
 import com.ecommerce.domain.order.domain.OrderItem;
+import com.ecommerce.domain.order.dto.OrderItemRow;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
 
     List<OrderItem> findByOrderId(Long orderId);
+
+    @Query("SELECT new com.ecommerce.domain.order.dto.OrderItemRow(" +
+           "oi.id, oi.order.id, oi.productId, oi.productOptionId, oi.productName, oi.optionName, " +
+           "oi.unitPrice.amount, oi.quantity, oi.subtotal.amount) " +
+           "FROM OrderItem oi WHERE oi.order.id IN :orderIds ORDER BY oi.id")
+    List<OrderItemRow> findRowsByOrderIdIn(@Param("orderIds") Collection<Long> orderIds);
 }
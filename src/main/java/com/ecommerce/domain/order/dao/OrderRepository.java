@@ -2,12 +2,15 @@ package com.ecommerce.domain.order.dao;
 
 import com.ecommerce.domain.order.domain.Order;
 import com.ecommerce.domain.order.domain.OrderStatus;
+import com.ecommerce.domain.order.dto.OrderSummaryRow;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,7 +24,35 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
     @Query("SELECT o FROM Order o LEFT JOIN FETCH o.orderItems WHERE o.orderNumber = :orderNumber")
     Optional<Order> findByOrderNumberWithItems(@Param("orderNumber") String orderNumber);
 
-    Page<Order> findByMemberIdOrderByCreatedAtDesc(Long memberId, Pageable pageable);
+    @Query(value = "SELECT new com.ecommerce.domain.order.dto.OrderSummaryRow(" +
+            "o.id, o.orderNumber, o.status, o.totalAmount.amount, o.discountAmount.amount, " +
+            "o.deliveryFee.amount, o.finalAmount.amount, o.shippingInfo.recipientName, " +
+            "o.shippingInfo.recipientPhone, o.shippingInfo.zipCode, o.shippingInfo.address1, " +
+            "o.shippingInfo.address2, o.shippingInfo.deliveryMessage, o.createdAt, o.paidAt) " +
+            "FROM Order o WHERE o.memberId = :memberId ORDER BY o.createdAt DESC, o.id DESC",
+            countQuery = "SELECT COUNT(o) FROM Order o WHERE o.memberId = :memberId")
+    Page<OrderSummaryRow> findSummaryRowsByMemberId(@Param("memberId") Long memberId, Pageable pageable);
+
+    @Query("SELECT new com.ecommerce.domain.order.dto.OrderSummaryRow(" +
+            "o.id, o.orderNumber, o.status, o.totalAmount.amount, o.discountAmount.amount, " +
+            "o.deliveryFee.amount, o.finalAmount.amount, o.shippingInfo.recipientName, " +
+            "o.shippingInfo.recipientPhone, o.shippingInfo.zipCode, o.shippingInfo.address1, " +
+            "o.shippingInfo.address2, o.shippingInfo.deliveryMessage, o.createdAt, o.paidAt) " +
+            "FROM Order o WHERE o.memberId = :memberId ORDER BY o.createdAt DESC, o.id DESC")
+    Slice<OrderSummaryRow> findSummaryRowSliceByMemberId(@Param("memberId") Long memberId, Pageable pageable);
+
+    @Query("SELECT new com.ecommerce.domain.order.dto.OrderSummaryRow(" +
+            "o.id, o.orderNumber, o.status, o.totalAmount.amount, o.discountAmount.amount, " +
+            "o.deliveryFee.amount, o.finalAmount.amount, o.shippingInfo.recipientName, " +
+            "o.shippingInfo.recipientPhone, o.shippingInfo.zipCode, o.shippingInfo.address1, " +
+            "o.shippingInfo.address2, o.shippingInfo.deliveryMessage, o.createdAt, o.paidAt) " +
+            "FROM Order o WHERE o.memberId = :memberId " +
+            "AND (o.createdAt < :createdAt OR (o.createdAt = :createdAt AND o.id < :id)) " +
+            "ORDER BY o.createdAt DESC, o.id DESC")
+    Slice<OrderSummaryRow> findSummaryRowSliceByMemberIdBefore(@Param("memberId") Long memberId,
+                                                               @Param("createdAt") LocalDateTime createdAt,
+                                                               @Param("id") Long id,
+                                                               Pageable pageable);
 
     List<Order> findByMemberIdAndStatusIn(Long memberId, List<OrderStatus> statuses);
 
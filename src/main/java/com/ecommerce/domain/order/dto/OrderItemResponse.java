@@ -29,4 +29,17 @@ public class OrderItemResponse {
                 .subtotal(item.getSubtotal().getAmount())
                 .build();
     }
+
+    public static OrderItemResponse from(OrderItemRow row) {
+        return OrderItemResponse.builder()
+                .id(row.id())
+                .productId(row.productId())
+                .productOptionId(row.productOptionId())
+                .productName(row.productName())
+                .optionName(row.optionName())
+                .unitPrice(row.unitPrice())
+                .quantity(row.quantity())
+                .subtotal(row.subtotal())
+                .build();
+    }
 }
@@ -0,0 +1,14 @@
+package com.ecommerce.domain.order.dto;
+
+public record OrderItemRow(
+        Long id,
+        Long orderId,
+        Long productId,
+        Long productOptionId,
+        String productName,
+        String optionName,
+        long unitPrice,
+        int quantity,
+        long subtotal
+) {
+}
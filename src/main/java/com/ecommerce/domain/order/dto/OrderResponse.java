@@ -41,4 +41,20 @@ public class OrderResponse {
                 .paidAt(order.getPaidAt())
                 .build();
     }
+
+    public static OrderResponse from(OrderSummaryRow row, List<OrderItemResponse> items) {
+        return OrderResponse.builder()
+                .id(row.id())
+                .orderNumber(row.orderNumber())
+                .status(row.status())
+                .totalAmount(row.totalAmount())
+                .discountAmount(row.discountAmount())
+                .deliveryFee(row.deliveryFee())
+                .finalAmount(row.finalAmount())
+                .items(items)
+                .shippingInfo(ShippingInfoResponse.from(row))
+                .createdAt(row.createdAt())
+                .paidAt(row.paidAt())
+                .build();
+    }
 }
@@ -0,0 +1,25 @@
+package com.ecommerce.domain.order.dto;
+
+import com.ecommerce.domain.order.domain.OrderStatus;
+
+import java.time.LocalDateTime;
+
+// 주문 목록 조회 전용 프로젝션: 주문 헤더와 배송지 컬럼만 읽는다
+public record OrderSummaryRow(
+        Long id,
+        String orderNumber,
+        OrderStatus status,
+        long totalAmount,
+        long discountAmount,
+        long deliveryFee,
+        long finalAmount,
+        String recipientName,
+        String recipientPhone,
+        String zipCode,
+        String address1,
+        String address2,
+        String deliveryMessage,
+        LocalDateTime createdAt,
+        LocalDateTime paidAt
+) {
+}
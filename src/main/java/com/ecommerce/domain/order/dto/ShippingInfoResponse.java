@@ -4,6 +4,9 @@ import com.ecommerce.domain.order.domain.ShippingInfo;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.util.Objects;
+import java.util.stream.Stream;
+
 @Getter
 @Builder
 public class ShippingInfoResponse {
@@ -28,4 +31,22 @@ public class ShippingInfoResponse {
                 .deliveryMessage(info.getDeliveryMessage())
                 .build();
     }
+
+    public static ShippingInfoResponse from(OrderSummaryRow row) {
+        // 엔티티 조회와 같게, 배송지 컬럼이 모두 비어 있으면 배송지가 없는 것으로 본다
+        boolean empty = Stream.of(row.recipientName(), row.recipientPhone(), row.zipCode(),
+                        row.address1(), row.address2(), row.deliveryMessage())
+                .allMatch(Objects::isNull);
+        if (empty) {
+            return null;
+        }
+        return ShippingInfoResponse.builder()
+                .recipientName(row.recipientName())
+                .recipientPhone(row.recipientPhone())
+                .zipCode(row.zipCode())
+                .address1(row.address1())
+                .address2(row.address2())
+                .deliveryMessage(row.deliveryMessage())
+                .build();
+    }
 }
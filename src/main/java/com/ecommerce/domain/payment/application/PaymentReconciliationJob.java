@@ -0,0 +1,253 @@
+package com.ecommerce.domain.payment.application;
+
+import com.ecommerce.domain.payment.application.PaymentReconciliationService.Applied;
+import com.ecommerce.domain.payment.application.PaymentReconciliationService.PgLookup;
+import com.ecommerce.domain.payment.application.PaymentReconciliationService.PgState;
+import com.ecommerce.domain.payment.application.PaymentReconciliationService.Result;
+import com.ecommerce.domain.payment.dao.PaymentRepository;
+import com.ecommerce.domain.payment.domain.PaymentStatus;
+import com.ecommerce.domain.payment.dto.ReconciliationTarget;
+import com.ecommerce.infra.pg.AsyncPgClient;
+import com.ecommerce.infra.pg.PgCircuitBreaker;
+import com.ecommerce.infra.pg.PgResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 응답 지연 등으로 대기/실패에 남은 결제를 PG 조회 결과로 확정한다.
+// 상태별로 id 키셋 페이징하며 한 번에 한 청크만 메모리에 올린다
+@Slf4j
+@Component
+public class PaymentReconciliationJob {
+
+    private static final List<PaymentStatus> TARGET_STATUSES = List.of(PaymentStatus.PENDING, PaymentStatus.FAILED);
+    private static final String NOT_FOUND_CODE = "4001";
+
+    private final PaymentRepository paymentRepository;
+    private final PaymentReconciliationService reconciliationService;
+    private final AsyncPgClient asyncPgClient;
+    private final boolean enabled;
+    private final int chunkSize;
+    private final int parallelism;
+    private final long graceMinutes;
+
+    private final AtomicLong scanned = new AtomicLong();
+    private final AtomicLong lagSeconds = new AtomicLong();
+    private final Map<Result, Counter> resultCounters = new EnumMap<>(Result.class);
+    private final Counter unresolved;
+    private final Counter errors;
+    private final Counter cancelled;
+    private final Counter cancelFailed;
+    private final Timer runTimer;
+
+    public PaymentReconciliationJob(PaymentRepository paymentRepository,
+                                    PaymentReconciliationService reconciliationService,
+                                    AsyncPgClient asyncPgClient,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${payment.reconciliation.enabled:true}") boolean enabled,
+                                    @Value("${payment.reconciliation.chunk-size:500}") int chunkSize,
+                                    @Value("${payment.reconciliation.parallelism:20}") int parallelism,
+                                    @Value("${payment.reconciliation.grace-minutes:10}") long graceMinutes) {
+        this.paymentRepository = paymentRepository;
+        this.reconciliationService = reconciliationService;
+        this.asyncPgClient = asyncPgClient;
+        this.enabled = enabled;
+        this.chunkSize = chunkSize;
+        this.parallelism = parallelism;
+        this.graceMinutes = graceMinutes;
+
+        Gauge.builder("payment.reconciliation.scanned", scanned, AtomicLong::get)
+                .description("현재(마지막) 정산 실행에서 조회한 결제 수")
+                .register(meterRegistry);
+        Gauge.builder("payment.reconciliation.lag.seconds", lagSeconds, AtomicLong::get)
+                .description("정산 실행 시작 시점에 가장 오래된 미확정 결제의 경과 시간")
+                .register(meterRegistry);
+        for (Result result : Result.values()) {
+            resultCounters.put(result, processedCounter(meterRegistry, result.name()));
+        }
+        this.unresolved = processedCounter(meterRegistry, "UNRESOLVED");
+        this.errors = processedCounter(meterRegistry, "ERROR");
+        this.cancelled = processedCounter(meterRegistry, "PG_CANCELLED");
+        this.cancelFailed = processedCounter(meterRegistry, "PG_CANCEL_FAILED");
+        this.runTimer = Timer.builder("payment.reconciliation.run")
+                .description("정산 1회 실행 시간")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${payment.reconciliation.interval-ms:300000}",
+            initialDelayString = "${payment.reconciliation.initial-delay-ms:60000}")
+    public void reconcile() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            runTimer.record(this::run);
+        } catch (Exception e) {
+            log.error("Payment reconciliation run failed", e);
+        }
+    }
+
+    void run() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        LocalDateTime cutoff = startedAt.minusMinutes(graceMinutes);
+        scanned.set(0);
+
+        LocalDateTime oldest = null;
+        for (PaymentStatus status : TARGET_STATUSES) {
+            Pass pass = reconcileStatus(status, cutoff);
+            if (pass.oldest() != null && (oldest == null || pass.oldest().isBefore(oldest))) {
+                oldest = pass.oldest();
+            }
+            if (pass.aborted()) {
+                break;
+            }
+        }
+
+        lagSeconds.set(oldest == null ? 0 : Duration.between(oldest, startedAt).toSeconds());
+        if (scanned.get() > 0) {
+            log.info("Reconciled payments: scanned={}, lagSeconds={}", scanned.get(), lagSeconds.get());
+        }
+    }
+
+    private Pass reconcileStatus(PaymentStatus status, LocalDateTime cutoff) {
+        long lastId = 0L;
+        LocalDateTime oldest = null;
+        List<ReconciliationTarget> chunk;
+        do {
+            // PG 장애 중에는 조회해도 모두 미확정이므로 다음 실행으로 미룬다
+            if (asyncPgClient.getCircuitState() == PgCircuitBreaker.State.OPEN) {
+                log.warn("PG circuit open, stopping payment reconciliation at status={}, lastId={}", status, lastId);
+                return new Pass(oldest, true);
+            }
+
+            chunk = paymentRepository.findReconciliationTargets(status, PgResponse.TIMEOUT_CODE, cutoff, lastId,
+                    PageRequest.of(0, chunkSize));
+            if (chunk.isEmpty()) {
+                break;
+            }
+            if (oldest == null) {
+                oldest = chunk.getFirst().createdAt();
+            }
+
+            apply(inquire(chunk));
+            lastId = chunk.getLast().paymentId();
+            scanned.addAndGet(chunk.size());
+        } while (chunk.size() == chunkSize);
+
+        return new Pass(oldest, false);
+    }
+
+    private List<PgLookup> inquire(List<ReconciliationTarget> chunk) {
+        Semaphore permits = new Semaphore(parallelism);
+        List<CompletableFuture<PgLookup>> futures = new ArrayList<>(chunk.size());
+        for (ReconciliationTarget target : chunk) {
+            permits.acquireUninterruptibly();
+            futures.add(inquiry(target)
+                    .handle((response, error) -> toLookup(target, response, error))
+                    .whenComplete((lookup, error) -> permits.release()));
+        }
+        return futures.stream()
+                .map(CompletableFuture::join)
+                .toList();
+    }
+
+    private CompletableFuture<PgResponse> inquiry(ReconciliationTarget target) {
+        // 승인 응답을 받지 못한 결제는 거래 번호가 없으므로 주문번호로 조회한다
+        if (target.pgTransactionId() != null) {
+            return asyncPgClient.inquiry(target.pgTransactionId());
+        }
+        return asyncPgClient.inquiryByOrderNumber(target.orderNumber());
+    }
+
+    private PgLookup toLookup(ReconciliationTarget target, PgResponse response, Throwable error) {
+        if (error != null || response.isSystemError()) {
+            return new PgLookup(target, PgState.UNKNOWN, null);
+        }
+        if (response.isSuccess()) {
+            return new PgLookup(target, PgState.APPROVED, response.getTransactionId());
+        }
+        if (NOT_FOUND_CODE.equals(response.getResponseCode())) {
+            return new PgLookup(target, PgState.NOT_FOUND, null);
+        }
+        return new PgLookup(target, PgState.UNKNOWN, null);
+    }
+
+    private void apply(List<PgLookup> lookups) {
+        List<PgLookup> resolved = lookups.stream()
+                .filter(lookup -> lookup.state() != PgState.UNKNOWN)
+                .toList();
+        unresolved.increment(lookups.size() - resolved.size());
+        if (resolved.isEmpty()) {
+            return;
+        }
+
+        List<Applied> applied;
+        try {
+            applied = reconciliationService.apply(resolved);
+        } catch (Exception e) {
+            // 한 건 때문에 청크 전체가 롤백되었으므로 건별 트랜잭션으로 다시 반영한다
+            log.warn("Chunk reconciliation failed, retrying {} payments one by one", resolved.size(), e);
+            applied = applyOneByOne(resolved);
+        }
+
+        applied.forEach(this::record);
+    }
+
+    private List<Applied> applyOneByOne(List<PgLookup> lookups) {
+        List<Applied> applied = new ArrayList<>(lookups.size());
+        for (PgLookup lookup : lookups) {
+            try {
+                applied.addAll(reconciliationService.apply(List.of(lookup)));
+            } catch (Exception e) {
+                errors.increment();
+                log.error("Failed to reconcile payment: paymentId={}", lookup.target().paymentId(), e);
+            }
+        }
+        return applied;
+    }
+
+    private void record(Applied applied) {
+        resultCounters.get(applied.result()).increment();
+        if (applied.result() == Result.CANCEL_REQUIRED) {
+            cancelAtPg(applied.lookup());
+        }
+    }
+
+    private void cancelAtPg(PgLookup lookup) {
+        ReconciliationTarget target = lookup.target();
+        PgResponse response = asyncPgClient.cancel(lookup.pgTransactionId(), target.amount()).join();
+        if (response.isSuccess()) {
+            cancelled.increment();
+            return;
+        }
+        cancelFailed.increment();
+        log.error("PG cancel failed during reconciliation, manual refund required: paymentId={}, transactionId={}, code={}",
+                target.paymentId(), lookup.pgTransactionId(), response.getResponseCode());
+    }
+
+    private static Counter processedCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("payment.reconciliation.processed")
+                .tag("result", result.toLowerCase().replace('_', '-'))
+                .description("정산 결과별 결제 수")
+                .register(meterRegistry);
+    }
+
+    private record Pass(LocalDateTime oldest, boolean aborted) {
+    }
+}
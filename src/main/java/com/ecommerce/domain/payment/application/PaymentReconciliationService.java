@@ -0,0 +1,110 @@
+package com.ecommerce.domain.payment.application;
+
+import com.ecommerce.domain.order.application.OrderService;
+import com.ecommerce.domain.order.domain.Order;
+import com.ecommerce.domain.payment.dao.PaymentRepository;
+import com.ecommerce.domain.payment.domain.Payment;
+import com.ecommerce.domain.payment.domain.PaymentStatus;
+import com.ecommerce.domain.payment.dto.ReconciliationTarget;
+import com.ecommerce.domain.payment.exception.PaymentException;
+import com.ecommerce.global.idempotency.IdempotencyService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+// PG 조회 결과를 결제/주문 상태에 반영한다. PG 호출은 하지 않고 한 청크를 한 트랜잭션으로 처리한다
+@Service
+@RequiredArgsConstructor
+public class PaymentReconciliationService {
+
+    private final PaymentRepository paymentRepository;
+    private final OrderService orderService;
+    private final IdempotencyService idempotencyService;
+
+    @Transactional
+    public List<Applied> apply(List<PgLookup> lookups) {
+        return lookups.stream()
+                .map(this::applyOne)
+                .toList();
+    }
+
+    private Applied applyOne(PgLookup lookup) {
+        Payment payment = paymentRepository.findById(lookup.target().paymentId())
+                .orElseThrow(PaymentException::notFound);
+
+        // 조회하는 사이 정상 흐름에서 확정되었으면 건드리지 않는다
+        if (payment.getReconciledAt() != null
+                || (!payment.isPending() && payment.getStatus() != PaymentStatus.FAILED)) {
+            return new Applied(lookup, Result.SKIPPED);
+        }
+
+        return switch (lookup.state()) {
+            case APPROVED -> applyApproved(payment, lookup);
+            case NOT_FOUND -> applyNotFound(payment, lookup);
+            case UNKNOWN -> new Applied(lookup, Result.SKIPPED);
+        };
+    }
+
+    private Applied applyApproved(Payment payment, PgLookup lookup) {
+        Order order = orderService.findById(payment.getOrderId());
+
+        if (order.isPending()) {
+            payment.reconcileApproved(lookup.pgTransactionId());
+            orderService.markAsPaid(order.getId());
+            idempotencyService.complete(payment.getIdempotencyKey(), PaymentTransactionService.RESOURCE_TYPE,
+                    payment.getId(), payment.getPaymentNumber());
+            return new Applied(lookup, Result.APPROVED);
+        }
+
+        // 승인 응답을 받지 못한 결제는 주문번호로 조회하므로, 같은 주문을 재시도해 성공한 다른 결제의 승인이 돌아올 수 있다.
+        // 그 거래를 취소하면 정상 결제가 환불되므로 이 결제만 정산 완료로 닫는다
+        if (isApprovedByAnotherPayment(payment, lookup.pgTransactionId())) {
+            if (payment.isPending()) {
+                payment.fail("정산: 같은 주문의 다른 결제로 승인됨");
+                idempotencyService.delete(payment.getIdempotencyKey(), PaymentTransactionService.RESOURCE_TYPE);
+            }
+            payment.markReconciled();
+            return new Applied(lookup, Result.CLOSED);
+        }
+
+        // 주문이 이미 취소되었거나 다른 결제로 처리되었으면 PG 승인을 취소해야 한다
+        payment.fail("정산: 결제 대기 상태가 아닌 주문의 PG 승인");
+        payment.markReconciled();
+        idempotencyService.delete(payment.getIdempotencyKey(), PaymentTransactionService.RESOURCE_TYPE);
+        return new Applied(lookup, Result.CANCEL_REQUIRED);
+    }
+
+    private boolean isApprovedByAnotherPayment(Payment payment, String pgTransactionId) {
+        return paymentRepository.findByOrderIdAndStatus(payment.getOrderId(), PaymentStatus.APPROVED)
+                .filter(approved -> !approved.getId().equals(payment.getId()))
+                .map(approved -> approved.getPgTransactionId() != null
+                        && approved.getPgTransactionId().equals(pgTransactionId))
+                .orElse(false);
+    }
+
+    private Applied applyNotFound(Payment payment, PgLookup lookup) {
+        boolean wasPending = payment.isPending();
+        if (wasPending) {
+            payment.fail("정산: PG 거래 내역 없음");
+            idempotencyService.delete(payment.getIdempotencyKey(), PaymentTransactionService.RESOURCE_TYPE);
+        }
+        payment.markReconciled();
+        return new Applied(lookup, wasPending ? Result.FAILED : Result.CLOSED);
+    }
+
+    public enum PgState {
+        APPROVED, NOT_FOUND, UNKNOWN
+    }
+
+    public enum Result {
+        APPROVED, FAILED, CLOSED, CANCEL_REQUIRED, SKIPPED
+    }
+
+    public record PgLookup(ReconciliationTarget target, PgState state, String pgTransactionId) {
+    }
+
+    public record Applied(PgLookup lookup, Result result) {
+    }
+}
@@ -1,20 +1,24 @@
 package com.ecommerce.domain.payment.application;
 
-import com.ecommerce.domain.order.application.OrderService;
-import com.ecommerce.domain.order.domain.Order;
+import com.ecommerce.domain.payment.application.PaymentTransactionService.PaymentAttempt;
 import com.ecommerce.domain.payment.dao.PaymentRepository;
 import com.ecommerce.domain.payment.domain.Payment;
+import com.ecommerce.domain.payment.domain.PaymentStatus;
 import com.ecommerce.domain.payment.dto.PaymentRequest;
 import com.ecommerce.domain.payment.dto.PaymentResponse;
 import com.ecommerce.domain.payment.exception.PaymentException;
+import com.ecommerce.global.idempotency.IdempotencyCache;
+import com.ecommerce.global.idempotency.IdempotencyCache.Claim;
 import com.ecommerce.global.idempotency.IdempotencyService;
 import com.ecommerce.global.idempotency.IdempotencyService.IdempotencyResult;
-import com.ecommerce.infra.pg.PgClient;
+import com.ecommerce.infra.pg.AsyncPgClient;
 import com.ecommerce.infra.pg.PgRequest;
 import com.ecommerce.infra.pg.PgResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Slf4j
@@ -23,21 +27,53 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public class PaymentService {
 
-    private static final String RESOURCE_TYPE = "PAYMENT";
+    private static final String RESOURCE_TYPE = PaymentTransactionService.RESOURCE_TYPE;
 
     private final PaymentRepository paymentRepository;
-    private final OrderService orderService;
-    private final PgClient pgClient;
+    private final PaymentTransactionService paymentTransactionService;
+    private final AsyncPgClient asyncPgClient;
     private final IdempotencyService idempotencyService;
+    private final IdempotencyCache idempotencyCache;
 
-    @Transactional
+    // PG 승인 동안 커넥션과 재고 행을 붙잡지 않도록 트랜잭션을 나눈다:
+    // PENDING 결제 저장 → (커넥션 반납) PG 승인 → 짧은 트랜잭션으로 승인/결제 완료/재고 차감
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public PaymentResponse processPayment(Long memberId, PaymentRequest request) {
         if (request.getIdempotencyKey() == null || request.getIdempotencyKey().isBlank()) {
             throw PaymentException.idempotencyKeyRequired();
         }
 
-        IdempotencyResult idempotencyResult = idempotencyService.checkAndCreate(
-                request.getIdempotencyKey(), RESOURCE_TYPE);
+        // 같은 키의 요청이 처리 중이면 그 결과를, 이미 끝났으면 캐시된 응답을 DB 접근 없이 돌려준다
+        Claim<PaymentResponse> claim = idempotencyCache.claim(RESOURCE_TYPE, request.getIdempotencyKey());
+        if (!claim.owner()) {
+            return idempotencyCache.await(claim)
+                    .orElseThrow(PaymentException::duplicatePayment);
+        }
+
+        try {
+            PaymentResponse response = process(memberId, request);
+            // 실패한 결제는 DB 키도 삭제되므로 같은 키로 다시 시도할 수 있게 메모리에서도 푼다.
+            // 결과 불명확으로 PENDING인 결제는 DB 키가 처리 중으로 남아 정산 전까지 재시도가 거절된다
+            if (response.getStatus() == PaymentStatus.APPROVED) {
+                idempotencyCache.complete(claim, response);
+            } else {
+                idempotencyCache.release(claim, response);
+            }
+            return response;
+        } catch (RuntimeException e) {
+            idempotencyCache.fail(claim, e);
+            throw e;
+        }
+    }
+
+    private PaymentResponse process(Long memberId, PaymentRequest request) {
+        IdempotencyResult idempotencyResult;
+        try {
+            idempotencyResult = idempotencyService.checkAndCreate(request.getIdempotencyKey(), RESOURCE_TYPE);
+        } catch (DataIntegrityViolationException e) {
+            // 다른 인스턴스가 조회와 저장 사이에 같은 키를 먼저 저장했다
+            throw PaymentException.duplicatePayment();
+        }
 
         if (idempotencyResult.isDuplicate()) {
             Payment existingPayment = paymentRepository.findById(idempotencyResult.resourceId())
@@ -45,57 +81,91 @@ public class PaymentService {
             return PaymentResponse.from(existingPayment);
         }
 
-        Order order = orderService.findById(request.getOrderId());
-
-        if (!order.getMemberId().equals(memberId)) {
-            throw PaymentException.notFound();
-        }
-
-        if (!order.isPending()) {
+        // 같은 키의 요청이 PG 승인 중이면 중복 승인을 막는다
+        if (!idempotencyResult.isNewRequest()) {
             throw PaymentException.duplicatePayment();
         }
 
-        Payment payment = Payment.builder()
-                .orderId(order.getId())
-                .memberId(memberId)
-                .amount(order.getFinalAmount())
-                .method(request.getMethod())
-                .idempotencyKey(request.getIdempotencyKey())
-                .build();
-
-        payment = paymentRepository.save(payment);
+        PaymentAttempt attempt;
+        try {
+            attempt = paymentTransactionService.begin(memberId, request);
+        } catch (RuntimeException e) {
+            idempotencyService.delete(request.getIdempotencyKey(), RESOURCE_TYPE);
+            throw e;
+        }
 
+        PgResponse pgResponse;
         try {
-            PgRequest pgRequest = PgRequest.builder()
-                    .orderNumber(order.getOrderNumber())
-                    .amount(order.getFinalAmount().getAmount())
+            // 마감 시간, 서킷 브레이커, 벌크헤드가 적용되어 join은 승인+조회 마감 시간 안에 반환된다
+            pgResponse = asyncPgClient.approve(PgRequest.builder()
+                    .orderNumber(attempt.orderNumber())
+                    .amount(attempt.amount())
                     .cardNumber(request.getCardNumber())
                     .paymentMethod(request.getMethod().name())
-                    .build();
+                    .build()).join();
+        } catch (Exception e) {
+            log.error("결제 처리 중 오류 발생, 승인 여부 불명확: orderId={}", attempt.orderId(), e);
+            return holdPending(attempt);
+        }
 
-            PgResponse pgResponse = pgClient.approve(pgRequest);
+        if (isOutcomeUnknown(pgResponse)) {
+            log.warn("PG 승인 결과 불명확, 정산으로 확정: orderId={}, code={}",
+                    attempt.orderId(), pgResponse.getResponseCode());
+            return holdPending(attempt);
+        }
 
-            if (pgResponse.isSuccess()) {
-                payment.approve(pgResponse.getTransactionId());
-                orderService.markAsPaid(order.getId());
+        if (!pgResponse.isSuccess()) {
+            log.warn("결제 실패: orderId={}, reason={}", attempt.orderId(), pgResponse.getResponseMessage());
+            return paymentTransactionService.fail(attempt.paymentId(), pgResponse.getResponseCode(),
+                    pgResponse.getResponseMessage(), request.getIdempotencyKey());
+        }
 
-                idempotencyService.complete(request.getIdempotencyKey(), RESOURCE_TYPE,
-                        payment.getId(), payment.getPaymentNumber());
+        try {
+            PaymentResponse response = paymentTransactionService.approve(
+                    attempt.paymentId(), pgResponse.getTransactionId(), request.getIdempotencyKey());
+            log.info("결제 성공: paymentNumber={}, orderId={}, amount={}",
+                    response.getPaymentNumber(), attempt.orderId(), attempt.amount());
+            return response;
+        } catch (RuntimeException e) {
+            compensate(attempt, pgResponse.getTransactionId(), request.getIdempotencyKey(), e);
+            throw e;
+        }
+    }
 
-                log.info("결제 성공: paymentNumber={}, orderId={}, amount={}",
-                        payment.getPaymentNumber(), order.getId(), payment.getAmount().getAmount());
-            } else {
-                payment.fail(pgResponse.getResponseMessage());
-                idempotencyService.delete(request.getIdempotencyKey(), RESOURCE_TYPE);
-                log.warn("결제 실패: orderId={}, reason={}", order.getId(), pgResponse.getResponseMessage());
+    // 최종 트랜잭션이 롤백되면 PG 승인만 남으므로 승인을 취소하고 결제를 실패로 기록한다
+    private void compensate(PaymentAttempt attempt, String pgTransactionId, String idempotencyKey,
+                            RuntimeException cause) {
+        log.warn("결제 확정 실패, PG 승인 취소: orderId={}, transactionId={}",
+                attempt.orderId(), pgTransactionId, cause);
+        try {
+            PgResponse cancelResponse = asyncPgClient.cancel(pgTransactionId, attempt.amount()).join();
+            if (!cancelResponse.isSuccess()) {
+                log.error("PG 승인 취소 실패: transactionId={}, reason={}",
+                        pgTransactionId, cancelResponse.getResponseMessage());
             }
         } catch (Exception e) {
-            payment.fail(e.getMessage());
-            idempotencyService.delete(request.getIdempotencyKey(), RESOURCE_TYPE);
-            log.error("결제 처리 중 오류 발생: orderId={}", order.getId(), e);
+            log.error("PG 승인 취소 중 오류 발생: transactionId={}", pgTransactionId, e);
         }
+        try {
+            paymentTransactionService.fail(attempt.paymentId(), null, cause.getMessage(), idempotencyKey);
+        } catch (RuntimeException e) {
+            // 실패 기록이 안 되어도 결제는 PENDING으로 남아 정산 대상이 된다. 원래 오류를 유지한다
+            cause.addSuppressed(e);
+            log.error("결제 실패 기록 중 오류 발생: paymentId={}", attempt.paymentId(), e);
+        }
+    }
 
-        return PaymentResponse.from(payment);
+    // 마감 초과(헤지 조회로도 확정 못 함)나 호출 오류는 PG에서 승인되었을 수 있다.
+    // 실패로 기록하고 키를 지우면 같은 키로 재시도해 이중 결제될 수 있으므로 PENDING과 키를 유지하고 정산에 맡긴다.
+    // 9998은 벌크헤드/서킷에서 PG에 보내기 전에 거절된 것이라 결과가 확정된 실패다
+    private boolean isOutcomeUnknown(PgResponse response) {
+        return response.isSystemError() && !PgResponse.UNAVAILABLE_CODE.equals(response.getResponseCode());
+    }
+
+    private PaymentResponse holdPending(PaymentAttempt attempt) {
+        return paymentRepository.findById(attempt.paymentId())
+                .map(PaymentResponse::from)
+                .orElseThrow(PaymentException::notFound);
     }
 
     public PaymentResponse getPayment(Long memberId, Long paymentId) {
@@ -0,0 +1,87 @@
+package com.ecommerce.domain.payment.application;
+
+import com.ecommerce.domain.order.application.OrderService;
+import com.ecommerce.domain.order.domain.Order;
+import com.ecommerce.domain.payment.dao.PaymentRepository;
+import com.ecommerce.domain.payment.domain.Payment;
+import com.ecommerce.domain.payment.dto.PaymentRequest;
+import com.ecommerce.domain.payment.dto.PaymentResponse;
+import com.ecommerce.domain.payment.exception.PaymentException;
+import com.ecommerce.global.idempotency.IdempotencyService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.retry.annotation.Backoff;
+import org.springframework.retry.annotation.Retryable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+// 결제의 DB 단계만 담당한다. PG 호출은 이 트랜잭션들 사이에서 커넥션 없이 수행된다
+@Service
+@RequiredArgsConstructor
+public class PaymentTransactionService {
+
+    static final String RESOURCE_TYPE = "PAYMENT";
+    private static final int APPROVE_MAX_ATTEMPTS = 3;
+
+    private final PaymentRepository paymentRepository;
+    private final OrderService orderService;
+    private final IdempotencyService idempotencyService;
+
+    @Transactional
+    public PaymentAttempt begin(Long memberId, PaymentRequest request) {
+        Order order = orderService.findById(request.getOrderId());
+
+        if (!order.getMemberId().equals(memberId)) {
+            throw PaymentException.notFound();
+        }
+
+        if (!order.isPending()) {
+            throw PaymentException.duplicatePayment();
+        }
+
+        Payment payment = paymentRepository.save(Payment.builder()
+                .orderId(order.getId())
+                .memberId(memberId)
+                .amount(order.getFinalAmount())
+                .method(request.getMethod())
+                .idempotencyKey(request.getIdempotencyKey())
+                .build());
+
+        return new PaymentAttempt(payment.getId(), order.getId(), order.getOrderNumber(),
+                order.getFinalAmount().getAmount());
+    }
+
+    // 재고 잠금 충돌은 참여 중인 트랜잭션을 rollback-only로 만들므로 재시도는 가장 바깥 트랜잭션 단위로 한다.
+    // 재시도 어드바이스가 트랜잭션 어드바이스 바깥에 있어 시도마다 새 트랜잭션으로 주문 전체를 다시 처리한다
+    @Transactional
+    @Retryable(
+            retryFor = {ObjectOptimisticLockingFailureException.class, PessimisticLockingFailureException.class},
+            maxAttempts = APPROVE_MAX_ATTEMPTS,
+            backoff = @Backoff(delay = 100, multiplier = 2)
+    )
+    public PaymentResponse approve(Long paymentId, String pgTransactionId, String idempotencyKey) {
+        Payment payment = paymentRepository.findById(paymentId)
+                .orElseThrow(PaymentException::notFound);
+
+        payment.approve(pgTransactionId);
+        orderService.markAsPaid(payment.getOrderId());
+        idempotencyService.complete(idempotencyKey, RESOURCE_TYPE, payment.getId(), payment.getPaymentNumber());
+
+        return PaymentResponse.from(payment);
+    }
+
+    @Transactional
+    public PaymentResponse fail(Long paymentId, String failureCode, String reason, String idempotencyKey) {
+        Payment payment = paymentRepository.findById(paymentId)
+                .orElseThrow(PaymentException::notFound);
+
+        payment.fail(failureCode, reason);
+        idempotencyService.delete(idempotencyKey, RESOURCE_TYPE);
+
+        return PaymentResponse.from(payment);
+    }
+
+    public record PaymentAttempt(Long paymentId, Long orderId, String orderNumber, long amount) {
+    }
+}
@@ -2,8 +2,13 @@ package com.ecommerce.domain.payment.dao;
 
 import com.ecommerce.domain.payment.domain.Payment;
 import com.ecommerce.domain.payment.domain.PaymentStatus;
+import com.ecommerce.domain.payment.dto.ReconciliationTarget;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,4 +25,20 @@ public interface PaymentRepository extends JpaRepository<Payment, Long> {
     Optional<Payment> findByOrderIdAndStatus(Long orderId, PaymentStatus status);
 
     boolean existsByIdempotencyKey(String idempotencyKey);
+
+    // (status, reconciled_at, id) 인덱스를 타는 키셋 페이징. 오프셋 없이 lastId 다음부터 읽는다.
+    // 실패 결제는 카드 거절처럼 결과가 확정된 건을 빼고 승인 여부가 불명확한 코드로 실패한 건만 읽는다
+    @Query("SELECT new com.ecommerce.domain.payment.dto.ReconciliationTarget(" +
+            "p.id, p.orderId, o.orderNumber, p.pgTransactionId, p.amount.amount, p.createdAt) " +
+            "FROM Payment p JOIN Order o ON o.id = p.orderId " +
+            "WHERE p.status = :status AND p.reconciledAt IS NULL " +
+            "AND (p.status = com.ecommerce.domain.payment.domain.PaymentStatus.PENDING " +
+            "OR p.failureCode = :uncertainFailureCode) " +
+            "AND p.createdAt < :cutoff AND p.id > :lastId " +
+            "ORDER BY p.id")
+    List<ReconciliationTarget> findReconciliationTargets(@Param("status") PaymentStatus status,
+                                                         @Param("uncertainFailureCode") String uncertainFailureCode,
+                                                         @Param("cutoff") LocalDateTime cutoff,
+                                                         @Param("lastId") Long lastId,
+                                                         Pageable pageable);
 }
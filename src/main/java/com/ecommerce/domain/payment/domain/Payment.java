@@ -13,13 +13,16 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "payments")
+@Table(name = "payments", indexes = {
+        @Index(name = "idx_payments_status_reconciled_at_id", columnList = "status, reconciled_at, id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Payment extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "payments_seq")
+    @SequenceGenerator(name = "payments_seq", sequenceName = "payments_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, unique = true, length = 50)
@@ -51,10 +54,17 @@ public class Payment extends BaseTimeEntity {
 
     private String failureReason;
 
+    // PG 응답 코드. 결과가 불명확한 승인은 PENDING으로 남고, 실패 결제 중에서는 9999(승인 마감 초과)로 기록된 건만 정산한다
+    @Column(length = 10)
+    private String failureCode;
+
     private LocalDateTime approvedAt;
 
     private LocalDateTime cancelledAt;
 
+    // PG 거래 조회로 상태가 확정된 시각. 비어 있는 대기/실패 결제만 정산 대상이다
+    private LocalDateTime reconciledAt;
+
     @Embedded
     @AttributeOverride(name = "amount", column = @Column(name = "refunded_amount"))
     private Money refundedAmount;
@@ -85,10 +95,32 @@ public class Payment extends BaseTimeEntity {
     }
 
     public void fail(String reason) {
+        fail(null, reason);
+    }
+
+    public void fail(String failureCode, String reason) {
         this.status = PaymentStatus.FAILED;
+        this.failureCode = failureCode;
         this.failureReason = reason;
     }
 
+    // 응답 지연으로 대기/실패로 남았지만 PG에서는 승인된 결제를 정산 결과에 맞춰 승인 처리한다
+    public void reconcileApproved(String pgTransactionId) {
+        if (this.status != PaymentStatus.PENDING && this.status != PaymentStatus.FAILED) {
+            throw PaymentException.duplicatePayment();
+        }
+        this.status = PaymentStatus.APPROVED;
+        this.pgTransactionId = pgTransactionId;
+        this.failureCode = null;
+        this.failureReason = null;
+        this.approvedAt = LocalDateTime.now();
+        markReconciled();
+    }
+
+    public void markReconciled() {
+        this.reconciledAt = LocalDateTime.now();
+    }
+
     public void cancel() {
         if (!this.status.isCancellable()) {
             throw PaymentException.cannotCancel();
@@ -0,0 +1,13 @@
+package com.ecommerce.domain.payment.dto;
+
+import java.time.LocalDateTime;
+
+public record ReconciliationTarget(
+        Long paymentId,
+        Long orderId,
+        String orderNumber,
+        String pgTransactionId,
+        long amount,
+        LocalDateTime createdAt
+) {
+}
@@ -5,6 +5,7 @@ import com.ecommerce.domain.product.dto.ProductListResponse;
 import com.ecommerce.domain.product.dto.ProductResponse;
 import com.ecommerce.domain.product.dto.ProductSearchRequest;
 import com.ecommerce.global.common.ApiResponse;
+import com.ecommerce.global.common.CursorResponse;
 import com.ecommerce.global.common.PageResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -26,6 +27,15 @@ public class ProductController {
         return ResponseEntity.ok(ApiResponse.ok(response));
     }
 
+    @GetMapping("/cursor")
+    public ResponseEntity<ApiResponse<CursorResponse<ProductListResponse>>> getProductsByCursor(
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        CursorResponse<ProductListResponse> response = productService.getProductsByCursor(categoryId, cursor, size);
+        return ResponseEntity.ok(ApiResponse.ok(response));
+    }
+
     @GetMapping("/{productId}")
     public ResponseEntity<ApiResponse<ProductResponse>> getProduct(@PathVariable Long productId) {
         ProductResponse response = productService.getProduct(productId);
@@ -55,10 +65,12 @@ public class ProductController {
     @GetMapping("/category/{categoryId}")
     public ResponseEntity<ApiResponse<PageResponse<ProductListResponse>>> getProductsByCategory(
             @PathVariable Long categoryId,
+            @RequestParam(defaultValue = "false") boolean includeSubcategories,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size) {
         ProductSearchRequest request = new ProductSearchRequest();
         request.setCategoryId(categoryId);
+        request.setIncludeSubcategories(includeSubcategories);
         request.setPage(page);
         request.setSize(size);
 
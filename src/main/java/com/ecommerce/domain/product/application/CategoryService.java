@@ -10,41 +10,36 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
+// 카테고리 조회는 메모리 스냅샷(CategoryTree)에서 처리하므로 트랜잭션을 열지 않는다
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class CategoryService {
 
     private final CategoryRepository categoryRepository;
+    private final CategoryTreeHolder categoryTreeHolder;
 
     public List<CategoryResponse> getRootCategories() {
-        return categoryRepository.findByParentIsNullAndActiveTrueOrderBySortOrderAsc()
-                .stream()
-                .map(CategoryResponse::from)
-                .toList();
+        return categoryTreeHolder.get().getRoots();
     }
 
     public List<CategoryResponse> getSubCategories(Long parentId) {
-        return categoryRepository.findByParentIdAndActiveTrueOrderBySortOrderAsc(parentId)
-                .stream()
-                .map(CategoryResponse::from)
-                .toList();
+        return categoryTreeHolder.get().getChildren(parentId);
     }
 
     public CategoryResponse getCategoryWithChildren(Long categoryId) {
-        Category category = categoryRepository.findByIdWithChildren(categoryId)
+        return categoryTreeHolder.get().findWithChildren(categoryId)
                 .orElseThrow(ProductException::categoryNotFound);
-
-        return CategoryResponse.fromWithChildren(category);
     }
 
     public List<CategoryResponse> getAllCategories() {
-        return categoryRepository.findAllActiveOrderByDepthAndSortOrder()
-                .stream()
-                .map(CategoryResponse::from)
-                .toList();
+        return categoryTreeHolder.get().getAllActive();
+    }
+
+    public List<Long> getDescendantIds(Long categoryId) {
+        return categoryTreeHolder.get().getDescendantIds(categoryId);
     }
 
+    @Transactional(readOnly = true)
     public Category findById(Long categoryId) {
         return categoryRepository.findById(categoryId)
                 .orElseThrow(ProductException::categoryNotFound);
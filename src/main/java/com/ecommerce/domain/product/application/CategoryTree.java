@@ -0,0 +1,167 @@
+package com.ecommerce.domain.product.application;
+
+import com.ecommerce.domain.product.domain.Category;
+import com.ecommerce.domain.product.dto.CategoryResponse;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public final class CategoryTree {
+
+    private static final int NO_PARENT = -1;
+
+    private final Map<Long, Integer> indexById;
+    private final Long[] ids;
+    private final int[][] activeChildIndexes;
+    private final CategoryResponse[] responses;
+    private final CategoryResponse[] responsesWithChildren;
+    private final List<List<Long>> descendantIds;
+    private final List<CategoryResponse> roots;
+    private final List<CategoryResponse> allActive;
+
+    private CategoryTree(List<Category> categories) {
+        int size = categories.size();
+        this.indexById = new HashMap<>(size * 2);
+        this.ids = new Long[size];
+        int[] parentIndexes = new int[size];
+        this.activeChildIndexes = new int[size][];
+        this.responses = new CategoryResponse[size];
+        this.responsesWithChildren = new CategoryResponse[size];
+
+        for (int i = 0; i < size; i++) {
+            ids[i] = categories.get(i).getId();
+            indexById.put(ids[i], i);
+        }
+
+        List<List<Integer>> children = new ArrayList<>(size);
+        List<CategoryResponse> rootList = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            Category category = categories.get(i);
+            Long parentId = category.getParent() != null ? category.getParent().getId() : null;
+            parentIndexes[i] = parentId != null ? indexById.getOrDefault(parentId, NO_PARENT) : NO_PARENT;
+            responses[i] = CategoryResponse.builder()
+                    .id(category.getId())
+                    .name(category.getName())
+                    .parentId(parentId)
+                    .depth(category.getDepth())
+                    .sortOrder(category.getSortOrder())
+                    .build();
+            children.add(new ArrayList<>());
+            if (parentId == null && category.isActive()) {
+                rootList.add(responses[i]);
+            }
+        }
+
+        // 정렬된 순서대로 부모에 붙이므로 자식 목록도 sortOrder 순서를 유지한다
+        for (int i = 0; i < size; i++) {
+            if (parentIndexes[i] != NO_PARENT && categories.get(i).isActive()) {
+                children.get(parentIndexes[i]).add(i);
+            }
+        }
+        for (int i = 0; i < size; i++) {
+            activeChildIndexes[i] = children.get(i).stream().mapToInt(Integer::intValue).toArray();
+        }
+
+        List<List<Long>> descendants = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            descendants.add(null);
+        }
+        for (int i = 0; i < size; i++) {
+            buildWithChildren(i);
+            buildDescendantIds(descendants, i);
+        }
+        this.descendantIds = descendants;
+
+        this.roots = List.copyOf(rootList);
+        this.allActive = categories.stream()
+                .filter(Category::isActive)
+                .sorted(Comparator.comparingInt(Category::getDepth))
+                .map(category -> responses[indexById.get(category.getId())])
+                .toList();
+    }
+
+    public static CategoryTree of(Collection<Category> categories) {
+        List<Category> sorted = categories.stream()
+                .sorted(Comparator.comparingInt(Category::getSortOrder).thenComparing(Category::getId))
+                .toList();
+        return new CategoryTree(sorted);
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    public boolean contains(Long categoryId) {
+        return indexById.containsKey(categoryId);
+    }
+
+    public List<CategoryResponse> getRoots() {
+        return roots;
+    }
+
+    public List<CategoryResponse> getChildren(Long parentId) {
+        Integer index = indexById.get(parentId);
+        if (index == null) {
+            return List.of();
+        }
+        List<CategoryResponse> children = new ArrayList<>(activeChildIndexes[index].length);
+        for (int child : activeChildIndexes[index]) {
+            children.add(responses[child]);
+        }
+        return children;
+    }
+
+    public Optional<CategoryResponse> findWithChildren(Long categoryId) {
+        Integer index = indexById.get(categoryId);
+        return index != null ? Optional.of(responsesWithChildren[index]) : Optional.empty();
+    }
+
+    public List<CategoryResponse> getAllActive() {
+        return allActive;
+    }
+
+    public List<Long> getDescendantIds(Long categoryId) {
+        Integer index = indexById.get(categoryId);
+        return index != null ? descendantIds.get(index) : List.of();
+    }
+
+    private CategoryResponse buildWithChildren(int index) {
+        if (responsesWithChildren[index] != null) {
+            return responsesWithChildren[index];
+        }
+        List<CategoryResponse> children = new ArrayList<>(activeChildIndexes[index].length);
+        for (int child : activeChildIndexes[index]) {
+            children.add(buildWithChildren(child));
+        }
+        CategoryResponse response = responses[index];
+        responsesWithChildren[index] = CategoryResponse.builder()
+                .id(response.getId())
+                .name(response.getName())
+                .parentId(response.getParentId())
+                .depth(response.getDepth())
+                .sortOrder(response.getSortOrder())
+                .children(List.copyOf(children))
+                .build();
+        return responsesWithChildren[index];
+    }
+
+    private List<Long> buildDescendantIds(List<List<Long>> descendants, int index) {
+        if (descendants.get(index) != null) {
+            return descendants.get(index);
+        }
+        // 자기 자신과 활성 하위 카테고리 전체 (비활성 카테고리 아래는 포함하지 않음)
+        List<Long> result = new ArrayList<>();
+        result.add(ids[index]);
+        for (int child : activeChildIndexes[index]) {
+            result.addAll(buildDescendantIds(descendants, child));
+        }
+        List<Long> immutable = List.copyOf(result);
+        descendants.set(index, immutable);
+        return immutable;
+    }
+}
@@ -0,0 +1,41 @@
+package com.ecommerce.domain.product.application;
+
+import com.ecommerce.domain.product.dao.CategoryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CategoryTreeHolder {
+
+    private final CategoryRepository categoryRepository;
+    private final AtomicReference<CategoryTree> tree = new AtomicReference<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        refresh();
+    }
+
+    public CategoryTree get() {
+        CategoryTree current = tree.get();
+        if (current == null) {
+            // 애플리케이션 준비 전에 들어온 조회
+            refresh();
+            current = tree.get();
+        }
+        return current;
+    }
+
+    // 늦게 시작한 갱신이 먼저 끝난 갱신을 덮어쓰지 않도록 직렬화한다
+    public synchronized void refresh() {
+        CategoryTree loaded = CategoryTree.of(categoryRepository.findAll());
+        tree.set(loaded);
+        log.info("Loaded category tree snapshot: size={}", loaded.size());
+    }
+}
@@ -0,0 +1,33 @@
+package com.ecommerce.domain.product.application;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Component
+@RequiredArgsConstructor
+public class CategoryTreeRefreshListener {
+
+    private final CategoryTreeHolder categoryTreeHolder;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object category) {
+        // 커밋된 내용으로 스냅샷을 다시 만들어 교체한다
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    categoryTreeHolder.refresh();
+                }
+            });
+            return;
+        }
+        categoryTreeHolder.refresh();
+    }
+}
@@ -0,0 +1,70 @@
+package com.ecommerce.domain.product.application;
+
+import com.ecommerce.domain.product.domain.Product;
+import com.ecommerce.domain.product.domain.ProductOption;
+import com.ecommerce.global.config.CacheNames;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Component
+@RequiredArgsConstructor
+public class ProductCacheEvictionListener {
+
+    private final CacheManager cacheManager;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        Long productId = switch (entity) {
+            case Product product -> product.getId();
+            case ProductOption option -> option.getProduct().getId();
+            default -> null;
+        };
+        if (productId != null) {
+            evictAfterCommit(productId);
+        }
+    }
+
+    private void evictAfterCommit(Long productId) {
+        // 커밋 전에 비우면 동시 조회가 변경 전 값을 다시 캐시할 수 있으므로 커밋 이후에 비운다
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(productId);
+                }
+            });
+            return;
+        }
+        evict(productId);
+    }
+
+    void evict(Long productId) {
+        evict(CacheNames.PRODUCT, productId);
+        // 목록에는 어떤 페이지에 포함되었는지 알 수 없으므로 통째로 비운다
+        clear(CacheNames.PRODUCT_PAGES);
+        clear(CacheNames.NEW_ARRIVALS);
+    }
+
+    private void evict(String cacheName, Object key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.evict(key);
+        }
+    }
+
+    private void clear(String cacheName) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.ecommerce.domain.product.application;
+
+import com.ecommerce.domain.product.dto.ProductSearchRequest;
+
+record ProductListingKey(Long categoryId, boolean includeSubcategories, int page, int size, String sort, String direction) {
+
+    static ProductListingKey from(ProductSearchRequest request) {
+        return new ProductListingKey(
+                request.getCategoryId(),
+                request.isIncludeSubcategories(),
+                request.getPage(),
+                request.getSize(),
+                request.getSort(),
+                "asc".equalsIgnoreCase(request.getDirection()) ? "asc" : "desc"
+        );
+    }
+}
@@ -0,0 +1,73 @@
+package com.ecommerce.domain.product.application;
+
+import com.ecommerce.domain.product.dao.ProductRepository;
+import com.ecommerce.domain.product.domain.ProductStatus;
+import com.ecommerce.domain.product.dto.ProductListResponse;
+import com.ecommerce.domain.product.dto.ProductSearchRequest;
+import com.ecommerce.global.common.PageResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+// 상품 목록 페이지를 DB에서 읽는다. 목록 캐시 미스일 때만 호출되어, 조회와 카운트 쿼리를 한 읽기 전용 트랜잭션으로 묶는다
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ProductListingReader {
+
+    private final ProductRepository productRepository;
+    private final CategoryService categoryService;
+
+    public PageResponse<ProductListResponse> findProducts(ProductSearchRequest request) {
+        PageRequest pageRequest = createPageRequest(request);
+
+        // 목록 화면에 필요한 컬럼만 프로젝션으로 읽어 엔티티 생성과 영속성 컨텍스트 적재를 생략한다
+        Page<ProductListResponse> productPage;
+
+        if (request.getKeyword() != null && !request.getKeyword().isBlank()) {
+            productPage = productRepository.searchByKeyword(
+                    request.getKeyword(),
+                    ProductStatus.ACTIVE,
+                    pageRequest
+            ).map(ProductListResponse::from);
+        } else if (request.getCategoryId() != null && request.isIncludeSubcategories()) {
+            productPage = productRepository.findListRowsByCategoryIdsAndStatus(
+                    categoryService.getDescendantIds(request.getCategoryId()),
+                    ProductStatus.ACTIVE,
+                    pageRequest
+            ).map(ProductListResponse::from);
+        } else if (request.getCategoryId() != null) {
+            productPage = productRepository.findListRowsByCategoryIdAndStatus(
+                    request.getCategoryId(),
+                    ProductStatus.ACTIVE,
+                    pageRequest
+            ).map(ProductListResponse::from);
+        } else {
+            productPage = productRepository.findListRowsByStatus(ProductStatus.ACTIVE, pageRequest)
+                    .map(ProductListResponse::from);
+        }
+
+        return PageResponse.of(
+                productPage.getContent(),
+                productPage.getNumber(),
+                productPage.getSize(),
+                productPage.getTotalElements(),
+                productPage.getTotalPages()
+        );
+    }
+
+    static PageRequest createPageRequest(ProductSearchRequest request) {
+        Sort.Direction direction = "asc".equalsIgnoreCase(request.getDirection())
+                ? Sort.Direction.ASC
+                : Sort.Direction.DESC;
+
+        return PageRequest.of(
+                request.getPage(),
+                request.getSize(),
+                Sort.by(direction, request.getSort())
+        );
+    }
+}
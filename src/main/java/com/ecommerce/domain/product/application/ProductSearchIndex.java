@@ -0,0 +1,121 @@
+package com.ecommerce.domain.product.application;
+
+import com.ecommerce.domain.product.domain.Product;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+@Component
+public class ProductSearchIndex {
+
+    private static final int NAME_WEIGHT = 3;
+    private static final int DESCRIPTION_WEIGHT = 1;
+
+    private final ConcurrentMap<String, ConcurrentMap<Long, Integer>> postings = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Long, Set<String>> termsByProduct = new ConcurrentHashMap<>();
+    private volatile boolean ready;
+
+    public boolean canSearch(String keyword) {
+        return ready && ProductSearchTokenizer.isSearchable(keyword);
+    }
+
+    public void markReady() {
+        this.ready = true;
+    }
+
+    public int size() {
+        return termsByProduct.size();
+    }
+
+    public void index(Product product) {
+        if (!product.isPurchasable()) {
+            remove(product.getId());
+            return;
+        }
+        index(product.getId(), product.getName(), product.getDescription());
+    }
+
+    public synchronized void index(Long productId, String name, String description) {
+        Map<String, Integer> weights = new HashMap<>();
+        ProductSearchTokenizer.terms(name).forEach(term -> weights.merge(term, NAME_WEIGHT, Integer::sum));
+        ProductSearchTokenizer.terms(description).forEach(term -> weights.merge(term, DESCRIPTION_WEIGHT, Integer::sum));
+
+        removePostings(productId);
+        weights.forEach((term, weight) ->
+                postings.computeIfAbsent(term, key -> new ConcurrentHashMap<>()).put(productId, weight));
+        termsByProduct.put(productId, Set.copyOf(weights.keySet()));
+    }
+
+    public synchronized void remove(Long productId) {
+        removePostings(productId);
+        termsByProduct.remove(productId);
+    }
+
+    public List<Long> search(String keyword) {
+        List<String> grams = ProductSearchTokenizer.queryGrams(keyword);
+        if (grams.isEmpty()) {
+            return List.of();
+        }
+
+        // 가장 짧은 색인부터 교집합을 구해 후보를 줄인다
+        List<Map<Long, Integer>> lists = new ArrayList<>(grams.size());
+        for (String gram : grams) {
+            Map<Long, Integer> posting = postings.get(gram);
+            if (posting == null || posting.isEmpty()) {
+                return List.of();
+            }
+            lists.add(posting);
+        }
+        lists.sort(Comparator.comparingInt(Map::size));
+
+        Set<Long> candidates = new HashSet<>(lists.get(0).keySet());
+        for (int i = 1; i < lists.size() && !candidates.isEmpty(); i++) {
+            candidates.retainAll(lists.get(i).keySet());
+        }
+
+        List<Map<Long, Integer>> wordPostings = ProductSearchTokenizer.words(keyword).stream()
+                .map(postings::get)
+                .filter(Objects::nonNull)
+                .toList();
+
+        Map<Long, Integer> scores = new HashMap<>(candidates.size());
+        for (Long productId : candidates) {
+            int score = 0;
+            for (Map<Long, Integer> posting : lists) {
+                score += posting.getOrDefault(productId, 0);
+            }
+            for (Map<Long, Integer> posting : wordPostings) {
+                score += posting.getOrDefault(productId, 0) * grams.size();
+            }
+            scores.put(productId, score);
+        }
+
+        return scores.entrySet().stream()
+                .sorted(Map.Entry.<Long, Integer>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.<Long, Integer>comparingByKey().reversed()))
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    private void removePostings(Long productId) {
+        Set<String> terms = termsByProduct.get(productId);
+        if (terms == null) {
+            return;
+        }
+        for (String term : terms) {
+            postings.computeIfPresent(term, (key, posting) -> {
+                posting.remove(productId);
+                return posting.isEmpty() ? null : posting;
+            });
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.ecommerce.domain.product.application;
+
+import com.ecommerce.domain.product.dao.ProductRepository;
+import com.ecommerce.domain.product.domain.Product;
+import com.ecommerce.domain.product.domain.ProductStatus;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductSearchIndexSynchronizer {
+
+    private static final int LOAD_BATCH_SIZE = 1000;
+
+    private final ProductSearchIndex productSearchIndex;
+    private final ProductRepository productRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        int page = 0;
+        Page<Product> products;
+        do {
+            products = productRepository.findByStatus(ProductStatus.ACTIVE,
+                    PageRequest.of(page++, LOAD_BATCH_SIZE, Sort.by("id")));
+            products.forEach(productSearchIndex::index);
+        } while (products.hasNext());
+
+        productSearchIndex.markReady();
+        log.info("Built product search index: size={}", productSearchIndex.size());
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onChange(Product product) {
+        // 콜백 시점의 값을 잡아 두고 커밋된 경우에만 색인에 반영한다
+        Long productId = product.getId();
+        boolean searchable = product.isPurchasable();
+        String name = product.getName();
+        String description = product.getDescription();
+
+        afterCommit(() -> {
+            if (searchable) {
+                productSearchIndex.index(productId, name, description);
+            } else {
+                productSearchIndex.remove(productId);
+            }
+        });
+    }
+
+    @PostRemove
+    public void onRemove(Product product) {
+        Long productId = product.getId();
+        afterCommit(() -> productSearchIndex.remove(productId));
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+            return;
+        }
+        action.run();
+    }
+}
@@ -0,0 +1,70 @@
+package com.ecommerce.domain.product.application;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+final class ProductSearchTokenizer {
+
+    static final int GRAM_SIZE = 2;
+
+    private static final Pattern SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private ProductSearchTokenizer() {
+    }
+
+    static List<String> words(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        return Arrays.stream(SEPARATOR.split(normalized))
+                .filter(word -> !word.isEmpty())
+                .toList();
+    }
+
+    // 한글은 띄어쓰기/조사 결합이 자유로워 형태소 대신 2-gram으로 부분 일치를 지원한다
+    static Set<String> grams(String word) {
+        Set<String> grams = new LinkedHashSet<>();
+        int[] codePoints = word.codePoints().toArray();
+        for (int i = 0; i + GRAM_SIZE <= codePoints.length; i++) {
+            grams.add(new String(codePoints, i, GRAM_SIZE));
+        }
+        return grams;
+    }
+
+    static Set<String> terms(String text) {
+        Set<String> terms = new LinkedHashSet<>();
+        for (String word : words(text)) {
+            terms.addAll(grams(word));
+            // 3글자 이상 단어는 단어 전체도 색인해 정확히 일치하는 상품을 앞에 둔다
+            if (word.codePointCount(0, word.length()) > GRAM_SIZE) {
+                terms.add(word);
+            }
+        }
+        return terms;
+    }
+
+    static boolean isSearchable(String keyword) {
+        List<String> words = words(keyword);
+        return !words.isEmpty()
+                && words.stream().allMatch(word -> word.codePointCount(0, word.length()) >= GRAM_SIZE);
+    }
+
+    static List<String> queryGrams(String keyword) {
+        List<String> grams = new ArrayList<>();
+        for (String word : words(keyword)) {
+            for (String gram : grams(word)) {
+                if (!grams.contains(gram)) {
+                    grams.add(gram);
+                }
+            }
+        }
+        return grams;
+    }
+}
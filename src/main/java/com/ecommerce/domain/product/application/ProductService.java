@@ -4,18 +4,32 @@ import com.ecommerce.domain.product.dao.ProductRepository;
 import com.ecommerce.domain.product.domain.Product;
 import com.ecommerce.domain.product.domain.ProductStatus;
 import com.ecommerce.domain.product.dto.ProductListResponse;
+import com.ecommerce.domain.product.dto.ProductListRow;
 import com.ecommerce.domain.product.dto.ProductResponse;
 import com.ecommerce.domain.product.dto.ProductSearchRequest;
 import com.ecommerce.domain.product.exception.ProductException;
+import com.ecommerce.global.common.CursorResponse;
+import com.ecommerce.global.common.PageCursor;
 import com.ecommerce.global.common.PageResponse;
+import com.ecommerce.global.config.CacheNames;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -23,7 +37,14 @@ import java.util.List;
 public class ProductService {
 
     private final ProductRepository productRepository;
+    private final ProductSearchIndex productSearchIndex;
+    private final CacheManager cacheManager;
+    private final ProductListingReader productListingReader;
 
+    @Value("${cache.product-listing.cached-pages:5}")
+    private int cachedPages;
+
+    @Cacheable(cacheNames = CacheNames.PRODUCT, key = "#productId")
     public ProductResponse getProduct(Long productId) {
         Product product = productRepository.findByIdWithCategoryAndOptions(productId)
                 .orElseThrow(ProductException::notFound);
@@ -42,42 +63,92 @@ public class ProductService {
         return ProductResponse.fromWithOptions(product);
     }
 
+    // 캐시 적중 시 트랜잭션과 커넥션 없이 응답한다. 미스일 때만 ProductListingReader가 읽기 전용 트랜잭션에서 조회한다
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public PageResponse<ProductListResponse> getProducts(ProductSearchRequest request) {
-        PageRequest pageRequest = createPageRequest(request);
-
-        Page<Product> productPage;
-
-        if (request.getKeyword() != null && !request.getKeyword().isBlank()) {
-            productPage = productRepository.searchByKeyword(
-                    request.getKeyword(),
-                    ProductStatus.ACTIVE,
-                    pageRequest
-            );
-        } else if (request.getCategoryId() != null) {
-            productPage = productRepository.findByCategoryIdAndStatus(
-                    request.getCategoryId(),
-                    ProductStatus.ACTIVE,
-                    pageRequest
-            );
-        } else {
-            productPage = productRepository.findByStatus(ProductStatus.ACTIVE, pageRequest);
+        if (hasKeyword(request) && productSearchIndex.canSearch(request.getKeyword())) {
+            return searchByIndex(request);
+        }
+        if (isCacheableListing(request)) {
+            Cache cache = cacheManager.getCache(CacheNames.PRODUCT_PAGES);
+            if (cache != null) {
+                return cache.get(ProductListingKey.from(request), () -> productListingReader.findProducts(request));
+            }
         }
+        return productListingReader.findProducts(request);
+    }
+
+    private boolean hasKeyword(ProductSearchRequest request) {
+        return request.getKeyword() != null && !request.getKeyword().isBlank();
+    }
 
-        List<ProductListResponse> content = productPage.getContent().stream()
+    private boolean isCacheableListing(ProductSearchRequest request) {
+        // 검색어 조회는 조합이 많아 적중률이 낮으므로 상태/카테고리 목록의 앞쪽 페이지만 캐시한다
+        return !hasKeyword(request) && request.getPage() < cachedPages;
+    }
+
+    private PageResponse<ProductListResponse> searchByIndex(ProductSearchRequest request) {
+        PageRequest pageRequest = ProductListingReader.createPageRequest(request);
+        // 색인에서 순위와 페이지를 정한 뒤 해당 페이지의 상품만 ID로 조회한다
+        List<Long> rankedIds = productSearchIndex.search(request.getKeyword());
+        int from = (int) Math.min(pageRequest.getOffset(), rankedIds.size());
+        int to = Math.min(from + pageRequest.getPageSize(), rankedIds.size());
+        List<Long> pageIds = rankedIds.subList(from, to);
+
+        Map<Long, ProductListRow> rows = pageIds.isEmpty()
+                ? Map.of()
+                : productRepository.findListRowsByIdIn(pageIds).stream()
+                        .collect(Collectors.toMap(ProductListRow::id, Function.identity()));
+
+        List<ProductListResponse> content = pageIds.stream()
+                .map(rows::get)
+                .filter(Objects::nonNull)
                 .map(ProductListResponse::from)
                 .toList();
 
+        int totalPages = (rankedIds.size() + pageRequest.getPageSize() - 1) / pageRequest.getPageSize();
         return PageResponse.of(
                 content,
-                productPage.getNumber(),
-                productPage.getSize(),
-                productPage.getTotalElements(),
-                productPage.getTotalPages()
+                pageRequest.getPageNumber(),
+                pageRequest.getPageSize(),
+                rankedIds.size(),
+                totalPages
         );
     }
 
+    public CursorResponse<ProductListResponse> getProductsByCursor(Long categoryId, String cursor, int size) {
+        PageCursor pageCursor = PageCursor.decode(cursor);
+        Pageable pageable = PageCursor.limit(size);
+
+        Slice<Product> productSlice;
+        if (categoryId != null) {
+            productSlice = pageCursor == null
+                    ? productRepository.findSliceByCategoryIdAndStatus(categoryId, ProductStatus.ACTIVE, pageable)
+                    : productRepository.findSliceByCategoryIdAndStatusBefore(
+                            categoryId, ProductStatus.ACTIVE, pageCursor.createdAt(), pageCursor.id(), pageable);
+        } else {
+            productSlice = pageCursor == null
+                    ? productRepository.findSliceByStatus(ProductStatus.ACTIVE, pageable)
+                    : productRepository.findSliceByStatusBefore(
+                            ProductStatus.ACTIVE, pageCursor.createdAt(), pageCursor.id(), pageable);
+        }
+
+        List<Product> products = productSlice.getContent();
+        PageCursor nextCursor = null;
+        if (productSlice.hasNext()) {
+            Product last = products.getLast();
+            nextCursor = PageCursor.of(last.getCreatedAt(), last.getId());
+        }
+
+        List<ProductListResponse> content = products.stream()
+                .map(ProductListResponse::from)
+                .toList();
+        return CursorResponse.of(content, pageable.getPageSize(), nextCursor);
+    }
+
+    @Cacheable(cacheNames = CacheNames.NEW_ARRIVALS, key = "'top10'")
     public List<ProductListResponse> getNewArrivals() {
-        return productRepository.findTop10ByStatusOrderByCreatedAtDesc(ProductStatus.ACTIVE)
+        return productRepository.findNewArrivalRows(ProductStatus.ACTIVE, PageRequest.of(0, 10))
                 .stream()
                 .map(ProductListResponse::from)
                 .toList();
@@ -93,15 +164,12 @@ public class ProductService {
                 .orElseThrow(ProductException::notFound);
     }
 
-    private PageRequest createPageRequest(ProductSearchRequest request) {
-        Sort.Direction direction = "asc".equalsIgnoreCase(request.getDirection())
-                ? Sort.Direction.ASC
-                : Sort.Direction.DESC;
-
-        return PageRequest.of(
-                request.getPage(),
-                request.getSize(),
-                Sort.by(direction, request.getSort())
-        );
+    public Map<Long, Product> findAllByIdsWithOptions(Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return Map.of();
+        }
+        return productRepository.findAllByIdWithCategoryAndOptions(productIds)
+                .stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
     }
 }
@@ -2,12 +2,16 @@ package com.ecommerce.domain.product.dao;
 
 import com.ecommerce.domain.product.domain.Product;
 import com.ecommerce.domain.product.domain.ProductStatus;
+import com.ecommerce.domain.product.dto.ProductListRow;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,9 +23,37 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
     @Query("SELECT p FROM Product p JOIN FETCH p.category LEFT JOIN FETCH p.options WHERE p.id = :id")
     Optional<Product> findByIdWithCategoryAndOptions(@Param("id") Long id);
 
+    @Query("SELECT DISTINCT p FROM Product p JOIN FETCH p.category LEFT JOIN FETCH p.options WHERE p.id IN :ids")
+    List<Product> findAllByIdWithCategoryAndOptions(@Param("ids") Collection<Long> ids);
+
     Page<Product> findByStatus(ProductStatus status, Pageable pageable);
 
-    Page<Product> findByCategoryIdAndStatus(Long categoryId, ProductStatus status, Pageable pageable);
+    @Query("SELECT p FROM Product p JOIN FETCH p.category WHERE p.status = :status " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    Slice<Product> findSliceByStatus(@Param("status") ProductStatus status, Pageable pageable);
+
+    @Query("SELECT p FROM Product p JOIN FETCH p.category WHERE p.status = :status " +
+           "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    Slice<Product> findSliceByStatusBefore(@Param("status") ProductStatus status,
+                                           @Param("createdAt") LocalDateTime createdAt,
+                                           @Param("id") Long id,
+                                           Pageable pageable);
+
+    @Query("SELECT p FROM Product p JOIN FETCH p.category WHERE p.category.id = :categoryId AND p.status = :status " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    Slice<Product> findSliceByCategoryIdAndStatus(@Param("categoryId") Long categoryId,
+                                                  @Param("status") ProductStatus status,
+                                                  Pageable pageable);
+
+    @Query("SELECT p FROM Product p JOIN FETCH p.category WHERE p.category.id = :categoryId AND p.status = :status " +
+           "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    Slice<Product> findSliceByCategoryIdAndStatusBefore(@Param("categoryId") Long categoryId,
+                                                        @Param("status") ProductStatus status,
+                                                        @Param("createdAt") LocalDateTime createdAt,
+                                                        @Param("id") Long id,
+                                                        Pageable pageable);
 
     @Query("SELECT p FROM Product p WHERE p.status = :status AND " +
            "(p.name LIKE %:keyword% OR p.description LIKE %:keyword%)")
@@ -29,10 +61,29 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
                                    @Param("status") ProductStatus status,
                                    Pageable pageable);
 
-    @Query("SELECT p FROM Product p WHERE p.category.id IN :categoryIds AND p.status = :status")
-    Page<Product> findByCategoryIdsAndStatus(@Param("categoryIds") List<Long> categoryIds,
-                                              @Param("status") ProductStatus status,
-                                              Pageable pageable);
+    String LIST_ROW = "SELECT new com.ecommerce.domain.product.dto.ProductListRow(" +
+            "p.id, p.name, p.basePrice.amount, p.sellingPrice.amount, c.name, p.hasOption, p.thumbnailUrl) " +
+            "FROM Product p JOIN p.category c ";
+
+    @Query(value = LIST_ROW + "WHERE p.status = :status",
+           countQuery = "SELECT COUNT(p) FROM Product p WHERE p.status = :status")
+    Page<ProductListRow> findListRowsByStatus(@Param("status") ProductStatus status, Pageable pageable);
+
+    @Query(value = LIST_ROW + "WHERE c.id = :categoryId AND p.status = :status",
+           countQuery = "SELECT COUNT(p) FROM Product p WHERE p.category.id = :categoryId AND p.status = :status")
+    Page<ProductListRow> findListRowsByCategoryIdAndStatus(@Param("categoryId") Long categoryId,
+                                                           @Param("status") ProductStatus status,
+                                                           Pageable pageable);
+
+    @Query(value = LIST_ROW + "WHERE c.id IN :categoryIds AND p.status = :status",
+           countQuery = "SELECT COUNT(p) FROM Product p WHERE p.category.id IN :categoryIds AND p.status = :status")
+    Page<ProductListRow> findListRowsByCategoryIdsAndStatus(@Param("categoryIds") List<Long> categoryIds,
+                                                            @Param("status") ProductStatus status,
+                                                            Pageable pageable);
+
+    @Query(LIST_ROW + "WHERE p.id IN :ids")
+    List<ProductListRow> findListRowsByIdIn(@Param("ids") Collection<Long> ids);
 
-    List<Product> findTop10ByStatusOrderByCreatedAtDesc(ProductStatus status);
+    @Query(LIST_ROW + "WHERE p.status = :status ORDER BY p.createdAt DESC, p.id DESC")
+    List<ProductListRow> findNewArrivalRows(@Param("status") ProductStatus status, Pageable pageable);
 }
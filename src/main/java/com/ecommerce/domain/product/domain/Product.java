@@ -12,7 +12,11 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "products")
+@Table(name = "products", indexes = {
+        @Index(name = "idx_products_status_created_at_id", columnList = "status, created_at, id"),
+        @Index(name = "idx_products_category_id_status_created_at_id",
+                columnList = "category_id, status, created_at, id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Product extends BaseTimeEntity {
@@ -124,10 +128,13 @@ public class Product extends BaseTimeEntity {
     }
 
     public long getDiscountRate() {
-        if (basePrice.isZero() || basePrice.equals(sellingPrice)) {
+        return calculateDiscountRate(basePrice.getAmount(), sellingPrice.getAmount());
+    }
+
+    public static long calculateDiscountRate(long basePrice, long sellingPrice) {
+        if (basePrice == 0 || basePrice == sellingPrice) {
             return 0;
         }
-        long discount = basePrice.getAmount() - sellingPrice.getAmount();
-        return (discount * 100) / basePrice.getAmount();
+        return ((basePrice - sellingPrice) * 100) / basePrice;
     }
 }
@@ -29,4 +29,17 @@ public class ProductListResponse {
                 .thumbnailUrl(product.getThumbnailUrl())
                 .build();
     }
+
+    public static ProductListResponse from(ProductListRow row) {
+        return ProductListResponse.builder()
+                .id(row.id())
+                .name(row.name())
+                .basePrice(row.basePrice())
+                .sellingPrice(row.sellingPrice())
+                .discountRate(Product.calculateDiscountRate(row.basePrice(), row.sellingPrice()))
+                .categoryName(row.categoryName())
+                .hasOption(row.hasOption())
+                .thumbnailUrl(row.thumbnailUrl())
+                .build();
+    }
 }
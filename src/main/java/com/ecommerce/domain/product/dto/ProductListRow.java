@@ -0,0 +1,13 @@
+package com.ecommerce.domain.product.dto;
+
+// 목록 조회 전용 프로젝션: 엔티티를 만들지 않고 필요한 컬럼만 읽는다
+public record ProductListRow(
+        Long id,
+        String name,
+        long basePrice,
+        long sellingPrice,
+        String categoryName,
+        boolean hasOption,
+        String thumbnailUrl
+) {
+}
@@ -9,6 +9,7 @@ public class ProductSearchRequest {
 
     private String keyword;
     private Long categoryId;
+    private boolean includeSubcategories = false;
     private int page = 0;
     private int size = 20;
     private String sort = "createdAt";
@@ -0,0 +1,30 @@
+package com.ecommerce.global.common;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class CursorResponse<T> {
+
+    private final List<T> content;
+    private final int size;
+    private final boolean hasNext;
+    private final String nextCursor;
+
+    private CursorResponse(List<T> content, int size, boolean hasNext, String nextCursor) {
+        this.content = content;
+        this.size = size;
+        this.hasNext = hasNext;
+        this.nextCursor = nextCursor;
+    }
+
+    public static <T> CursorResponse<T> of(List<T> content, int size, PageCursor nextCursor) {
+        return new CursorResponse<>(
+                content,
+                size,
+                nextCursor != null,
+                nextCursor != null ? nextCursor.encode() : null
+        );
+    }
+}
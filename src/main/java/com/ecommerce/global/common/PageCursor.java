@@ -0,0 +1,47 @@
+package com.ecommerce.global.common;
+
+import com.ecommerce.global.error.BusinessException;
+import com.ecommerce.global.error.ErrorCode;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+public record PageCursor(LocalDateTime createdAt, Long id) {
+
+    private static final String DELIMITER = "_";
+    private static final int MAX_SIZE = 100;
+
+    public static PageCursor of(LocalDateTime createdAt, Long id) {
+        return new PageCursor(createdAt, id);
+    }
+
+    public static PageCursor decode(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            int delimiter = decoded.lastIndexOf(DELIMITER);
+            return new PageCursor(
+                    LocalDateTime.parse(decoded.substring(0, delimiter)),
+                    Long.parseLong(decoded.substring(delimiter + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT, "유효하지 않은 커서입니다");
+        }
+    }
+
+    // 정렬은 쿼리에 고정되어 있으므로 크기만 담고, 다음 페이지 여부는 size + 1건 조회로 판단한다 (COUNT 없음)
+    public static Pageable limit(int size) {
+        return PageRequest.of(0, Math.clamp(size, 1, MAX_SIZE));
+    }
+
+    public String encode() {
+        String raw = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
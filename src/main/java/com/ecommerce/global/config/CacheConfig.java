@@ -0,0 +1,47 @@
+package com.ecommerce.global.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.time.Duration;
+
+// 캐시 적중 시 트랜잭션(커넥션 획득)을 시작하지 않도록 트랜잭션 어드바이스보다 바깥에서 동작
+@Configuration
+@EnableCaching(order = Ordered.LOWEST_PRECEDENCE - 1)
+public class CacheConfig {
+
+    @Bean
+    public CacheManager cacheManager(
+            @Value("${cache.product.maximum-size:10000}") long productMaximumSize,
+            @Value("${cache.product.ttl-seconds:600}") long productTtlSeconds,
+            @Value("${cache.product-listing.maximum-size:1000}") long listingMaximumSize,
+            @Value("${cache.product-listing.ttl-seconds:60}") long listingTtlSeconds,
+            @Value("${cache.member.maximum-size:10000}") long memberMaximumSize,
+            @Value("${cache.member.ttl-seconds:300}") long memberTtlSeconds) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setAllowNullValues(false);
+        // 미리 등록한 캐시만 Actuator 캐시 지표(cache.gets, cache.evictions)에 바인딩된다
+        cacheManager.registerCustomCache(CacheNames.PRODUCT,
+                caffeine(productMaximumSize, productTtlSeconds).build());
+        cacheManager.registerCustomCache(CacheNames.PRODUCT_PAGES,
+                caffeine(listingMaximumSize, listingTtlSeconds).build());
+        cacheManager.registerCustomCache(CacheNames.NEW_ARRIVALS,
+                caffeine(1, listingTtlSeconds).build());
+        cacheManager.registerCustomCache(CacheNames.MEMBER,
+                caffeine(memberMaximumSize, memberTtlSeconds).build());
+        return cacheManager;
+    }
+
+    private Caffeine<Object, Object> caffeine(long maximumSize, long ttlSeconds) {
+        return Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats();
+    }
+}
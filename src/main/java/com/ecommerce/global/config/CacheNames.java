@@ -0,0 +1,12 @@
+package com.ecommerce.global.config;
+
+public final class CacheNames {
+
+    public static final String PRODUCT = "product";
+    public static final String PRODUCT_PAGES = "productPages";
+    public static final String NEW_ARRIVALS = "newArrivals";
+    public static final String MEMBER = "member";
+
+    private CacheNames() {
+    }
+}
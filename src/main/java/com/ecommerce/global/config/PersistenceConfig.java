@@ -0,0 +1,26 @@
+package com.ecommerce.global.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class PersistenceConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchingCustomizer(
+            @Value("${persistence.jdbc.batch-size:50}") int batchSize,
+            @Value("${persistence.id.optimizer:pooled}") String idOptimizer) {
+        return properties -> {
+            // 같은 테이블 INSERT/UPDATE를 모아 JDBC 배치로 전송
+            properties.put(AvailableSettings.STATEMENT_BATCH_SIZE, batchSize);
+            properties.put(AvailableSettings.ORDER_INSERTS, true);
+            properties.put(AvailableSettings.ORDER_UPDATES, true);
+            properties.put(AvailableSettings.BATCH_VERSIONED_DATA, true);
+            // SEQUENCE 전략 엔티티는 allocationSize 단위로 ID를 미리 할당
+            properties.put(AvailableSettings.PREFERRED_POOLED_OPTIMIZER, idOptimizer);
+        };
+    }
+}
@@ -0,0 +1,79 @@
+package com.ecommerce.global.config;
+
+import com.ecommerce.global.error.ErrorCode;
+import com.ecommerce.global.error.ErrorResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+// 가상 스레드는 요청마다 만들어지므로 동시에 DB로 향하는 API 요청 수를 세마포어로 제한한다
+public class RequestBulkheadFilter extends OncePerRequestFilter {
+
+    private final Semaphore permits;
+    private final long acquireTimeoutMs;
+    private final JsonMapper jsonMapper;
+    private final Counter rejectedCounter;
+
+    public RequestBulkheadFilter(int maxConcurrentRequests, long acquireTimeoutMs,
+                                 JsonMapper jsonMapper, MeterRegistry meterRegistry) {
+        this.permits = new Semaphore(maxConcurrentRequests, true);
+        this.acquireTimeoutMs = acquireTimeoutMs;
+        this.jsonMapper = jsonMapper;
+
+        Gauge.builder("http.bulkhead.available", permits, Semaphore::availablePermits)
+                .description("남은 동시 요청 허용 수")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("http.bulkhead.rejected")
+                .description("동시 요청 한도 초과로 거절된 요청 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+
+        if (!acquired) {
+            rejectedCounter.increment();
+            reject(response);
+            return;
+        }
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private void reject(HttpServletResponse response) throws IOException {
+        ErrorCode errorCode = ErrorCode.SERVICE_BUSY;
+        response.setStatus(errorCode.getStatus());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write(jsonMapper.writeValueAsString(ErrorResponse.of(errorCode)));
+    }
+}
@@ -1,8 +1,11 @@
 package com.ecommerce.global.config;
 
+import com.ecommerce.global.security.BoundedPasswordEncoder;
 import com.ecommerce.global.security.JwtAuthenticationFilter;
 import com.ecommerce.global.security.JwtTokenProvider;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.annotation.Order;
@@ -12,10 +15,14 @@ import org.springframework.security.config.annotation.web.configurers.AbstractHt
 import org.springframework.security.config.annotation.web.configurers.HeadersConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import java.util.Map;
+
 @Configuration
 @EnableWebSecurity
 @RequiredArgsConstructor
@@ -64,8 +71,29 @@ public class SecurityConfig {
                 .build();
     }
 
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder(12);
+    // 해시 1회에 수백 ms의 CPU를 쓰므로 코어 수 이하의 전용 풀에서만 실행한다
+    @Bean(destroyMethod = "shutdown")
+    public PasswordEncoder passwordEncoder(
+            MeterRegistry meterRegistry,
+            @Value("${auth.password.encoder-id:bcrypt}") String encoderId,
+            @Value("${auth.password.bcrypt-strength:12}") int bcryptStrength,
+            @Value("${auth.password-hashing.threads:0}") int threads,
+            @Value("${auth.password-hashing.queue-capacity:50}") int queueCapacity,
+            @Value("${auth.password-hashing.timeout-ms:2000}") long timeoutMs) {
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        return new BoundedPasswordEncoder(delegatingPasswordEncoder(encoderId, bcryptStrength),
+                poolSize, queueCapacity, timeoutMs, meterRegistry);
+    }
+
+    // 저장된 해시의 {id} 접두사로 알고리즘을 고르고 새 해시는 encoderId로 만든다.
+    // 접두사가 없는 기존 해시는 BCrypt로 검사하고, 다음 로그인 때 접두사가 붙은 현재 설정으로 다시 해시된다
+    static PasswordEncoder delegatingPasswordEncoder(String encoderId, int bcryptStrength) {
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(bcryptStrength);
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(encoderId, Map.of(
+                "bcrypt", bcrypt,
+                "pbkdf2", Pbkdf2PasswordEncoder.defaultsForSpringSecurity_v5_8()
+        ));
+        encoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        return encoder;
     }
 }
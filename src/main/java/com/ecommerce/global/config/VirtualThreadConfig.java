@@ -0,0 +1,30 @@
+package com.ecommerce.global.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import tools.jackson.databind.json.JsonMapper;
+
+// spring.threads.virtual.enabled=true 이면 Tomcat 요청, @Async, @Scheduled 실행기가 가상 스레드로 바뀐다.
+// 요청 스레드 수가 더 이상 풀 크기로 제한되지 않으므로 벌크헤드로 동시 요청 수를 커넥션 풀에 맞춰 제한한다
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    @Bean
+    public FilterRegistrationBean<RequestBulkheadFilter> requestBulkheadFilter(
+            JsonMapper jsonMapper,
+            MeterRegistry meterRegistry,
+            @Value("${bulkhead.max-concurrent-requests:40}") int maxConcurrentRequests,
+            @Value("${bulkhead.acquire-timeout-ms:500}") long acquireTimeoutMs) {
+        FilterRegistrationBean<RequestBulkheadFilter> registration = new FilterRegistrationBean<>(
+                new RequestBulkheadFilter(maxConcurrentRequests, acquireTimeoutMs, jsonMapper, meterRegistry));
+        // 인증 전에 거절해 토큰 검증 비용도 아낀다
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+}
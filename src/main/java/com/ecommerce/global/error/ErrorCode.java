@@ -13,6 +13,7 @@ public enum ErrorCode {
     FORBIDDEN("C003", "접근 권한이 없습니다", 403),
     NOT_FOUND("C004", "리소스를 찾을 수 없습니다", 404),
     INTERNAL_SERVER_ERROR("C005", "서버 오류가 발생했습니다", 500),
+    SERVICE_BUSY("C006", "요청이 많아 잠시 후 다시 시도해주세요", 503),
 
     // Member
     MEMBER_NOT_FOUND("M001", "회원을 찾을 수 없습니다", 404),
@@ -25,6 +26,7 @@ public enum ErrorCode {
     CANNOT_DELETE_DEFAULT_ADDRESS("M008", "기본 배송지는 삭제할 수 없습니다", 400),
     CANNOT_WITHDRAW_WITH_PENDING_ORDER("M009", "진행 중인 주문이 있어 탈퇴할 수 없습니다", 400),
     EMAIL_RECENTLY_WITHDRAWN("M010", "탈퇴 후 30일 이내 재가입 불가합니다", 400),
+    TOO_MANY_LOGIN_ATTEMPTS("M011", "로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요", 429),
 
     // Product
     PRODUCT_NOT_FOUND("P001", "상품을 찾을 수 없습니다", 404),
@@ -64,7 +66,9 @@ public enum ErrorCode {
     COUPON_ALREADY_USED("CP007", "이미 사용된 쿠폰입니다", 400),
     COUPON_QUANTITY_EXCEEDED("CP008", "쿠폰 발급 수량이 초과되었습니다", 400),
     COUPON_MIN_ORDER_AMOUNT_NOT_MET("CP009", "최소 주문 금액 조건을 충족하지 않습니다", 400),
-    COUPON_CANNOT_RESTORE("CP010", "쿠폰을 복원할 수 없습니다", 400);
+    COUPON_CANNOT_RESTORE("CP010", "쿠폰을 복원할 수 없습니다", 400),
+    COUPON_ISSUE_QUEUE_FULL("CP011", "쿠폰 발급 요청이 많아 잠시 후 다시 시도해주세요", 429),
+    COUPON_ISSUE_TICKET_NOT_FOUND("CP012", "쿠폰 발급 요청을 찾을 수 없습니다", 404);
 
     private final String code;
     private final String message;
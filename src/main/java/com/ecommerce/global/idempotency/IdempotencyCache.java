@@ -0,0 +1,88 @@
+package com.ecommerce.global.idempotency;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+// 멱등 키를 DB 조회 전에 메모리에서 원자적으로 선점한다.
+// 동시에 들어온 중복 요청은 첫 요청의 future를 함께 기다리고, 완료된 응답은 TTL 동안 DB 접근 없이 돌려준다.
+// idempotency_records 테이블은 재시작/다중 인스턴스를 위한 최종 방어선으로 그대로 둔다
+@Component
+public class IdempotencyCache {
+
+    private final Cache<Key, CompletableFuture<Object>> entries;
+    private final long waitTimeoutMs;
+
+    public IdempotencyCache(MeterRegistry meterRegistry,
+                            @Value("${idempotency.cache.maximum-size:100000}") long maximumSize,
+                            @Value("${idempotency.cache.ttl-seconds:600}") long ttlSeconds,
+                            @Value("${idempotency.cache.wait-timeout-ms:5000}") long waitTimeoutMs) {
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        this.waitTimeoutMs = waitTimeoutMs;
+        CaffeineCacheMetrics.monitor(meterRegistry, entries, "idempotency");
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> Claim<T> claim(String resourceType, String idempotencyKey) {
+        Key key = new Key(resourceType, idempotencyKey);
+        CompletableFuture<Object> created = new CompletableFuture<>();
+        CompletableFuture<Object> existing = entries.asMap().putIfAbsent(key, created);
+        if (existing == null) {
+            return new Claim<>(key, (CompletableFuture<T>) (CompletableFuture<?>) created, true);
+        }
+        return new Claim<>(key, (CompletableFuture<T>) (CompletableFuture<?>) existing, false);
+    }
+
+    // 응답을 TTL 동안 캐시한다. 이후 같은 키의 재시도는 이 응답을 그대로 받는다
+    public <T> void complete(Claim<T> claim, T response) {
+        claim.future().complete(response);
+    }
+
+    // 기다리던 중복 요청에는 응답을 전달하되 키는 풀어서 이후 재시도를 새 요청으로 처리한다
+    public <T> void release(Claim<T> claim, T response) {
+        claim.future().complete(response);
+        entries.asMap().remove(claim.key(), claim.future());
+    }
+
+    public void fail(Claim<?> claim, Throwable error) {
+        entries.asMap().remove(claim.key(), claim.future());
+        claim.future().completeExceptionally(error);
+    }
+
+    // 선점하지 못한 요청은 첫 요청의 결과를 기다린다. 마감 시간 안에 끝나지 않으면 비어 있는 결과를 돌려준다
+    public <T> Optional<T> await(Claim<T> claim) {
+        try {
+            return Optional.of(claim.future().get(waitTimeoutMs, TimeUnit.MILLISECONDS));
+        } catch (TimeoutException e) {
+            return Optional.empty();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Optional.empty();
+        }
+    }
+
+    public record Claim<T>(Key key, CompletableFuture<T> future, boolean owner) {
+    }
+
+    public record Key(String resourceType, String idempotencyKey) {
+    }
+}
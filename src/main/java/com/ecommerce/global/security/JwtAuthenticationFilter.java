@@ -6,7 +6,6 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -28,11 +27,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                                     FilterChain filterChain) throws ServletException, IOException {
         String token = resolveToken(request);
 
-        if (StringUtils.hasText(token) && jwtTokenProvider.validateToken(token)) {
-            Authentication authentication = jwtTokenProvider.getAuthentication(token);
-            SecurityContextHolder.getContext().setAuthentication(authentication);
-            log.debug("Set Authentication to security context for '{}', uri: {}",
-                    authentication.getName(), request.getRequestURI());
+        if (StringUtils.hasText(token)) {
+            jwtTokenProvider.resolveAuthentication(token).ifPresent(authentication -> {
+                SecurityContextHolder.getContext().setAuthentication(authentication);
+                log.debug("Set Authentication to security context for '{}', uri: {}",
+                        authentication.getName(), request.getRequestURI());
+            });
         }
 
         filterChain.doFilter(request, response);
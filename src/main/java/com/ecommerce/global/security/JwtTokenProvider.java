@@ -1,24 +1,36 @@
 package com.ecommerce.global.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SecurityException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
-import java.util.Collections;
 import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Component
 public class JwtTokenProvider {
 
+    private static final List<GrantedAuthority> AUTHORITIES = List.of(new SimpleGrantedAuthority("ROLE_USER"));
+
     @Value("${jwt.secret}")
     private String secretString;
 
@@ -28,11 +40,37 @@ public class JwtTokenProvider {
     @Value("${jwt.refresh-token-validity}")
     private long refreshTokenValidity;
 
+    @Value("${jwt.verified-cache.maximum-size:10000}")
+    private long verifiedCacheMaximumSize;
+
+    private final MeterRegistry meterRegistry;
+    private final Timer verifyTimer;
+
     private SecretKey secretKey;
+    // JwtParser는 불변이라 스레드 간에 공유한다
+    private JwtParser jwtParser;
+    // 서명 검증을 마친 토큰. 각 항목은 토큰의 exp 시각에 만료된다
+    private Cache<String, VerifiedToken> verifiedTokens;
+
+    public JwtTokenProvider(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.verifyTimer = Timer.builder("jwt.verify")
+                .description("JWT 서명 검증과 클레임 파싱 시간 (캐시 미스만)")
+                .register(meterRegistry);
+    }
 
     @PostConstruct
     protected void init() {
         this.secretKey = Keys.hmacShaKeyFor(secretString.getBytes(StandardCharsets.UTF_8));
+        this.jwtParser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheMaximumSize)
+                .expireAfter(new UntilTokenExpiry())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, "jwt-verified-tokens");
     }
 
     public String createAccessToken(Long memberId, String email) {
@@ -64,16 +102,28 @@ public class JwtTokenProvider {
     }
 
     public Authentication getAuthentication(String token) {
-        Claims claims = parseClaims(token);
-        Long memberId = claims.get("memberId", Long.class);
-        String email = claims.getSubject();
+        return toAuthentication(toPrincipal(parseClaims(token)));
+    }
 
-        JwtAuthenticationPrincipal principal = new JwtAuthenticationPrincipal(memberId, email);
-        return new UsernamePasswordAuthenticationToken(
-                principal,
-                "",
-                Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER"))
-        );
+    // 요청당 한 번만 검증한다. 이미 검증한 토큰은 만료 전까지 서명 검증 없이 캐시에서 꺼낸다
+    public Optional<Authentication> resolveAuthentication(String token) {
+        VerifiedToken cached = verifiedTokens.getIfPresent(token);
+        if (cached != null && cached.expiresAtMillis() > System.currentTimeMillis()) {
+            return Optional.of(toAuthentication(cached.principal()));
+        }
+        return verifyAndAuthenticate(token);
+    }
+
+    Optional<Authentication> verifyAndAuthenticate(String token) {
+        long startedAt = System.nanoTime();
+        Optional<Claims> claims = verify(token);
+        verifyTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+
+        return claims.map(verified -> {
+            JwtAuthenticationPrincipal principal = toPrincipal(verified);
+            verifiedTokens.put(token, new VerifiedToken(principal, verified.getExpiration().getTime()));
+            return toAuthentication(principal);
+        });
     }
 
     public String getEmail(String token) {
@@ -85,12 +135,19 @@ public class JwtTokenProvider {
     }
 
     public boolean validateToken(String token) {
+        return verify(token).isPresent();
+    }
+
+    // 서명 검증과 토큰 종류 확인을 한 번의 파싱으로 끝낸다
+    public boolean isValidRefreshToken(String token) {
+        return verify(token)
+                .map(claims -> "refresh".equals(claims.get("type", String.class)))
+                .orElse(false);
+    }
+
+    private Optional<Claims> verify(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
+            return Optional.of(parseClaims(token));
         } catch (ExpiredJwtException e) {
             log.warn("Expired JWT token");
         } catch (UnsupportedJwtException e) {
@@ -102,23 +159,46 @@ public class JwtTokenProvider {
         } catch (IllegalArgumentException e) {
             log.warn("JWT token compact of handler are invalid");
         }
-        return false;
+        return Optional.empty();
     }
 
-    public boolean isRefreshToken(String token) {
-        String type = parseClaims(token).get("type", String.class);
-        return "refresh".equals(type);
+    private Claims parseClaims(String token) {
+        return jwtParser.parseSignedClaims(token).getPayload();
     }
 
-    private Claims parseClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    private JwtAuthenticationPrincipal toPrincipal(Claims claims) {
+        return new JwtAuthenticationPrincipal(claims.get("memberId", Long.class), claims.getSubject());
+    }
+
+    private Authentication toAuthentication(JwtAuthenticationPrincipal principal) {
+        return new UsernamePasswordAuthenticationToken(principal, "", AUTHORITIES);
     }
 
     public long getAccessTokenValidity() {
         return accessTokenValidity;
     }
+
+    private record VerifiedToken(JwtAuthenticationPrincipal principal, long expiresAtMillis) {
+    }
+
+    private static class UntilTokenExpiry implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String token, VerifiedToken verified, long currentTime) {
+            long remainingMillis = verified.expiresAtMillis() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String token, VerifiedToken verified, long currentTime,
+                                      long currentDuration) {
+            return expireAfterCreate(token, verified, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String token, VerifiedToken verified, long currentTime,
+                                    long currentDuration) {
+            return currentDuration;
+        }
+    }
 }
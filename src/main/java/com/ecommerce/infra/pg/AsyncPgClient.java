@@ -0,0 +1,170 @@
+package com.ecommerce.infra.pg;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+// 블로킹 PgClient를 가상 스레드에서 호출하고 호출별 마감 시간, 서킷 브레이커, 승인 벌크헤드를 적용한다
+@Slf4j
+@Component
+public class AsyncPgClient {
+
+    private final PgClient pgClient;
+    private final PgCircuitBreaker circuitBreaker;
+    private final Semaphore approvalPermits;
+    private final long approveTimeoutMs;
+    private final long inquiryTimeoutMs;
+    private final long cancelTimeoutMs;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final Counter circuitOpenRejections;
+    private final Counter bulkheadRejections;
+    private final Counter hedgedInquiries;
+
+    @Autowired
+    public AsyncPgClient(PgClient pgClient,
+                         MeterRegistry meterRegistry,
+                         @Value("${pg.async.approve-timeout-ms:3000}") long approveTimeoutMs,
+                         @Value("${pg.async.inquiry-timeout-ms:1000}") long inquiryTimeoutMs,
+                         @Value("${pg.async.cancel-timeout-ms:3000}") long cancelTimeoutMs,
+                         @Value("${pg.async.max-in-flight-approvals:100}") int maxInFlightApprovals,
+                         @Value("${pg.circuit-breaker.window-size:50}") int windowSize,
+                         @Value("${pg.circuit-breaker.minimum-calls:20}") int minimumCalls,
+                         @Value("${pg.circuit-breaker.failure-rate-threshold:50}") double failureRateThreshold,
+                         @Value("${pg.circuit-breaker.open-duration-ms:10000}") long openDurationMs,
+                         @Value("${pg.circuit-breaker.half-open-calls:5}") int halfOpenCalls) {
+        this(pgClient, meterRegistry, approveTimeoutMs, inquiryTimeoutMs, cancelTimeoutMs, maxInFlightApprovals,
+                new PgCircuitBreaker(windowSize, minimumCalls, failureRateThreshold, openDurationMs, halfOpenCalls,
+                        System::currentTimeMillis));
+    }
+
+    AsyncPgClient(PgClient pgClient, MeterRegistry meterRegistry, long approveTimeoutMs, long inquiryTimeoutMs,
+                  long cancelTimeoutMs, int maxInFlightApprovals, PgCircuitBreaker circuitBreaker) {
+        this.pgClient = pgClient;
+        this.circuitBreaker = circuitBreaker;
+        this.approvalPermits = new Semaphore(maxInFlightApprovals);
+        this.approveTimeoutMs = approveTimeoutMs;
+        this.inquiryTimeoutMs = inquiryTimeoutMs;
+        this.cancelTimeoutMs = cancelTimeoutMs;
+
+        Gauge.builder("pg.circuit.state", circuitBreaker, breaker -> breaker.getState().ordinal())
+                .description("PG 서킷 상태 (0=CLOSED, 1=HALF_OPEN, 2=OPEN)")
+                .register(meterRegistry);
+        Gauge.builder("pg.approvals.in-flight", approvalPermits,
+                        permits -> maxInFlightApprovals - permits.availablePermits())
+                .description("진행 중인 PG 승인 요청 수")
+                .register(meterRegistry);
+        this.circuitOpenRejections = Counter.builder("pg.client.rejected")
+                .tag("reason", "circuit-open")
+                .description("PG 호출 전에 거절된 요청 수")
+                .register(meterRegistry);
+        this.bulkheadRejections = Counter.builder("pg.client.rejected")
+                .tag("reason", "bulkhead-full")
+                .description("PG 호출 전에 거절된 요청 수")
+                .register(meterRegistry);
+        this.hedgedInquiries = Counter.builder("pg.client.hedged-inquiries")
+                .description("승인 마감 시간 초과로 주문번호 조회를 보낸 횟수")
+                .register(meterRegistry);
+    }
+
+    public CompletableFuture<PgResponse> approve(PgRequest request) {
+        if (!approvalPermits.tryAcquire()) {
+            bulkheadRejections.increment();
+            return CompletableFuture.completedFuture(PgResponse.unavailable());
+        }
+        if (!circuitBreaker.tryAcquire()) {
+            approvalPermits.release();
+            circuitOpenRejections.increment();
+            return CompletableFuture.completedFuture(PgResponse.unavailable());
+        }
+
+        AtomicBoolean recorded = new AtomicBoolean();
+        CompletableFuture<PgResponse> result = new CompletableFuture<>();
+
+        CompletableFuture.supplyAsync(() -> pgClient.approve(request), executor)
+                .whenComplete((response, error) -> {
+                    // 마감 이후에 끝나더라도 실제 응답이 올 때까지 벌크헤드 자리를 차지한다
+                    approvalPermits.release();
+                    record(recorded, error == null && !response.isSystemError());
+                    if (error != null) {
+                        result.completeExceptionally(error);
+                    } else {
+                        result.complete(response);
+                    }
+                });
+
+        // 마감 시간 안에 응답이 없으면 승인 여부가 불명확하므로 주문번호 조회를 함께 보내고 먼저 확정되는 결과를 쓴다
+        CompletableFuture.delayedExecutor(approveTimeoutMs, TimeUnit.MILLISECONDS, executor).execute(() -> {
+            if (result.isDone()) {
+                return;
+            }
+            record(recorded, false);
+            hedgedInquiries.increment();
+            log.warn("PG 승인 응답 지연, 주문번호로 조회: orderNumber={}", request.getOrderNumber());
+            call(() -> pgClient.inquiryByOrderNumber(request.getOrderNumber()), inquiryTimeoutMs)
+                    .thenAccept(inquired -> {
+                        if (inquired.isSuccess()) {
+                            result.complete(inquired);
+                        }
+                    });
+        });
+
+        return result.completeOnTimeout(PgResponse.timeout(), approveTimeoutMs + inquiryTimeoutMs,
+                TimeUnit.MILLISECONDS);
+    }
+
+    public CompletableFuture<PgResponse> cancel(String transactionId, long amount) {
+        return guarded(() -> pgClient.cancel(transactionId, amount), cancelTimeoutMs);
+    }
+
+    public CompletableFuture<PgResponse> inquiry(String transactionId) {
+        return guarded(() -> pgClient.inquiry(transactionId), inquiryTimeoutMs);
+    }
+
+    public CompletableFuture<PgResponse> inquiryByOrderNumber(String orderNumber) {
+        return guarded(() -> pgClient.inquiryByOrderNumber(orderNumber), inquiryTimeoutMs);
+    }
+
+    public PgCircuitBreaker.State getCircuitState() {
+        return circuitBreaker.getState();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private CompletableFuture<PgResponse> guarded(Supplier<PgResponse> action, long timeoutMs) {
+        if (!circuitBreaker.tryAcquire()) {
+            circuitOpenRejections.increment();
+            return CompletableFuture.completedFuture(PgResponse.unavailable());
+        }
+        AtomicBoolean recorded = new AtomicBoolean();
+        return call(action, timeoutMs)
+                .whenComplete((response, error) -> record(recorded, error == null && !response.isSystemError()));
+    }
+
+    private CompletableFuture<PgResponse> call(Supplier<PgResponse> action, long timeoutMs) {
+        return CompletableFuture.supplyAsync(action, executor)
+                .completeOnTimeout(PgResponse.timeout(), timeoutMs, TimeUnit.MILLISECONDS);
+    }
+
+    private void record(AtomicBoolean recorded, boolean success) {
+        if (recorded.compareAndSet(false, true)) {
+            circuitBreaker.record(success);
+        }
+    }
+}
@@ -1,24 +1,67 @@
 package com.ecommerce.infra.pg;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
 
 @Slf4j
 @Component
 @Profile("!prod")
 public class MockPgClient implements PgClient {
 
+    // 부하 테스트용 지연 분포: NONE | FIXED | UNIFORM | LOG_NORMAL
+    public enum LatencyDistribution {
+        NONE,
+        FIXED,
+        UNIFORM,
+        LOG_NORMAL
+    }
+
     private final Map<String, PgResponse> transactions = new ConcurrentHashMap<>();
+    private final Map<String, PgResponse> approvalsByOrderNumber = new ConcurrentHashMap<>();
+
+    @Value("${pg.mock.latency.distribution:NONE}")
+    private LatencyDistribution latencyDistribution = LatencyDistribution.NONE;
+
+    // FIXED: 지연 시간, UNIFORM: 하한, LOG_NORMAL: 중앙값
+    @Value("${pg.mock.latency.base-ms:50}")
+    private long latencyBaseMs = 50;
+
+    // UNIFORM: 상한, LOG_NORMAL: 상한 (꼬리 지연을 자른다)
+    @Value("${pg.mock.latency.max-ms:500}")
+    private long latencyMaxMs = 500;
+
+    // LOG_NORMAL: 표준편차 (클수록 꼬리가 길다)
+    @Value("${pg.mock.latency.sigma:0.5}")
+    private double latencySigma = 0.5;
+
+    // 카드사 거절(잔액 부족) 비율
+    @Value("${pg.mock.decline-rate:0}")
+    private double declineRate;
+
+    // 통신 오류(예외) 비율
+    @Value("${pg.mock.error-rate:0}")
+    private double errorRate;
 
     @Override
     public PgResponse approve(PgRequest request) {
         log.info("Mock PG 결제 요청: orderNumber={}, amount={}", request.getOrderNumber(), request.getAmount());
 
+        simulateLatency();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        if (random.nextDouble() < errorRate) {
+            throw new IllegalStateException("Mock PG 통신 오류");
+        }
+        if (random.nextDouble() < declineRate) {
+            return PgResponse.failure("2001", "잔액 부족");
+        }
+
         String cardNumber = request.getCardNumber();
         if (cardNumber == null || cardNumber.length() < 4) {
             return PgResponse.failure("1001", "유효하지 않은 카드 번호");
@@ -50,6 +93,7 @@ public class MockPgClient implements PgClient {
                 log.info("Mock PG: 결제 성공, transactionId={}", transactionId);
                 PgResponse response = PgResponse.success(transactionId);
                 transactions.put(transactionId, response);
+                approvalsByOrderNumber.put(request.getOrderNumber(), response);
                 yield response;
             }
         };
@@ -79,6 +123,36 @@ public class MockPgClient implements PgClient {
         return response;
     }
 
+    @Override
+    public PgResponse inquiryByOrderNumber(String orderNumber) {
+        log.info("Mock PG 주문번호 조회: orderNumber={}", orderNumber);
+
+        PgResponse response = approvalsByOrderNumber.get(orderNumber);
+        if (response == null || !transactions.containsKey(response.getTransactionId())) {
+            return PgResponse.failure("4001", "거래 내역 없음");
+        }
+        return response;
+    }
+
+    private void simulateLatency() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long delayMs = switch (latencyDistribution) {
+            case NONE -> 0;
+            case FIXED -> latencyBaseMs;
+            case UNIFORM -> random.nextLong(latencyBaseMs, Math.max(latencyBaseMs, latencyMaxMs) + 1);
+            case LOG_NORMAL -> Math.min(latencyMaxMs,
+                    Math.round(latencyBaseMs * Math.exp(latencySigma * random.nextGaussian())));
+        };
+        if (delayMs <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(delayMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
     private String generateTransactionId() {
         return "TXN" + UUID.randomUUID().toString().replace("-", "").substring(0, 16).toUpperCase();
     }
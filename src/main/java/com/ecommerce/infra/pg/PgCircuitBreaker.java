@@ -0,0 +1,116 @@
+package com.ecommerce.infra.pg;
+
+import java.util.Arrays;
+import java.util.function.LongSupplier;
+
+// 최근 N건의 PG 호출 중 시스템 장애(예외/타임아웃) 비율이 임계치를 넘으면 일정 시간 호출을 차단한다.
+// 차단 시간이 지나면 소수의 시험 호출만 허용하고, 모두 성공하면 다시 연다
+public class PgCircuitBreaker {
+
+    public enum State {
+        CLOSED,
+        HALF_OPEN,
+        OPEN
+    }
+
+    private final int windowSize;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long openDurationMs;
+    private final int halfOpenCalls;
+    private final LongSupplier clock;
+
+    private final boolean[] failures;
+    private int index;
+    private int count;
+    private int failureCount;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int halfOpenPermits;
+    private int halfOpenSuccesses;
+
+    public PgCircuitBreaker(int windowSize, int minimumCalls, double failureRateThreshold,
+                            long openDurationMs, int halfOpenCalls, LongSupplier clock) {
+        this.windowSize = windowSize;
+        this.minimumCalls = minimumCalls;
+        this.failureRateThreshold = failureRateThreshold;
+        this.openDurationMs = openDurationMs;
+        this.halfOpenCalls = halfOpenCalls;
+        this.clock = clock;
+        this.failures = new boolean[windowSize];
+    }
+
+    public synchronized boolean tryAcquire() {
+        if (state == State.OPEN) {
+            if (clock.getAsLong() - openedAt < openDurationMs) {
+                return false;
+            }
+            state = State.HALF_OPEN;
+            halfOpenPermits = halfOpenCalls;
+            halfOpenSuccesses = 0;
+        }
+        if (state == State.HALF_OPEN) {
+            if (halfOpenPermits == 0) {
+                return false;
+            }
+            halfOpenPermits--;
+        }
+        return true;
+    }
+
+    public synchronized void record(boolean success) {
+        switch (state) {
+            case OPEN -> {
+                // 차단 직전에 나간 호출의 늦은 결과는 무시한다
+            }
+            case HALF_OPEN -> {
+                if (!success) {
+                    open();
+                } else if (++halfOpenSuccesses >= halfOpenCalls) {
+                    close();
+                }
+            }
+            case CLOSED -> {
+                if (count == windowSize) {
+                    if (failures[index]) {
+                        failureCount--;
+                    }
+                } else {
+                    count++;
+                }
+                failures[index] = !success;
+                if (!success) {
+                    failureCount++;
+                }
+                index = (index + 1) % windowSize;
+
+                if (count >= minimumCalls && failureCount * 100.0 / count >= failureRateThreshold) {
+                    open();
+                }
+            }
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = clock.getAsLong();
+        resetWindow();
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        resetWindow();
+    }
+
+    private void resetWindow() {
+        Arrays.fill(failures, false);
+        index = 0;
+        count = 0;
+        failureCount = 0;
+    }
+}
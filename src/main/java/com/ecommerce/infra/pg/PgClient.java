@@ -7,4 +7,7 @@ public interface PgClient {
     PgResponse cancel(String transactionId, long amount);
 
     PgResponse inquiry(String transactionId);
+
+    // 승인 응답을 받지 못해 거래 ID를 모를 때 가맹점 주문번호로 결과를 조회한다
+    PgResponse inquiryByOrderNumber(String orderNumber);
 }
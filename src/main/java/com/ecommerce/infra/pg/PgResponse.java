@@ -10,6 +10,9 @@ import java.time.LocalDateTime;
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 public class PgResponse {
 
+    public static final String TIMEOUT_CODE = "9999";
+    public static final String UNAVAILABLE_CODE = "9998";
+
     private final boolean success;
     private final String transactionId;
     private final String responseCode;
@@ -50,9 +53,24 @@ public class PgResponse {
         return new PgResponse(
                 false,
                 null,
-                "9999",
+                TIMEOUT_CODE,
                 "처리 시간 초과",
                 LocalDateTime.now()
         );
     }
+
+    public static PgResponse unavailable() {
+        return new PgResponse(
+                false,
+                null,
+                UNAVAILABLE_CODE,
+                "PG 호출 일시 제한",
+                LocalDateTime.now()
+        );
+    }
+
+    // 9xxx 응답은 카드사 거절이 아닌 PG 연동 장애다
+    public boolean isSystemError() {
+        return !success && responseCode != null && responseCode.startsWith("9");
+    }
 }
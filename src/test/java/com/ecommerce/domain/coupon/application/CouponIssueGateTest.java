@@ -0,0 +1,98 @@
+package com.ecommerce.domain.coupon.application;
+
+import com.ecommerce.domain.coupon.domain.Coupon;
+import com.ecommerce.domain.coupon.domain.CouponType;
+import com.ecommerce.domain.coupon.exception.CouponException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CouponIssueGateTest {
+
+    private CouponIssueSlot slot;
+
+    @BeforeEach
+    void setUp() {
+        Coupon coupon = Coupon.builder()
+                .name("선착순 쿠폰")
+                .type(CouponType.FIXED_AMOUNT)
+                .discountValue(5000L)
+                .totalQuantity(100)
+                .startDate(LocalDate.now())
+                .endDate(LocalDate.now().plusDays(30))
+                .build();
+        ReflectionTestUtils.setField(coupon, "id", 1L);
+        slot = new CouponIssueGate(true).open(coupon, List.of());
+    }
+
+    @Test
+    @DisplayName("동시에 요청해도 총 수량만큼만, 회원당 한 번만 통과시킨다")
+    void admit_Concurrent_NoOverIssue() throws InterruptedException {
+        // given
+        AtomicInteger admitted = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+
+        // when
+        for (int i = 0; i < 400; i++) {
+            long memberId = i % 200;
+            executor.submit(() -> {
+                try {
+                    slot.admit(memberId);
+                    admitted.incrementAndGet();
+                } catch (CouponException ignored) {
+                }
+            });
+        }
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+
+        // then
+        assertThat(admitted.get()).isEqualTo(100);
+        assertThat(slot.getRemainingQuantity()).isZero();
+        assertThat(slot.drain(500)).hasSize(100).doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("DB에 이미 발급된 회원은 수량을 되돌리고, 반영 거절된 회원은 보유자에서 제외한다")
+    void settle() {
+        // given
+        slot.admit(1L);
+        slot.admit(2L);
+        slot.admit(3L);
+
+        // when
+        slot.settle(new CouponIssueBatchResult(List.of(1L), List.of(2L), List.of(3L)));
+
+        // then
+        assertThat(slot.getRemainingQuantity()).isZero();
+        assertThat(slot.getHolderIds()).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("격리된 당첨자는 대기열에서 빠지고 보유자와 수량은 그대로 유지한다")
+    void deadLetter_KeepsHolders() {
+        // given
+        slot.admit(1L);
+        slot.admit(2L);
+        List<Long> drained = slot.drain(1);
+
+        // when
+        slot.deadLetter(drained);
+
+        // then
+        assertThat(slot.getDeadLetterMemberIds()).containsExactly(1L);
+        assertThat(slot.drain(500)).containsExactly(2L);
+        assertThat(slot.getHolderIds()).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(slot.getRemainingQuantity()).isEqualTo(98);
+    }
+}
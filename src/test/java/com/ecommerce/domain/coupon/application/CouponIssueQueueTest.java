@@ -0,0 +1,80 @@
+package com.ecommerce.domain.coupon.application;
+
+import com.ecommerce.domain.coupon.exception.CouponException;
+import com.ecommerce.global.error.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class CouponIssueQueueTest {
+
+    @Mock
+    private CouponService couponService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CouponIssueQueue couponIssueQueue;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        // 워커를 시작하지 않아 대기열이 소비되지 않는 상태
+        couponIssueQueue = new CouponIssueQueue(couponService, meterRegistry, true, 2, 1, 100, 30);
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 429 예외로 거절하고 지표에 반영한다")
+    void submit_QueueFull_ThrowsException() {
+        // given
+        couponIssueQueue.submit(1L, 1L);
+        couponIssueQueue.submit(2L, 1L);
+
+        // when & then
+        assertThatThrownBy(() -> couponIssueQueue.submit(3L, 1L))
+                .isInstanceOf(CouponException.class)
+                .satisfies(e -> assertThat(((CouponException) e).getErrorCode())
+                        .isEqualTo(ErrorCode.COUPON_ISSUE_QUEUE_FULL));
+        assertThat(meterRegistry.get("coupon.issue.queue.depth").gauge().value()).isEqualTo(2);
+        assertThat(meterRegistry.get("coupon.issue.queue.rejected").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("배치 처리 결과에 따라 티켓 상태가 갱신된다")
+    void process_UpdatesTickets() {
+        // given
+        CouponIssueTicket issued = couponIssueQueue.submit(1L, 1L);
+        CouponIssueTicket duplicated = couponIssueQueue.submit(2L, 1L);
+        given(couponService.issueQueuedBatch(1L, List.of(1L, 2L)))
+                .willReturn(new CouponIssueBatchResult(List.of(1L), List.of(2L), List.of()));
+
+        // when
+        couponIssueQueue.process(List.of(issued, duplicated));
+
+        // then
+        assertThat(couponIssueQueue.getTicket(1L, issued.getId()).getStatus())
+                .isEqualTo(CouponIssueTicketStatus.ISSUED);
+        assertThat(couponIssueQueue.getTicket(2L, duplicated.getId()).getErrorCode())
+                .isEqualTo(ErrorCode.COUPON_ALREADY_ISSUED);
+    }
+
+    @Test
+    @DisplayName("다른 회원의 티켓은 조회할 수 없다")
+    void getTicket_OtherMember_ThrowsException() {
+        // given
+        CouponIssueTicket ticket = couponIssueQueue.submit(1L, 1L);
+
+        // when & then
+        assertThatThrownBy(() -> couponIssueQueue.getTicket(2L, ticket.getId()))
+                .isInstanceOf(CouponException.class);
+    }
+}
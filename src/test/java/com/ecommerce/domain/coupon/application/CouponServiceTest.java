@@ -13,8 +13,11 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -22,6 +25,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -36,6 +40,9 @@ class CouponServiceTest {
     @Mock
     private MemberCouponRepository memberCouponRepository;
 
+    @Mock
+    private CouponIssueGate couponIssueGate;
+
     @Nested
     @DisplayName("쿠폰 발급")
     class IssueCouponTest {
@@ -98,6 +105,73 @@ class CouponServiceTest {
                     });
         }
 
+        @Test
+        @DisplayName("게이트 슬롯이 열려 있으면 아직 반영되지 않은 당첨자 몫을 남겨두고 수량 소진으로 거절한다")
+        void issueCoupon_GateAdmittedCapacity_ThrowsException() {
+            // given
+            Coupon coupon = createLimitedCoupon(1L, 1);
+            CouponIssueSlot slot = new CouponIssueGate(true).open(coupon, List.of());
+            slot.admit(9L);
+            given(memberCouponRepository.existsByMemberIdAndCouponId(1L, 1L)).willReturn(false);
+            given(couponRepository.findByIdWithLock(1L)).willReturn(Optional.of(coupon));
+            given(couponIssueGate.getSlot(1L)).willReturn(slot);
+
+            // when & then
+            assertThatThrownBy(() -> couponService.issueCoupon(1L, 1L))
+                    .isInstanceOf(CouponException.class)
+                    .satisfies(e -> {
+                        CouponException ex = (CouponException) e;
+                        assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.COUPON_EXHAUSTED);
+                    });
+            verify(memberCouponRepository, never()).save(any(MemberCoupon.class));
+        }
+
+        @Test
+        @DisplayName("게이트 슬롯에서 확보한 수량은 발급 트랜잭션이 롤백되면 되돌린다")
+        void issueCoupon_RolledBack_ReleasesClaim() {
+            // given
+            Coupon coupon = createLimitedCoupon(1L, 2);
+            CouponIssueSlot slot = new CouponIssueGate(true).open(coupon, List.of());
+            given(memberCouponRepository.existsByMemberIdAndCouponId(1L, 1L)).willReturn(false);
+            given(couponRepository.findByIdWithLock(1L)).willReturn(Optional.of(coupon));
+            given(couponIssueGate.getSlot(1L)).willReturn(slot);
+            given(memberCouponRepository.save(any(MemberCoupon.class))).willAnswer(i -> i.getArgument(0));
+
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                // when
+                couponService.issueCoupon(1L, 1L);
+                assertThat(slot.getRemainingQuantity()).isEqualTo(1);
+                TransactionSynchronizationManager.getSynchronizations()
+                        .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+
+            // then
+            assertThat(slot.getRemainingQuantity()).isEqualTo(2);
+            assertThat(slot.getHolderIds()).doesNotContain(1L);
+        }
+
+        @Test
+        @DisplayName("환영 쿠폰은 게이트 당첨자 몫을 가져가지 않는다")
+        void issueWelcomeCoupon_GateAdmittedCapacity_Skipped() {
+            // given
+            Coupon coupon = createLimitedCoupon(1L, 1);
+            CouponIssueSlot slot = new CouponIssueGate(true).open(coupon, List.of());
+            slot.admit(9L);
+            given(memberCouponRepository.existsByMemberIdAndCouponId(1L, 1L)).willReturn(false);
+            given(couponRepository.findById(1L)).willReturn(Optional.of(coupon));
+            given(couponIssueGate.getSlot(1L)).willReturn(slot);
+
+            // when
+            couponService.issueWelcomeCoupon(1L, 1L);
+
+            // then
+            verify(memberCouponRepository, never()).save(any(MemberCoupon.class));
+            assertThat(coupon.getRemainingQuantity()).isEqualTo(1);
+        }
+
         @Test
         @DisplayName("만료된 쿠폰은 발급 불가")
         void issueCoupon_Expired_ThrowsException() {
@@ -119,6 +193,123 @@ class CouponServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("선착순 발급 게이트")
+    class IssueThroughGateTest {
+
+        @Test
+        @DisplayName("게이트를 통과하면 DB 접근 없이 반영 대기열에만 넣는다")
+        void admitThroughGate_Admitted() {
+            // given
+            Coupon coupon = createLimitedCoupon(1L, 10);
+            CouponIssueSlot slot = new CouponIssueGate(true).open(coupon, List.of());
+            given(couponIssueGate.getSlot(1L)).willReturn(slot);
+
+            // when
+            couponService.admitThroughGate(1L, 1L);
+
+            // then
+            assertThat(slot.getRemainingQuantity()).isEqualTo(9);
+            assertThat(slot.getPendingMemberIds()).containsExactly(1L);
+            verify(couponRepository, never()).findByIdWithLock(anyLong());
+            verify(memberCouponRepository, never()).save(any(MemberCoupon.class));
+        }
+
+        @Test
+        @DisplayName("수량이 소진되면 DB를 조회하지 않고 거절한다")
+        void admitThroughGate_Exhausted_ThrowsException() {
+            // given
+            Coupon coupon = createLimitedCoupon(1L, 1);
+            CouponIssueSlot slot = new CouponIssueGate(true).open(coupon, List.of(2L));
+            slot.admit(3L);
+            given(couponIssueGate.getSlot(1L)).willReturn(slot);
+
+            // when & then
+            assertThatThrownBy(() -> couponService.admitThroughGate(1L, 1L))
+                    .isInstanceOf(CouponException.class)
+                    .satisfies(e -> assertThat(((CouponException) e).getErrorCode())
+                            .isEqualTo(ErrorCode.COUPON_EXHAUSTED));
+            assertThatThrownBy(() -> couponService.admitThroughGate(2L, 1L))
+                    .isInstanceOf(CouponException.class)
+                    .satisfies(e -> assertThat(((CouponException) e).getErrorCode())
+                            .isEqualTo(ErrorCode.COUPON_ALREADY_ISSUED));
+            verify(memberCouponRepository, never()).existsByMemberIdAndCouponId(anyLong(), anyLong());
+            verify(memberCouponRepository, never()).findMemberIdsByCouponId(anyLong());
+        }
+    }
+
+    @Nested
+    @DisplayName("쿠폰 배치 발급")
+    class IssueBatchTest {
+
+        @Test
+        @DisplayName("이미 보유한 회원은 건너뛰고 남은 수량만큼만 한 번에 발급한다")
+        void issueBatch_Success() {
+            // given
+            Coupon coupon = createLimitedCoupon(1L, 2);
+            given(couponRepository.findByIdWithLock(1L)).willReturn(Optional.of(coupon));
+            given(memberCouponRepository.findMemberIdsByCouponIdAndMemberIdIn(1L, List.of(1L, 2L, 3L, 4L)))
+                    .willReturn(List.of(2L));
+
+            // when
+            CouponIssueBatchResult result = couponService.issueBatch(1L, List.of(1L, 2L, 3L, 4L));
+
+            // then
+            assertThat(result.issuedMemberIds()).containsExactly(1L, 3L);
+            assertThat(result.duplicatedMemberIds()).containsExactly(2L);
+            assertThat(result.rejectedMemberIds()).containsExactly(4L);
+            assertThat(coupon.getIssuedQuantity()).isEqualTo(2);
+            verify(memberCouponRepository).saveAll(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("대기열 배치 발급")
+    class IssueQueuedBatchTest {
+
+        @Test
+        @DisplayName("게이트를 통과했지만 아직 반영되지 않은 당첨자 몫은 남겨두고 발급한다")
+        void issueQueuedBatch_ReservesGateAdmittedCapacity() {
+            // given
+            Coupon coupon = createLimitedCoupon(1L, 2);
+            CouponIssueSlot slot = new CouponIssueGate(true).open(coupon, List.of());
+            slot.admit(9L);
+            given(couponRepository.findByIdWithLock(1L)).willReturn(Optional.of(coupon));
+            given(couponIssueGate.getSlot(1L)).willReturn(slot);
+            given(memberCouponRepository.findMemberIdsByCouponIdAndMemberIdIn(1L, List.of(1L)))
+                    .willReturn(List.of());
+
+            // when
+            CouponIssueBatchResult result = couponService.issueQueuedBatch(1L, List.of(1L, 2L));
+
+            // then
+            assertThat(result.issuedMemberIds()).containsExactly(1L);
+            assertThat(result.rejectedMemberIds()).containsExactly(2L);
+            assertThat(coupon.getRemainingQuantity()).isEqualTo(1);
+            assertThat(slot.getRemainingQuantity()).isZero();
+            assertThat(slot.getPendingMemberIds()).containsExactly(9L);
+        }
+
+        @Test
+        @DisplayName("게이트가 이미 통과시킨 회원은 DB를 조회하지 않고 중복으로 거절한다")
+        void issueQueuedBatch_AdmittedMember_Duplicated() {
+            // given
+            Coupon coupon = createLimitedCoupon(1L, 5);
+            CouponIssueSlot slot = new CouponIssueGate(true).open(coupon, List.of());
+            slot.admit(1L);
+            given(couponRepository.findByIdWithLock(1L)).willReturn(Optional.of(coupon));
+            given(couponIssueGate.getSlot(1L)).willReturn(slot);
+
+            // when
+            CouponIssueBatchResult result = couponService.issueQueuedBatch(1L, List.of(1L));
+
+            // then
+            assertThat(result.issuedMemberIds()).isEmpty();
+            assertThat(result.duplicatedMemberIds()).containsExactly(1L);
+            verify(memberCouponRepository, never()).saveAll(any());
+        }
+    }
+
     @Nested
     @DisplayName("쿠폰 사용")
     class UseCouponTest {
@@ -176,6 +367,19 @@ class CouponServiceTest {
         return coupon;
     }
 
+    private Coupon createLimitedCoupon(Long id, int totalQuantity) {
+        Coupon coupon = Coupon.builder()
+                .name("선착순 쿠폰")
+                .type(CouponType.FIXED_AMOUNT)
+                .discountValue(5000L)
+                .totalQuantity(totalQuantity)
+                .startDate(LocalDate.now())
+                .endDate(LocalDate.now().plusDays(30))
+                .build();
+        ReflectionTestUtils.setField(coupon, "id", id);
+        return coupon;
+    }
+
     private Coupon createExpiredCoupon(Long id) {
         Coupon coupon = Coupon.builder()
                 .name("만료 쿠폰")
@@ -0,0 +1,183 @@
+package com.ecommerce.domain.inventory.application;
+
+import com.ecommerce.domain.inventory.domain.Inventory;
+import com.ecommerce.domain.inventory.exception.InventoryException;
+import com.ecommerce.global.error.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HotStockCounterTest {
+
+    private HotStockCounter hotStockCounter;
+
+    @BeforeEach
+    void setUp() {
+        hotStockCounter = new HotStockCounter(true, Set.of(1L));
+        Inventory inventory = Inventory.builder()
+                .productId(1L)
+                .productOptionId(10L)
+                .quantity(100)
+                .build();
+        ReflectionTestUtils.setField(inventory, "id", 1L);
+        hotStockCounter.load(inventory);
+    }
+
+    @Nested
+    @DisplayName("핫 SKU 재고 차감")
+    class DeductTest {
+
+        @Test
+        @DisplayName("적재된 재고만 핫 SKU로 판단한다")
+        void isHot() {
+            assertThat(hotStockCounter.isHot(1L, 10L)).isTrue();
+            assertThat(hotStockCounter.isHot(1L, null)).isFalse();
+            assertThat(hotStockCounter.isHot(2L, 10L)).isFalse();
+        }
+
+        @Test
+        @DisplayName("차감하면 가용 수량이 줄고 반영 대기 변경이 쌓인다")
+        void deduct_Success() {
+            // when
+            hotStockCounter.deduct(1L, 10L, 30, 1001L);
+
+            // then
+            assertThat(hotStockCounter.getAvailableQuantity(1L, 10L)).isEqualTo(70);
+            HotStock stock = hotStockCounter.getStocks().iterator().next();
+            assertThat(stock.drain(10))
+                    .containsExactly(new HotStockChange(HotStockChange.Type.DEDUCT, 30, 1001L));
+        }
+
+        @Test
+        @DisplayName("가용 수량보다 많이 차감하면 예외가 발생한다")
+        void deduct_Insufficient_ThrowsException() {
+            assertThatThrownBy(() -> hotStockCounter.deduct(1L, 10L, 101, 1001L))
+                    .isInstanceOf(InventoryException.class)
+                    .satisfies(e -> assertThat(((InventoryException) e).getErrorCode())
+                            .isEqualTo(ErrorCode.INSUFFICIENT_STOCK));
+            assertThat(hotStockCounter.getAvailableQuantity(1L, 10L)).isEqualTo(100);
+        }
+
+        @Test
+        @DisplayName("동시에 차감해도 가용 수량을 초과하여 판매하지 않는다")
+        void deduct_Concurrent_NoOversell() throws InterruptedException {
+            // given
+            AtomicInteger succeeded = new AtomicInteger();
+            ExecutorService executor = Executors.newFixedThreadPool(16);
+
+            // when
+            for (int i = 0; i < 200; i++) {
+                executor.submit(() -> {
+                    try {
+                        hotStockCounter.deduct(1L, 10L, 1, null);
+                        succeeded.incrementAndGet();
+                    } catch (InventoryException ignored) {
+                    }
+                });
+            }
+            executor.shutdown();
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+
+            // then
+            assertThat(succeeded.get()).isEqualTo(100);
+            assertThat(hotStockCounter.getAvailableQuantity(1L, 10L)).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("반영 대기 변경 관리")
+    class PendingChangesTest {
+
+        @Test
+        @DisplayName("반영에 실패한 변경은 원래 순서대로 앞에 다시 쌓인다")
+        void requeue_KeepsOrder() {
+            // given
+            hotStockCounter.reserve(1L, 10L, 5);
+            hotStockCounter.deduct(1L, 10L, 3, 1001L);
+            HotStock stock = hotStockCounter.getStocks().iterator().next();
+            List<HotStockChange> drained = stock.drain(1);
+            hotStockCounter.cancelReservation(1L, 10L, 5);
+
+            // when
+            stock.requeue(drained);
+
+            // then
+            assertThat(stock.drain(10)).extracting(HotStockChange::type).containsExactly(
+                    HotStockChange.Type.RESERVE,
+                    HotStockChange.Type.DEDUCT,
+                    HotStockChange.Type.CANCEL_RESERVATION);
+        }
+
+        @Test
+        @DisplayName("반영 대기 변경의 가용 수량 변화량을 합산한다")
+        void pendingAvailableDelta() {
+            // given
+            hotStockCounter.reserve(1L, 10L, 5);
+            hotStockCounter.confirmReservation(1L, 10L, 5, 1001L);
+            hotStockCounter.deduct(1L, 10L, 3, 1002L);
+
+            // when
+            HotStock stock = hotStockCounter.getStocks().iterator().next();
+
+            // then
+            assertThat(stock.pendingAvailableDelta()).isEqualTo(-8);
+            assertThat(stock.getAvailableQuantity()).isEqualTo(92);
+        }
+
+        @Test
+        @DisplayName("DB에 반영된 변경만큼 반영 대기 변화량이 줄고 가용 수량은 그대로다")
+        void flushed_ReducesPendingDelta() {
+            // given
+            hotStockCounter.deduct(1L, 10L, 3, 1001L);
+            hotStockCounter.deduct(1L, 10L, 2, 1002L);
+            HotStock stock = hotStockCounter.getStocks().iterator().next();
+            List<HotStockChange> drained = stock.drain(1);
+
+            // when
+            stock.flushed(drained);
+
+            // then
+            assertThat(stock.snapshot()).isEqualTo(new HotStock.Snapshot(95, -2));
+        }
+
+        @Test
+        @DisplayName("격리된 변경은 대기열에서 빠지지만 DB에 반영되지 않았으므로 대기 변화량에 남는다")
+        void deadLetter_KeepsPendingDelta() {
+            // given
+            hotStockCounter.deduct(1L, 10L, 3, 1001L);
+            HotStock stock = hotStockCounter.getStocks().iterator().next();
+            List<HotStockChange> drained = stock.drain(10);
+
+            // when
+            stock.deadLetter(drained);
+
+            // then
+            assertThat(stock.drain(10)).isEmpty();
+            assertThat(stock.getDeadLetters()).containsExactlyElementsOf(drained);
+            assertThat(stock.pendingAvailableDelta()).isEqualTo(-3);
+        }
+
+        @Test
+        @DisplayName("입고로 늘어난 가용 수량은 반영 대기 변화량에 더하지 않는다")
+        void release_DoesNotChangePendingDelta() {
+            // when
+            hotStockCounter.release(1L, 10L, 10);
+
+            // then
+            HotStock stock = hotStockCounter.getStocks().iterator().next();
+            assertThat(stock.snapshot()).isEqualTo(new HotStock.Snapshot(110, 0));
+        }
+    }
+}
@@ -2,14 +2,23 @@ package com.ecommerce.domain.inventory.application;
 
 import com.ecommerce.domain.inventory.dao.InventoryHistoryRepository;
 import com.ecommerce.domain.inventory.dao.InventoryRepository;
+import com.ecommerce.domain.inventory.dao.StockReservationRepository;
 import com.ecommerce.domain.inventory.domain.Inventory;
 import com.ecommerce.domain.inventory.domain.InventoryHistory;
+import com.ecommerce.domain.inventory.domain.InventoryKey;
+import com.ecommerce.domain.inventory.domain.ReservationStatus;
+import com.ecommerce.domain.inventory.domain.StockReservation;
+import com.ecommerce.domain.inventory.dto.InventoryStockRow;
 import com.ecommerce.domain.inventory.exception.InventoryException;
 import com.ecommerce.global.error.ErrorCode;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -17,15 +26,25 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -40,6 +59,15 @@ class InventoryServiceTest {
     @Mock
     private InventoryHistoryRepository inventoryHistoryRepository;
 
+    @Mock
+    private HotStockCounter hotStockCounter;
+
+    @Mock
+    private StockReservationRepository stockReservationRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
     @Nested
     @DisplayName("재고 가용 수량 조회")
     class GetAvailableQuantityTest {
@@ -126,6 +154,43 @@ class InventoryServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("상품 목록 재고 일괄 조회")
+    class GetInventoriesByProductIdsTest {
+
+        @Test
+        @DisplayName("상품 ID 목록의 재고를 한 번에 조회하여 (상품, 옵션) 키로 매핑한다")
+        void getInventoriesByProductIds_Success() {
+            // given
+            Inventory optionInventory = createInventory(1L, 100);
+            Inventory noOptionInventory = Inventory.builder()
+                    .productId(2L)
+                    .quantity(50)
+                    .build();
+            given(inventoryRepository.findByProductIdIn(Set.of(1L, 2L)))
+                    .willReturn(List.of(optionInventory, noOptionInventory));
+
+            // when
+            Map<InventoryKey, Inventory> result = inventoryService.getInventoriesByProductIds(Set.of(1L, 2L));
+
+            // then
+            assertThat(result).hasSize(2);
+            assertThat(result.get(InventoryKey.of(1L, 1L))).isSameAs(optionInventory);
+            assertThat(result.get(InventoryKey.of(2L, null))).isSameAs(noOptionInventory);
+        }
+
+        @Test
+        @DisplayName("상품 ID 목록이 비어 있으면 조회하지 않는다")
+        void getInventoriesByProductIds_Empty() {
+            // when
+            Map<InventoryKey, Inventory> result = inventoryService.getInventoriesByProductIds(Set.of());
+
+            // then
+            assertThat(result).isEmpty();
+            verify(inventoryRepository, never()).findByProductIdIn(any());
+        }
+    }
+
     @Nested
     @DisplayName("재고 차감")
     class DeductStockTest {
@@ -147,6 +212,113 @@ class InventoryServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("조건부 UPDATE 재고 차감")
+    class DeductStockAtomicallyTest {
+
+        @Test
+        @DisplayName("가용 재고가 충분하면 (상품, 옵션) 키의 단일 UPDATE로 차감하고 이력을 기록한다")
+        void deductStockAtomically_Success() {
+            // given
+            given(inventoryRepository.deductIfAvailable(eq(1L), eq(1L), eq(30), any(LocalDateTime.class)))
+                    .willReturn(1);
+            given(inventoryRepository.findStockRow(1L, 1L)).willReturn(Optional.of(new InventoryStockRow(7L, 70)));
+
+            // when
+            inventoryService.deductStockAtomically(1L, 1L, 30, 1001L);
+
+            // then
+            ArgumentCaptor<InventoryHistory> captor = ArgumentCaptor.forClass(InventoryHistory.class);
+            verify(inventoryHistoryRepository).save(captor.capture());
+            assertThat(captor.getValue().getInventoryId()).isEqualTo(7L);
+            assertThat(captor.getValue().getBeforeQuantity()).isEqualTo(100);
+            assertThat(captor.getValue().getAfterQuantity()).isEqualTo(70);
+            verify(inventoryRepository, never()).findByProductIdAndProductOptionId(anyLong(), anyLong());
+            verify(entityManager).detach(any());
+        }
+
+        @Test
+        @DisplayName("옵션이 없는 재고는 옵션 없는 행을 대상으로 차감한다")
+        void deductStockAtomically_WithoutOption_Success() {
+            // given
+            given(inventoryRepository.deductIfAvailable(eq(1L), eq(30), any(LocalDateTime.class)))
+                    .willReturn(1);
+            given(inventoryRepository.findStockRow(1L)).willReturn(Optional.of(new InventoryStockRow(7L, 70)));
+
+            // when
+            inventoryService.deductStockAtomically(1L, null, 30, 1001L);
+
+            // then
+            verify(inventoryHistoryRepository).save(any(InventoryHistory.class));
+        }
+
+        @Test
+        @DisplayName("갱신된 행이 없으면 재고 부족 예외가 발생하고 이력을 남기지 않는다")
+        void deductStockAtomically_Insufficient_ThrowsException() {
+            // given
+            given(inventoryRepository.deductIfAvailable(eq(1L), eq(1L), eq(30), any(LocalDateTime.class)))
+                    .willReturn(0);
+
+            // when & then
+            assertThatThrownBy(() -> inventoryService.deductStockAtomically(1L, 1L, 30, 1001L))
+                    .isInstanceOf(InventoryException.class)
+                    .satisfies(e -> {
+                        InventoryException ex = (InventoryException) e;
+                        assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.INSUFFICIENT_STOCK);
+                    });
+            verify(inventoryHistoryRepository, never()).save(any(InventoryHistory.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("주문 단위 재고 일괄 차감")
+    class DeductStocksTest {
+
+        @Test
+        @DisplayName("주문의 모든 재고를 한 번에 잠그고 차감한 뒤 이력을 일괄 저장한다")
+        void deductStocks_Success() {
+            // given
+            Inventory first = createInventory(1L, 100);
+            Inventory second = Inventory.builder()
+                    .productId(2L)
+                    .quantity(50)
+                    .build();
+            ReflectionTestUtils.setField(second, "id", 2L);
+            given(inventoryRepository.findByProductIdInWithLock(Set.of(1L, 2L)))
+                    .willReturn(List.of(first, second));
+
+            // when
+            inventoryService.deductStocks(List.of(
+                    new StockLine(2L, null, 5),
+                    new StockLine(1L, 1L, 10),
+                    new StockLine(1L, 1L, 20)), 1001L);
+
+            // then
+            assertThat(first.getQuantity()).isEqualTo(70);
+            assertThat(second.getQuantity()).isEqualTo(45);
+
+            ArgumentCaptor<List<InventoryHistory>> captor = ArgumentCaptor.forClass(List.class);
+            verify(inventoryHistoryRepository).saveAll(captor.capture());
+            assertThat(captor.getValue())
+                    .extracting(InventoryHistory::getInventoryId, InventoryHistory::getChangeQuantity)
+                    .containsExactly(tuple(1L, 30), tuple(2L, 5));
+        }
+
+        @Test
+        @DisplayName("한 항목이라도 재고가 부족하면 예외가 발생하고 이력을 남기지 않는다")
+        void deductStocks_Insufficient_ThrowsException() {
+            // given
+            Inventory inventory = createInventory(1L, 10);
+            given(inventoryRepository.findByProductIdInWithLock(Set.of(1L)))
+                    .willReturn(List.of(inventory));
+
+            // when & then
+            assertThatThrownBy(() -> inventoryService.deductStocks(List.of(new StockLine(1L, 1L, 30)), 1001L))
+                    .isInstanceOf(InventoryException.class);
+            verify(inventoryHistoryRepository, never()).saveAll(any());
+        }
+    }
+
     @Nested
     @DisplayName("재고 복원")
     class RestoreStockTest {
@@ -210,6 +382,102 @@ class InventoryServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("주문 재고 예약")
+    class ReserveForOrderTest {
+
+        @Test
+        @DisplayName("같은 재고의 주문 항목을 합산하여 조건부 UPDATE로 예약하고 예약 이력을 저장한다")
+        void reserveForOrder_Success() {
+            // given
+            Inventory inventory = createInventory(1L, 100);
+            given(inventoryRepository.findByProductIdIn(Set.of(1L))).willReturn(List.of(inventory));
+            given(inventoryRepository.reserveIfAvailable(eq(1L), eq(5), any(LocalDateTime.class))).willReturn(1);
+
+            // when
+            inventoryService.reserveForOrder(1001L, List.of(
+                    new StockLine(1L, 1L, 2),
+                    new StockLine(1L, 1L, 3)));
+
+            // then
+            ArgumentCaptor<List<StockReservation>> captor = ArgumentCaptor.forClass(List.class);
+            verify(stockReservationRepository).saveAll(captor.capture());
+            assertThat(captor.getValue()).singleElement()
+                    .satisfies(reservation -> {
+                        assertThat(reservation.getOrderId()).isEqualTo(1001L);
+                        assertThat(reservation.getQuantity()).isEqualTo(5);
+                        assertThat(reservation.getStatus()).isEqualTo(ReservationStatus.RESERVED);
+                        assertThat(reservation.getExpiresAt()).isAfterOrEqualTo(LocalDateTime.now().minusSeconds(1));
+                    });
+        }
+
+        @Test
+        @DisplayName("가용 재고가 부족하면 예외가 발생하고 예약을 저장하지 않는다")
+        void reserveForOrder_Insufficient_ThrowsException() {
+            // given
+            Inventory inventory = createInventory(1L, 3);
+            given(inventoryRepository.findByProductIdIn(Set.of(1L))).willReturn(List.of(inventory));
+            given(inventoryRepository.reserveIfAvailable(eq(1L), eq(5), any(LocalDateTime.class))).willReturn(0);
+
+            // when & then
+            assertThatThrownBy(() -> inventoryService.reserveForOrder(1001L, List.of(new StockLine(1L, 1L, 5))))
+                    .isInstanceOf(InventoryException.class);
+            verify(stockReservationRepository, never()).saveAll(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("만료 예약 해제")
+    class ReleaseExpiredReservationsTest {
+
+        @Test
+        @DisplayName("만료된 예약을 재고별로 합산하여 해제하고 일괄로 만료 처리한다")
+        void releaseExpiredReservations_Success() {
+            // given
+            StockReservation first = createReservation(1L, 1001L, 2);
+            StockReservation second = createReservation(2L, 1002L, 3);
+            given(stockReservationRepository.findExpiredWithLock(eq(ReservationStatus.RESERVED),
+                    any(LocalDateTime.class), any())).willReturn(List.of(first, second));
+            given(inventoryRepository.releaseReserved(eq(1L), eq(5), any(LocalDateTime.class))).willReturn(1);
+
+            // when
+            int released = inventoryService.releaseExpiredReservations(100);
+
+            // then
+            assertThat(released).isEqualTo(2);
+            verify(stockReservationRepository).updateStatus(eq(List.of(1L, 2L)), eq(ReservationStatus.EXPIRED),
+                    any(LocalDateTime.class));
+        }
+
+        @Test
+        @DisplayName("만료된 예약이 없으면 아무것도 하지 않는다")
+        void releaseExpiredReservations_Empty() {
+            // given
+            given(stockReservationRepository.findExpiredWithLock(eq(ReservationStatus.RESERVED),
+                    any(LocalDateTime.class), any())).willReturn(List.of());
+
+            // when
+            int released = inventoryService.releaseExpiredReservations(100);
+
+            // then
+            assertThat(released).isZero();
+            verify(stockReservationRepository, never()).updateStatus(any(), any(), any());
+        }
+
+        private StockReservation createReservation(Long id, Long orderId, int quantity) {
+            StockReservation reservation = StockReservation.builder()
+                    .inventoryId(1L)
+                    .productId(1L)
+                    .productOptionId(1L)
+                    .orderId(orderId)
+                    .quantity(quantity)
+                    .expiresAt(LocalDateTime.now().minusMinutes(1))
+                    .build();
+            ReflectionTestUtils.setField(reservation, "id", id);
+            return reservation;
+        }
+    }
+
     @Nested
     @DisplayName("예약 확정")
     class ConfirmReservationTest {
@@ -255,6 +523,98 @@ class InventoryServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("핫 SKU 카운터 트랜잭션 연동")
+    class HotStockTransactionTest {
+
+        @BeforeEach
+        void setUp() {
+            TransactionSynchronizationManager.initSynchronization();
+            given(hotStockCounter.isHot(1L, 1L)).willReturn(true);
+        }
+
+        @AfterEach
+        void tearDown() {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        @Test
+        @DisplayName("예약 확정이 롤백되면 카운터에 확정을 반영하지 않는다")
+        void confirmReservations_RolledBack_NotApplied() {
+            // given
+            givenActiveReservation(1001L, 5);
+
+            // when
+            inventoryService.confirmReservations(1001L);
+            complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+            // then
+            verify(hotStockCounter, never()).confirmReservation(anyLong(), anyLong(), anyInt(), anyLong());
+        }
+
+        @Test
+        @DisplayName("예약 확정은 커밋된 뒤 카운터에 한 번만 반영한다")
+        void confirmReservations_Committed_AppliedOnce() {
+            // given
+            givenActiveReservation(1001L, 5);
+
+            // when
+            inventoryService.confirmReservations(1001L);
+            verify(hotStockCounter, never()).confirmReservation(anyLong(), anyLong(), anyInt(), anyLong());
+            complete(TransactionSynchronization.STATUS_COMMITTED);
+
+            // then
+            verify(hotStockCounter, times(1)).confirmReservation(1L, 1L, 5, 1001L);
+        }
+
+        @Test
+        @DisplayName("예약 해제가 롤백되면 카운터의 가용 수량을 늘리지 않는다")
+        void releaseReservations_RolledBack_NotApplied() {
+            // given
+            givenActiveReservation(1001L, 5);
+
+            // when
+            inventoryService.releaseReservations(1001L);
+            complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+            // then
+            verify(hotStockCounter, never()).cancelReservation(anyLong(), anyLong(), anyInt());
+        }
+
+        @Test
+        @DisplayName("조건부 UPDATE 차감이 바깥 트랜잭션에서 롤백되면 카운터 차감을 되돌린다")
+        void deductStockAtomically_RolledBack_Restored() {
+            // when
+            inventoryService.deductStockAtomically(1L, 1L, 3, 1001L);
+            complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+            // then
+            verify(hotStockCounter).deduct(1L, 1L, 3, 1001L);
+            verify(hotStockCounter).restore(1L, 1L, 3, 1001L);
+        }
+
+        private void givenActiveReservation(Long orderId, int quantity) {
+            StockReservation reservation = StockReservation.builder()
+                    .inventoryId(1L)
+                    .productId(1L)
+                    .productOptionId(1L)
+                    .orderId(orderId)
+                    .quantity(quantity)
+                    .expiresAt(LocalDateTime.now().plusMinutes(15))
+                    .build();
+            given(stockReservationRepository.findByOrderIdAndStatusWithLock(orderId, ReservationStatus.RESERVED))
+                    .willReturn(List.of(reservation));
+        }
+
+        private void complete(int status) {
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            if (status == TransactionSynchronization.STATUS_COMMITTED) {
+                synchronizations.forEach(TransactionSynchronization::afterCommit);
+            }
+            synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+        }
+    }
+
     @Nested
     @DisplayName("재고 생성")
     class CreateInventoryTest {
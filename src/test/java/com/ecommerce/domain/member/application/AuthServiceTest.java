@@ -1,10 +1,10 @@
 package com.ecommerce.domain.member.application;
 
 import com.ecommerce.domain.member.dao.MemberRepository;
-import com.ecommerce.domain.member.dao.RefreshTokenRepository;
 import com.ecommerce.domain.member.domain.Member;
-import com.ecommerce.domain.member.domain.RefreshToken;
+import com.ecommerce.domain.member.domain.MemberStatus;
 import com.ecommerce.domain.member.dto.LoginRequest;
+import com.ecommerce.domain.member.dto.RefreshTokenRow;
 import com.ecommerce.domain.member.dto.TokenResponse;
 import com.ecommerce.domain.member.exception.MemberException;
 import com.ecommerce.global.error.ErrorCode;
@@ -14,24 +14,36 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDateTime;
 import java.util.Optional;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class AuthServiceTest {
 
+    private static final String CLIENT_IP = "127.0.0.1";
+
     @InjectMocks
     private AuthService authService;
 
@@ -39,7 +51,7 @@ class AuthServiceTest {
     private MemberRepository memberRepository;
 
     @Mock
-    private RefreshTokenRepository refreshTokenRepository;
+    private RefreshTokenStore refreshTokenStore;
 
     @Mock
     private JwtTokenProvider jwtTokenProvider;
@@ -47,9 +59,22 @@ class AuthServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private LoginTransactionService loginTransactionService;
+
+    @Mock
+    private LoginRateLimiter loginRateLimiter;
+
+    @Mock
+    private PasswordRehasher passwordRehasher;
+
+    @Spy
+    private LoginFailureCounter loginFailureCounter = new LoginFailureCounter(30, 1000);
+
     @BeforeEach
     void setUp() {
         ReflectionTestUtils.setField(authService, "refreshTokenValidity", 604800000L);
+        lenient().when(loginRateLimiter.tryAcquire(anyString(), anyString())).thenReturn(true);
     }
 
     @Nested
@@ -65,17 +90,16 @@ class AuthServiceTest {
 
             given(memberRepository.findByEmail(anyString())).willReturn(Optional.of(member));
             given(passwordEncoder.matches(anyString(), anyString())).willReturn(true);
-            given(jwtTokenProvider.createAccessToken(anyLong(), anyString())).willReturn("accessToken");
-            given(jwtTokenProvider.createRefreshToken(anyLong(), anyString())).willReturn("refreshToken");
-            given(jwtTokenProvider.getAccessTokenValidity()).willReturn(1800000L);
-            given(refreshTokenRepository.findByMemberId(anyLong())).willReturn(Optional.empty());
+            given(loginTransactionService.issueTokens(1L))
+                    .willReturn(TokenResponse.of("accessToken", "refreshToken", 1800000L));
 
             // when
-            TokenResponse response = authService.login(request);
+            TokenResponse response = authService.login(request, CLIENT_IP);
 
             // then
             assertThat(response.getAccessToken()).isEqualTo("accessToken");
             assertThat(response.getRefreshToken()).isEqualTo("refreshToken");
+            verify(passwordRehasher).rehashAsync(1L, "password1!", "encodedPassword");
         }
 
         @Test
@@ -86,7 +110,7 @@ class AuthServiceTest {
             given(memberRepository.findByEmail(anyString())).willReturn(Optional.empty());
 
             // when & then
-            assertThatThrownBy(() -> authService.login(request))
+            assertThatThrownBy(() -> authService.login(request, CLIENT_IP))
                     .isInstanceOf(MemberException.class)
                     .satisfies(e -> {
                         MemberException ex = (MemberException) e;
@@ -104,7 +128,7 @@ class AuthServiceTest {
             given(memberRepository.findByEmail(anyString())).willReturn(Optional.of(member));
 
             // when & then
-            assertThatThrownBy(() -> authService.login(request))
+            assertThatThrownBy(() -> authService.login(request, CLIENT_IP))
                     .isInstanceOf(MemberException.class)
                     .satisfies(e -> {
                         MemberException ex = (MemberException) e;
@@ -113,8 +137,8 @@ class AuthServiceTest {
         }
 
         @Test
-        @DisplayName("비밀번호가 일치하지 않으면 로그인 실패 횟수가 증가한다")
-        void login_InvalidPassword_IncrementsFailedCount() {
+        @DisplayName("비밀번호가 일치하지 않으면 실패 횟수를 메모리에만 기록한다")
+        void login_InvalidPassword_CountsInMemory() {
             // given
             LoginRequest request = createLoginRequest("test@example.com", "wrongPassword");
             Member member = createMember(1L, "test@example.com", "테스트");
@@ -123,14 +147,86 @@ class AuthServiceTest {
             given(passwordEncoder.matches(anyString(), anyString())).willReturn(false);
 
             // when & then
-            assertThatThrownBy(() -> authService.login(request))
+            assertThatThrownBy(() -> authService.login(request, CLIENT_IP))
                     .isInstanceOf(MemberException.class)
                     .satisfies(e -> {
                         MemberException ex = (MemberException) e;
                         assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.INVALID_PASSWORD);
                     });
 
-            assertThat(member.getFailedLoginCount()).isEqualTo(1);
+            assertThat(member.getFailedLoginCount()).isZero();
+            verify(loginTransactionService, never()).recordFailures(anyLong(), anyInt());
+            verify(passwordRehasher, never()).rehashAsync(anyLong(), anyString(), anyString());
+        }
+
+        @Test
+        @DisplayName("실패 횟수가 잠금 기준에 도달하면 모아 둔 횟수를 한 번에 DB에 반영한다")
+        void login_FailuresReachLockThreshold_FlushesOnce() {
+            // given
+            LoginRequest request = createLoginRequest("test@example.com", "wrongPassword");
+            Member member = createMember(1L, "test@example.com", "테스트");
+
+            given(memberRepository.findByEmail(anyString())).willReturn(Optional.of(member));
+            given(passwordEncoder.matches(anyString(), anyString())).willReturn(false);
+
+            // when
+            for (int i = 0; i < 5; i++) {
+                assertThatThrownBy(() -> authService.login(request, CLIENT_IP))
+                        .isInstanceOf(MemberException.class);
+            }
+
+            // then
+            verify(loginTransactionService, times(1)).recordFailures(1L, 5);
+        }
+
+        @Test
+        @DisplayName("동시에 잠금 기준에 도달해도 같은 실패를 두 번 반영하지 않는다")
+        void login_ConcurrentFailuresReachThreshold_FlushedOnce() throws Exception {
+            // given
+            LoginRequest request = createLoginRequest("test@example.com", "wrongPassword");
+            Member member = createMember(1L, "test@example.com", "테스트");
+            for (int i = 0; i < 4; i++) {
+                loginFailureCounter.increment("test@example.com");
+            }
+
+            CyclicBarrier barrier = new CyclicBarrier(2);
+            given(memberRepository.findByEmail(anyString())).willReturn(Optional.of(member));
+            given(passwordEncoder.matches(anyString(), anyString())).willAnswer(invocation -> {
+                barrier.await(5, TimeUnit.SECONDS);
+                return false;
+            });
+
+            // when
+            ExecutorService executor = Executors.newFixedThreadPool(2);
+            for (int i = 0; i < 2; i++) {
+                executor.submit(() -> authService.login(request, CLIENT_IP));
+            }
+            executor.shutdown();
+            assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+            // then
+            ArgumentCaptor<Integer> captor = ArgumentCaptor.forClass(Integer.class);
+            verify(loginTransactionService, atLeastOnce()).recordFailures(eq(1L), captor.capture());
+            int recorded = captor.getAllValues().stream().mapToInt(Integer::intValue).sum();
+            assertThat(recorded + loginFailureCounter.drain("test@example.com")).isEqualTo(6);
+        }
+
+        @Test
+        @DisplayName("시도 횟수 제한을 넘으면 회원 조회와 비밀번호 검사 없이 거절한다")
+        void login_RateLimited_SkipsPasswordCheck() {
+            // given
+            LoginRequest request = createLoginRequest("test@example.com", "password1!");
+            given(loginRateLimiter.tryAcquire("test@example.com", CLIENT_IP)).willReturn(false);
+
+            // when & then
+            assertThatThrownBy(() -> authService.login(request, CLIENT_IP))
+                    .isInstanceOf(MemberException.class)
+                    .satisfies(e -> {
+                        MemberException ex = (MemberException) e;
+                        assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.TOO_MANY_LOGIN_ATTEMPTS);
+                    });
+            verify(memberRepository, never()).findByEmail(anyString());
+            verify(passwordEncoder, never()).matches(anyString(), anyString());
         }
     }
 
@@ -143,18 +239,16 @@ class AuthServiceTest {
         void refresh_Success() {
             // given
             String refreshTokenValue = "validRefreshToken";
-            Member member = createMember(1L, "test@example.com", "테스트");
-            RefreshToken refreshToken = new RefreshToken(1L, refreshTokenValue,
-                    LocalDateTime.now().plusDays(7));
-
-            given(jwtTokenProvider.validateToken(anyString())).willReturn(true);
-            given(jwtTokenProvider.isRefreshToken(anyString())).willReturn(true);
-            given(refreshTokenRepository.findByToken(anyString())).willReturn(Optional.of(refreshToken));
-            given(jwtTokenProvider.getMemberId(anyString())).willReturn(1L);
-            given(memberRepository.findById(1L)).willReturn(Optional.of(member));
-            given(jwtTokenProvider.createAccessToken(anyLong(), anyString())).willReturn("newAccessToken");
-            given(jwtTokenProvider.createRefreshToken(anyLong(), anyString())).willReturn("newRefreshToken");
+            String tokenHash = RefreshTokenStore.hash(refreshTokenValue);
+            RefreshTokenRow row = createRow(MemberStatus.ACTIVE, LocalDateTime.now().plusDays(7));
+
+            given(jwtTokenProvider.isValidRefreshToken(anyString())).willReturn(true);
+            given(refreshTokenStore.find(tokenHash)).willReturn(Optional.of(row));
+            given(jwtTokenProvider.createAccessToken(1L, "test@example.com")).willReturn("newAccessToken");
+            given(jwtTokenProvider.createRefreshToken(1L, "test@example.com")).willReturn("newRefreshToken");
             given(jwtTokenProvider.getAccessTokenValidity()).willReturn(1800000L);
+            given(refreshTokenStore.rotate(eq(tokenHash), eq(row), eq("newRefreshToken"), any()))
+                    .willReturn(true);
 
             // when
             TokenResponse response = authService.refresh(refreshTokenValue);
@@ -162,13 +256,14 @@ class AuthServiceTest {
             // then
             assertThat(response.getAccessToken()).isEqualTo("newAccessToken");
             assertThat(response.getRefreshToken()).isEqualTo("newRefreshToken");
+            verify(memberRepository, never()).findById(anyLong());
         }
 
         @Test
         @DisplayName("유효하지 않은 토큰으로 갱신 시 예외가 발생한다")
         void refresh_InvalidToken_ThrowsException() {
             // given
-            given(jwtTokenProvider.validateToken(anyString())).willReturn(false);
+            given(jwtTokenProvider.isValidRefreshToken(anyString())).willReturn(false);
 
             // when & then
             assertThatThrownBy(() -> authService.refresh("invalidToken"))
@@ -177,6 +272,7 @@ class AuthServiceTest {
                         MemberException ex = (MemberException) e;
                         assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.INVALID_REFRESH_TOKEN);
                     });
+            verify(refreshTokenStore, never()).find(anyString());
         }
 
         @Test
@@ -184,12 +280,11 @@ class AuthServiceTest {
         void refresh_ExpiredToken_ThrowsException() {
             // given
             String refreshTokenValue = "expiredRefreshToken";
-            RefreshToken expiredToken = new RefreshToken(1L, refreshTokenValue,
-                    LocalDateTime.now().minusDays(1));
+            String tokenHash = RefreshTokenStore.hash(refreshTokenValue);
+            RefreshTokenRow expired = createRow(MemberStatus.ACTIVE, LocalDateTime.now().minusDays(1));
 
-            given(jwtTokenProvider.validateToken(anyString())).willReturn(true);
-            given(jwtTokenProvider.isRefreshToken(anyString())).willReturn(true);
-            given(refreshTokenRepository.findByToken(anyString())).willReturn(Optional.of(expiredToken));
+            given(jwtTokenProvider.isValidRefreshToken(anyString())).willReturn(true);
+            given(refreshTokenStore.find(tokenHash)).willReturn(Optional.of(expired));
 
             // when & then
             assertThatThrownBy(() -> authService.refresh(refreshTokenValue))
@@ -199,7 +294,53 @@ class AuthServiceTest {
                         assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.INVALID_REFRESH_TOKEN);
                     });
 
-            verify(refreshTokenRepository).delete(expiredToken);
+            verify(refreshTokenStore).revoke(tokenHash);
+        }
+
+        @Test
+        @DisplayName("비활성 회원의 토큰이면 계정 잠금 예외가 발생한다")
+        void refresh_InactiveMember_ThrowsException() {
+            // given
+            String refreshTokenValue = "lockedRefreshToken";
+            RefreshTokenRow row = createRow(MemberStatus.LOCKED, LocalDateTime.now().plusDays(7));
+
+            given(jwtTokenProvider.isValidRefreshToken(anyString())).willReturn(true);
+            given(refreshTokenStore.find(anyString())).willReturn(Optional.of(row));
+
+            // when & then
+            assertThatThrownBy(() -> authService.refresh(refreshTokenValue))
+                    .isInstanceOf(MemberException.class)
+                    .satisfies(e -> {
+                        MemberException ex = (MemberException) e;
+                        assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.ACCOUNT_LOCKED);
+                    });
+            verify(refreshTokenStore, never()).rotate(anyString(), any(), anyString(), any());
+        }
+
+        @Test
+        @DisplayName("이미 교체되었거나 폐기된 토큰이면 교체에 실패하고 예외가 발생한다")
+        void refresh_AlreadyRotated_ThrowsException() {
+            // given
+            String refreshTokenValue = "reusedRefreshToken";
+            RefreshTokenRow row = createRow(MemberStatus.ACTIVE, LocalDateTime.now().plusDays(7));
+
+            given(jwtTokenProvider.isValidRefreshToken(anyString())).willReturn(true);
+            given(refreshTokenStore.find(anyString())).willReturn(Optional.of(row));
+            given(jwtTokenProvider.createAccessToken(anyLong(), anyString())).willReturn("newAccessToken");
+            given(jwtTokenProvider.createRefreshToken(anyLong(), anyString())).willReturn("newRefreshToken");
+            given(refreshTokenStore.rotate(anyString(), any(), anyString(), any())).willReturn(false);
+
+            // when & then
+            assertThatThrownBy(() -> authService.refresh(refreshTokenValue))
+                    .isInstanceOf(MemberException.class)
+                    .satisfies(e -> {
+                        MemberException ex = (MemberException) e;
+                        assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.INVALID_REFRESH_TOKEN);
+                    });
+        }
+
+        private RefreshTokenRow createRow(MemberStatus status, LocalDateTime expiresAt) {
+            return new RefreshTokenRow(10L, 1L, "test@example.com", status, expiresAt);
         }
     }
 
@@ -214,7 +355,7 @@ class AuthServiceTest {
             authService.logout(1L);
 
             // then
-            verify(refreshTokenRepository).deleteByMemberId(1L);
+            verify(refreshTokenStore).revokeAll(1L);
         }
     }
 
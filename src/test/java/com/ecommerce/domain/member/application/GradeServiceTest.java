@@ -3,6 +3,7 @@ package com.ecommerce.domain.member.application;
 import com.ecommerce.domain.member.dao.MemberRepository;
 import com.ecommerce.domain.member.domain.Member;
 import com.ecommerce.domain.member.domain.MemberGrade;
+import com.ecommerce.domain.member.dto.MemberSnapshot;
 import com.ecommerce.domain.member.exception.MemberException;
 import com.ecommerce.global.error.ErrorCode;
 import org.junit.jupiter.api.DisplayName;
@@ -33,6 +34,9 @@ class GradeServiceTest {
     @Mock
     private GradeBenefitProvider gradeBenefitProvider;
 
+    @Mock
+    private MemberSnapshotReader memberSnapshotReader;
+
     @Nested
     @DisplayName("회원 등급 조회")
     class GetMemberGradeTest {
@@ -43,7 +47,7 @@ class GradeServiceTest {
             // given
             Long memberId = 1L;
             Member member = createMember(memberId, MemberGrade.GOLD, 350000L);
-            given(memberRepository.findById(memberId)).willReturn(Optional.of(member));
+            given(memberSnapshotReader.getSnapshot(memberId)).willReturn(MemberSnapshot.from(member));
 
             // when
             MemberGrade grade = gradeService.getMemberGrade(memberId);
@@ -57,7 +61,7 @@ class GradeServiceTest {
         void getMemberGrade_NotFound_ThrowsException() {
             // given
             Long memberId = 999L;
-            given(memberRepository.findById(memberId)).willReturn(Optional.empty());
+            given(memberSnapshotReader.getSnapshot(memberId)).willThrow(MemberException.notFound());
 
             // when & then
             assertThatThrownBy(() -> gradeService.getMemberGrade(memberId))
@@ -153,7 +157,7 @@ class GradeServiceTest {
             // given
             Long memberId = 1L;
             Member member = createMember(memberId, MemberGrade.BRONZE, 150000L);
-            given(memberRepository.findById(memberId)).willReturn(Optional.of(member));
+            given(memberSnapshotReader.getSnapshot(memberId)).willReturn(MemberSnapshot.from(member));
 
             // when
             boolean eligible = gradeService.isEligibleForUpgrade(memberId);
@@ -168,7 +172,7 @@ class GradeServiceTest {
             // given
             Long memberId = 1L;
             Member member = createMember(memberId, MemberGrade.SILVER, 150000L);
-            given(memberRepository.findById(memberId)).willReturn(Optional.of(member));
+            given(memberSnapshotReader.getSnapshot(memberId)).willReturn(MemberSnapshot.from(member));
 
             // when
             boolean eligible = gradeService.isEligibleForUpgrade(memberId);
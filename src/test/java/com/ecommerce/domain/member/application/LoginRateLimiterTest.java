@@ -0,0 +1,64 @@
+package com.ecommerce.domain.member.application;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LoginRateLimiterTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+    private LoginRateLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        limiter = new LoginRateLimiter(new SimpleMeterRegistry(), 3, 5, 60, 1000, now::get);
+    }
+
+    @Test
+    @DisplayName("같은 이메일은 윈도 안에서 허용 횟수까지만 시도할 수 있다")
+    void tryAcquire_EmailLimit() {
+        // when
+        for (int i = 0; i < 3; i++) {
+            assertThat(limiter.tryAcquire("user@example.com", "10.0.0." + i)).isTrue();
+        }
+
+        // then
+        assertThat(limiter.tryAcquire("USER@example.com", "10.0.0.9")).isFalse();
+    }
+
+    @Test
+    @DisplayName("같은 IP는 이메일을 바꿔도 허용 횟수를 넘길 수 없다")
+    void tryAcquire_IpLimit() {
+        // when
+        for (int i = 0; i < 5; i++) {
+            assertThat(limiter.tryAcquire("user" + i + "@example.com", "10.0.0.1")).isTrue();
+        }
+
+        // then
+        assertThat(limiter.tryAcquire("other@example.com", "10.0.0.1")).isFalse();
+        assertThat(limiter.tryAcquire("other@example.com", "10.0.0.2")).isTrue();
+    }
+
+    @Test
+    @DisplayName("윈도가 지나간 시도는 다시 허용 횟수에 포함되지 않는다")
+    void tryAcquire_WindowSlides() {
+        // given
+        for (int i = 0; i < 3; i++) {
+            limiter.tryAcquire("user@example.com", "10.0.0.1");
+            now.addAndGet(10_000L);
+        }
+        assertThat(limiter.tryAcquire("user@example.com", "10.0.0.1")).isFalse();
+
+        // when
+        now.addAndGet(31_000L);
+
+        // then
+        assertThat(limiter.tryAcquire("user@example.com", "10.0.0.1")).isTrue();
+        assertThat(limiter.tryAcquire("user@example.com", "10.0.0.1")).isFalse();
+    }
+}
@@ -0,0 +1,122 @@
+package com.ecommerce.domain.member.application;
+
+import com.ecommerce.domain.member.dao.MemberRepository;
+import com.ecommerce.domain.member.domain.Member;
+import com.ecommerce.domain.member.domain.MemberStatus;
+import com.ecommerce.domain.member.dto.TokenResponse;
+import com.ecommerce.global.security.JwtTokenProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class LoginTransactionServiceTest {
+
+    @InjectMocks
+    private LoginTransactionService loginTransactionService;
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private RefreshTokenStore refreshTokenStore;
+
+    @Mock
+    private JwtTokenProvider jwtTokenProvider;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(loginTransactionService, "refreshTokenValidity", 604800000L);
+    }
+
+    @Nested
+    @DisplayName("로그인 실패 반영")
+    class RecordFailuresTest {
+
+        @Test
+        @DisplayName("모아 둔 실패 횟수가 잠금 기준에 도달하면 계정을 잠근다")
+        void recordFailures_ReachesThreshold_LocksAccount() {
+            // given
+            Member member = createMember();
+            given(memberRepository.findById(1L)).willReturn(Optional.of(member));
+
+            // when
+            loginTransactionService.recordFailures(1L, 5);
+
+            // then
+            assertThat(member.getFailedLoginCount()).isEqualTo(5);
+            assertThat(member.getStatus()).isEqualTo(MemberStatus.LOCKED);
+            assertThat(member.getLockedUntil()).isAfter(LocalDateTime.now().plusMinutes(29));
+        }
+    }
+
+    @Nested
+    @DisplayName("토큰 발급")
+    class IssueTokensTest {
+
+        @Test
+        @DisplayName("발급한 리프레시 토큰을 저장소에 저장한다")
+        void issueTokens_SavesRefreshToken() {
+            // given
+            Member member = createMember();
+            given(memberRepository.findById(1L)).willReturn(Optional.of(member));
+            given(jwtTokenProvider.createAccessToken(anyLong(), anyString())).willReturn("accessToken");
+            given(jwtTokenProvider.createRefreshToken(anyLong(), anyString())).willReturn("refreshToken");
+            given(jwtTokenProvider.getAccessTokenValidity()).willReturn(1800000L);
+
+            // when
+            TokenResponse response = loginTransactionService.issueTokens(1L);
+
+            // then
+            assertThat(response.getRefreshToken()).isEqualTo("refreshToken");
+            verify(refreshTokenStore).save(eq(1L), eq("test@example.com"), eq("refreshToken"), any());
+        }
+
+        @Test
+        @DisplayName("잠금 기간이 지난 계정은 활성 상태로 되돌리고 실패 횟수를 초기화한다")
+        void issueTokens_LockExpired_Reactivates() {
+            // given
+            Member member = createMember();
+            member.recordLoginFailures(5);
+            ReflectionTestUtils.setField(member, "lockedUntil", LocalDateTime.now().minusMinutes(1));
+            given(memberRepository.findById(1L)).willReturn(Optional.of(member));
+            given(jwtTokenProvider.createAccessToken(anyLong(), anyString())).willReturn("accessToken");
+            given(jwtTokenProvider.createRefreshToken(anyLong(), anyString())).willReturn("refreshToken");
+
+            // when
+            loginTransactionService.issueTokens(1L);
+
+            // then
+            assertThat(member.getStatus()).isEqualTo(MemberStatus.ACTIVE);
+            assertThat(member.getFailedLoginCount()).isZero();
+        }
+    }
+
+    private Member createMember() {
+        Member member = Member.builder()
+                .email("test@example.com")
+                .password("encodedPassword")
+                .name("테스트")
+                .phoneNumber("010-1234-5678")
+                .build();
+        ReflectionTestUtils.setField(member, "id", 1L);
+        return member;
+    }
+}
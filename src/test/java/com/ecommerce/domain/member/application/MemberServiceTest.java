@@ -4,6 +4,7 @@ import com.ecommerce.domain.member.dao.MemberRepository;
 import com.ecommerce.domain.member.domain.Member;
 import com.ecommerce.domain.member.domain.MemberStatus;
 import com.ecommerce.domain.member.dto.MemberResponse;
+import com.ecommerce.domain.member.dto.MemberSnapshot;
 import com.ecommerce.domain.member.dto.MemberUpdateRequest;
 import com.ecommerce.domain.member.dto.PasswordChangeRequest;
 import com.ecommerce.domain.member.dto.SignupRequest;
@@ -41,6 +42,9 @@ class MemberServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private MemberSnapshotReader memberSnapshotReader;
+
     @Nested
     @DisplayName("회원가입")
     class SignupTest {
@@ -116,7 +120,7 @@ class MemberServiceTest {
         void getMember_Success() {
             // given
             Member member = createMember(1L, "test@example.com", "테스트");
-            given(memberRepository.findById(1L)).willReturn(Optional.of(member));
+            given(memberSnapshotReader.getSnapshot(1L)).willReturn(MemberSnapshot.from(member));
 
             // when
             MemberResponse response = memberService.getMember(1L);
@@ -130,7 +134,7 @@ class MemberServiceTest {
         @DisplayName("존재하지 않는 회원 조회 시 예외가 발생한다")
         void getMember_NotFound_ThrowsException() {
             // given
-            given(memberRepository.findById(anyLong())).willReturn(Optional.empty());
+            given(memberSnapshotReader.getSnapshot(anyLong())).willThrow(MemberException.notFound());
 
             // when & then
             assertThatThrownBy(() -> memberService.getMember(999L))
@@ -0,0 +1,92 @@
+package com.ecommerce.domain.member.application;
+
+import com.ecommerce.domain.member.dao.MemberRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class PasswordRehasherTest {
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    private MeterRegistry meterRegistry;
+    private PasswordRehasher passwordRehasher;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        passwordRehasher = new PasswordRehasher(passwordEncoder, memberRepository, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        passwordRehasher.shutdown();
+    }
+
+    @Test
+    @DisplayName("현재 설정의 해시면 재해시하지 않는다")
+    void rehashAsync_UpToDate_DoesNothing() {
+        // given
+        given(passwordEncoder.upgradeEncoding("{bcrypt}current")).willReturn(false);
+
+        // when
+        passwordRehasher.rehashAsync(1L, "password1!", "{bcrypt}current");
+
+        // then
+        verify(passwordEncoder, never()).encode(anyString());
+    }
+
+    @Test
+    @DisplayName("약한 해시는 새 해시로 바꾸되 기존 해시가 그대로일 때만 갱신한다")
+    void rehash_UpdatesWhenUnchanged() {
+        // given
+        given(passwordEncoder.encode("password1!")).willReturn("{bcrypt}new");
+        given(memberRepository.updatePasswordIfUnchanged(eq(1L), eq("legacy"), eq("{bcrypt}new"), any()))
+                .willReturn(1);
+
+        // when
+        passwordRehasher.rehash(1L, "password1!", "legacy");
+
+        // then
+        assertThat(rehashCount("rehashed")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("그 사이 비밀번호가 바뀌었으면 덮어쓰지 않고 건너뛴다")
+    void rehash_PasswordChanged_Skips() {
+        // given
+        given(passwordEncoder.encode("password1!")).willReturn("{bcrypt}new");
+        given(memberRepository.updatePasswordIfUnchanged(eq(1L), eq("legacy"), eq("{bcrypt}new"), any()))
+                .willReturn(0);
+
+        // when
+        passwordRehasher.rehash(1L, "password1!", "legacy");
+
+        // then
+        assertThat(rehashCount("skipped")).isEqualTo(1);
+    }
+
+    private double rehashCount(String result) {
+        return meterRegistry.get("auth.password.rehash").tag("result", result).counter().count();
+    }
+}
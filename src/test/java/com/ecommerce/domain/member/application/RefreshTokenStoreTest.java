@@ -0,0 +1,172 @@
+package com.ecommerce.domain.member.application;
+
+import com.ecommerce.domain.member.dao.RefreshTokenRepository;
+import com.ecommerce.domain.member.domain.MemberStatus;
+import com.ecommerce.domain.member.domain.RefreshToken;
+import com.ecommerce.domain.member.dto.RefreshTokenRow;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenStoreTest {
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    private RefreshTokenStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new RefreshTokenStore(refreshTokenRepository, new SimpleMeterRegistry(), 1000, 60);
+    }
+
+    @Test
+    @DisplayName("토큰 원문 대신 고정 길이 SHA-256 hex 해시를 사용한다")
+    void hash_IsFixedLengthHex() {
+        // when
+        String hash = RefreshTokenStore.hash("eyJhbGciOiJIUzI1NiJ9.payload.signature");
+
+        // then
+        assertThat(hash).hasSize(64).matches("[0-9a-f]{64}");
+        assertThat(RefreshTokenStore.hash("eyJhbGciOiJIUzI1NiJ9.payload.signature")).isEqualTo(hash);
+    }
+
+    @Nested
+    @DisplayName("조회")
+    class FindTest {
+
+        @Test
+        @DisplayName("캐시에 없으면 한 번 조회하고 이후에는 DB를 거치지 않는다")
+        void find_CachesActiveToken() {
+            // given
+            String tokenHash = RefreshTokenStore.hash("token");
+            RefreshTokenRow row = createRow(MemberStatus.ACTIVE, LocalDateTime.now().plusDays(7));
+            given(refreshTokenRepository.findRowByTokenHash(tokenHash)).willReturn(Optional.of(row));
+
+            // when
+            Optional<RefreshTokenRow> first = store.find(tokenHash);
+            Optional<RefreshTokenRow> second = store.find(tokenHash);
+
+            // then
+            assertThat(first).contains(row);
+            assertThat(second).contains(row);
+            verify(refreshTokenRepository, times(1)).findRowByTokenHash(tokenHash);
+        }
+
+        @Test
+        @DisplayName("비활성 회원의 토큰은 캐시하지 않는다")
+        void find_InactiveMember_NotCached() {
+            // given
+            String tokenHash = RefreshTokenStore.hash("token");
+            RefreshTokenRow row = createRow(MemberStatus.LOCKED, LocalDateTime.now().plusDays(7));
+            given(refreshTokenRepository.findRowByTokenHash(tokenHash)).willReturn(Optional.of(row));
+
+            // when
+            store.find(tokenHash);
+            store.find(tokenHash);
+
+            // then
+            verify(refreshTokenRepository, times(2)).findRowByTokenHash(tokenHash);
+        }
+    }
+
+    @Nested
+    @DisplayName("교체")
+    class RotateTest {
+
+        @Test
+        @DisplayName("조건부 UPDATE에 성공하면 새 해시를 캐시하고 이전 해시는 지운다")
+        void rotate_Success_CachesNewHash() {
+            // given
+            String currentHash = RefreshTokenStore.hash("old");
+            String newHash = RefreshTokenStore.hash("new");
+            RefreshTokenRow row = createRow(MemberStatus.ACTIVE, LocalDateTime.now().plusDays(1));
+            LocalDateTime expiresAt = LocalDateTime.now().plusDays(7);
+            given(refreshTokenRepository.findRowByTokenHash(currentHash))
+                    .willReturn(Optional.of(row), Optional.empty());
+            given(refreshTokenRepository.rotate(eq(10L), eq(currentHash), eq(newHash), eq(expiresAt), any(),
+                    eq(MemberStatus.ACTIVE))).willReturn(1);
+            store.find(currentHash);
+
+            // when
+            boolean rotated = store.rotate(currentHash, row, "new", expiresAt);
+
+            // then
+            assertThat(rotated).isTrue();
+            assertThat(store.find(newHash)).get().extracting(RefreshTokenRow::expiresAt).isEqualTo(expiresAt);
+            assertThat(store.find(currentHash)).isEmpty();
+            verify(refreshTokenRepository, never()).findRowByTokenHash(newHash);
+        }
+
+        @Test
+        @DisplayName("이미 교체/폐기되어 갱신된 행이 없으면 실패한다")
+        void rotate_NoRowUpdated_ReturnsFalse() {
+            // given
+            RefreshTokenRow row = createRow(MemberStatus.ACTIVE, LocalDateTime.now().plusDays(1));
+            given(refreshTokenRepository.rotate(anyLong(), anyString(), anyString(), any(), any(), any()))
+                    .willReturn(0);
+
+            // when
+            boolean rotated = store.rotate(RefreshTokenStore.hash("old"), row, "new", LocalDateTime.now().plusDays(7));
+
+            // then
+            assertThat(rotated).isFalse();
+        }
+    }
+
+    @Test
+    @DisplayName("로그인 시 기존 토큰 행을 새 해시로 교체한다")
+    void save_ExistingToken_UpdatesHash() {
+        // given
+        RefreshToken existing = new RefreshToken(1L, RefreshTokenStore.hash("old"), LocalDateTime.now().plusDays(1));
+        given(refreshTokenRepository.findByMemberId(1L)).willReturn(Optional.of(existing));
+        LocalDateTime expiresAt = LocalDateTime.now().plusDays(7);
+
+        // when
+        store.save(1L, "test@example.com", "new", expiresAt);
+
+        // then
+        assertThat(existing.getTokenHash()).isEqualTo(RefreshTokenStore.hash("new"));
+        assertThat(existing.getExpiresAt()).isEqualTo(expiresAt);
+        verify(refreshTokenRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("만료 행은 배치 크기만큼만 지운다")
+    void purgeExpired_DeletesOneBatch() {
+        // given
+        given(refreshTokenRepository.findExpiredIds(any(), any(Pageable.class))).willReturn(List.of(1L, 2L));
+        given(refreshTokenRepository.deleteByIdIn(List.of(1L, 2L))).willReturn(2);
+
+        // when
+        int purged = store.purgeExpired(2);
+
+        // then
+        assertThat(purged).isEqualTo(2);
+    }
+
+    private RefreshTokenRow createRow(MemberStatus status, LocalDateTime expiresAt) {
+        return new RefreshTokenRow(10L, 1L, "test@example.com", status, expiresAt);
+    }
+}
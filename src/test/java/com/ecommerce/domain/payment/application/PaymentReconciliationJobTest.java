@@ -0,0 +1,193 @@
+package com.ecommerce.domain.payment.application;
+
+import com.ecommerce.domain.payment.application.PaymentReconciliationService.Applied;
+import com.ecommerce.domain.payment.application.PaymentReconciliationService.PgLookup;
+import com.ecommerce.domain.payment.application.PaymentReconciliationService.PgState;
+import com.ecommerce.domain.payment.application.PaymentReconciliationService.Result;
+import com.ecommerce.domain.payment.dao.PaymentRepository;
+import com.ecommerce.domain.payment.domain.PaymentStatus;
+import com.ecommerce.domain.payment.dto.ReconciliationTarget;
+import com.ecommerce.infra.pg.AsyncPgClient;
+import com.ecommerce.infra.pg.PgCircuitBreaker;
+import com.ecommerce.infra.pg.PgResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentReconciliationJobTest {
+
+    private static final int CHUNK_SIZE = 2;
+
+    @Mock
+    private PaymentRepository paymentRepository;
+
+    @Mock
+    private PaymentReconciliationService reconciliationService;
+
+    @Mock
+    private AsyncPgClient asyncPgClient;
+
+    private MeterRegistry meterRegistry;
+    private PaymentReconciliationJob job;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        job = new PaymentReconciliationJob(paymentRepository, reconciliationService, asyncPgClient,
+                meterRegistry, true, CHUNK_SIZE, 2, 10);
+    }
+
+    @Nested
+    @DisplayName("키셋 페이징")
+    class PagingTest {
+
+        @Test
+        @DisplayName("마지막 id 다음부터 청크 단위로 읽고 청크가 덜 차면 다음 상태로 넘어간다")
+        void run_PagesByLastId() {
+            // given
+            given(paymentRepository.findReconciliationTargets(eq(PaymentStatus.PENDING), eq(PgResponse.TIMEOUT_CODE), any(), eq(0L), any()))
+                    .willReturn(List.of(target(1L), target(2L)));
+            given(paymentRepository.findReconciliationTargets(eq(PaymentStatus.PENDING), eq(PgResponse.TIMEOUT_CODE), any(), eq(2L), any()))
+                    .willReturn(List.of(target(3L)));
+            given(paymentRepository.findReconciliationTargets(eq(PaymentStatus.FAILED), eq(PgResponse.TIMEOUT_CODE), any(), eq(0L), any()))
+                    .willReturn(List.of());
+            given(asyncPgClient.inquiryByOrderNumber(anyString()))
+                    .willReturn(CompletableFuture.completedFuture(PgResponse.success("TXN")));
+            given(reconciliationService.apply(anyList())).willAnswer(invocation -> applyAll(invocation.getArgument(0)));
+
+            // when
+            job.run();
+
+            // then
+            assertThat(processed("approved")).isEqualTo(3);
+            assertThat(meterRegistry.get("payment.reconciliation.scanned").gauge().value()).isEqualTo(3);
+            assertThat(meterRegistry.get("payment.reconciliation.lag.seconds").gauge().value())
+                    .isGreaterThanOrEqualTo(3600);
+        }
+
+        @Test
+        @DisplayName("서킷이 열려 있으면 조회하지 않고 다음 실행으로 미룬다")
+        void run_CircuitOpen_Skips() {
+            // given
+            given(asyncPgClient.getCircuitState()).willReturn(PgCircuitBreaker.State.OPEN);
+
+            // when
+            job.run();
+
+            // then
+            verify(paymentRepository, never()).findReconciliationTargets(any(), any(), any(), any(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("조회 결과 반영")
+    class ApplyTest {
+
+        @Test
+        @DisplayName("PG 장애 응답은 반영하지 않고 미확정으로 남긴다")
+        void run_SystemError_LeftUnresolved() {
+            // given
+            given(paymentRepository.findReconciliationTargets(eq(PaymentStatus.PENDING), eq(PgResponse.TIMEOUT_CODE), any(), eq(0L), any()))
+                    .willReturn(List.of(target(1L)));
+            given(paymentRepository.findReconciliationTargets(eq(PaymentStatus.FAILED), eq(PgResponse.TIMEOUT_CODE), any(), eq(0L), any()))
+                    .willReturn(List.of());
+            given(asyncPgClient.inquiryByOrderNumber(anyString()))
+                    .willReturn(CompletableFuture.completedFuture(PgResponse.timeout()));
+
+            // when
+            job.run();
+
+            // then
+            verify(reconciliationService, never()).apply(anyList());
+            assertThat(processed("unresolved")).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("청크 트랜잭션이 실패하면 건별로 다시 반영하고 실패한 건만 오류로 남긴다")
+        void run_ChunkFailure_FallsBackToSingle() {
+            // given
+            given(paymentRepository.findReconciliationTargets(eq(PaymentStatus.PENDING), eq(PgResponse.TIMEOUT_CODE), any(), eq(0L), any()))
+                    .willReturn(List.of(target(1L), target(2L)));
+            given(paymentRepository.findReconciliationTargets(eq(PaymentStatus.PENDING), eq(PgResponse.TIMEOUT_CODE), any(), eq(2L), any()))
+                    .willReturn(List.of());
+            given(paymentRepository.findReconciliationTargets(eq(PaymentStatus.FAILED), eq(PgResponse.TIMEOUT_CODE), any(), eq(0L), any()))
+                    .willReturn(List.of());
+            given(asyncPgClient.inquiryByOrderNumber(anyString()))
+                    .willReturn(CompletableFuture.completedFuture(PgResponse.failure("4001", "거래 내역 없음")));
+            given(reconciliationService.apply(anyList())).willAnswer(invocation -> {
+                List<PgLookup> lookups = invocation.getArgument(0);
+                if (lookups.size() > 1 || lookups.getFirst().target().paymentId() == 2L) {
+                    throw new IllegalStateException("반영 실패");
+                }
+                return List.of(new Applied(lookups.getFirst(), Result.FAILED));
+            });
+
+            // when
+            job.run();
+
+            // then
+            assertThat(processed("failed")).isEqualTo(1);
+            assertThat(processed("error")).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("결제 대기가 아닌 주문의 PG 승인은 커밋 후 PG에서 취소한다")
+        void run_CancelRequired_CancelsAtPg() {
+            // given
+            given(paymentRepository.findReconciliationTargets(eq(PaymentStatus.PENDING), eq(PgResponse.TIMEOUT_CODE), any(), eq(0L), any()))
+                    .willReturn(List.of(target(1L)));
+            given(paymentRepository.findReconciliationTargets(eq(PaymentStatus.FAILED), eq(PgResponse.TIMEOUT_CODE), any(), eq(0L), any()))
+                    .willReturn(List.of());
+            given(asyncPgClient.inquiryByOrderNumber(anyString()))
+                    .willReturn(CompletableFuture.completedFuture(PgResponse.success("TXN1")));
+            given(reconciliationService.apply(anyList())).willAnswer(invocation -> {
+                List<PgLookup> lookups = invocation.getArgument(0);
+                return List.of(new Applied(lookups.getFirst(), Result.CANCEL_REQUIRED));
+            });
+            given(asyncPgClient.cancel("TXN1", 50000L))
+                    .willReturn(CompletableFuture.completedFuture(PgResponse.cancelled("TXN1")));
+
+            // when
+            job.run();
+
+            // then
+            verify(asyncPgClient).cancel("TXN1", 50000L);
+            assertThat(processed("pg-cancelled")).isEqualTo(1);
+        }
+    }
+
+    private List<Applied> applyAll(List<PgLookup> lookups) {
+        return lookups.stream()
+                .map(lookup -> new Applied(lookup, lookup.state() == PgState.APPROVED ? Result.APPROVED : Result.FAILED))
+                .toList();
+    }
+
+    private double processed(String result) {
+        return meterRegistry.get("payment.reconciliation.processed").tag("result", result).counter().count();
+    }
+
+    private ReconciliationTarget target(Long paymentId) {
+        return new ReconciliationTarget(paymentId, 10L + paymentId, "ORD-" + paymentId, null, 50000L,
+                LocalDateTime.now().minusHours(1));
+    }
+}
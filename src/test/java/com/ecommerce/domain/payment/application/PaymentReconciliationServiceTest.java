@@ -0,0 +1,207 @@
+package com.ecommerce.domain.payment.application;
+
+import com.ecommerce.domain.model.Money;
+import com.ecommerce.domain.order.application.OrderService;
+import com.ecommerce.domain.order.domain.Order;
+import com.ecommerce.domain.order.domain.ShippingInfo;
+import com.ecommerce.domain.payment.application.PaymentReconciliationService.Applied;
+import com.ecommerce.domain.payment.application.PaymentReconciliationService.PgLookup;
+import com.ecommerce.domain.payment.application.PaymentReconciliationService.PgState;
+import com.ecommerce.domain.payment.application.PaymentReconciliationService.Result;
+import com.ecommerce.domain.payment.dao.PaymentRepository;
+import com.ecommerce.domain.payment.domain.Payment;
+import com.ecommerce.domain.payment.domain.PaymentMethod;
+import com.ecommerce.domain.payment.domain.PaymentStatus;
+import com.ecommerce.domain.payment.dto.ReconciliationTarget;
+import com.ecommerce.global.idempotency.IdempotencyService;
+import com.ecommerce.infra.pg.PgResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentReconciliationServiceTest {
+
+    private static final Long PAYMENT_ID = 100L;
+    private static final Long ORDER_ID = 10L;
+
+    @InjectMocks
+    private PaymentReconciliationService reconciliationService;
+
+    @Mock
+    private PaymentRepository paymentRepository;
+
+    @Mock
+    private OrderService orderService;
+
+    @Mock
+    private IdempotencyService idempotencyService;
+
+    @Nested
+    @DisplayName("PG 승인 내역이 있는 결제")
+    class ApprovedAtPgTest {
+
+        @Test
+        @DisplayName("주문이 결제 대기면 결제를 승인하고 주문을 결제 완료로 바꾼다")
+        void apply_PendingOrder_Approves() {
+            // given
+            Payment payment = createPayment();
+            payment.fail("처리 시간 초과");
+            given(paymentRepository.findById(PAYMENT_ID)).willReturn(Optional.of(payment));
+            given(orderService.findById(ORDER_ID)).willReturn(createOrder());
+
+            // when
+            List<Applied> applied = reconciliationService.apply(List.of(lookup(PgState.APPROVED, "TXN1")));
+
+            // then
+            assertThat(applied.getFirst().result()).isEqualTo(Result.APPROVED);
+            assertThat(payment.getStatus()).isEqualTo(PaymentStatus.APPROVED);
+            assertThat(payment.getPgTransactionId()).isEqualTo("TXN1");
+            verify(orderService).markAsPaid(any());
+        }
+
+        @Test
+        @DisplayName("주문이 이미 취소되었으면 결제를 실패로 확정하고 PG 취소가 필요하다고 알린다")
+        void apply_CancelledOrder_RequiresCancel() {
+            // given
+            Payment payment = createPayment();
+            Order order = createOrder();
+            order.cancel();
+            given(paymentRepository.findById(PAYMENT_ID)).willReturn(Optional.of(payment));
+            given(orderService.findById(ORDER_ID)).willReturn(order);
+
+            // when
+            List<Applied> applied = reconciliationService.apply(List.of(lookup(PgState.APPROVED, "TXN1")));
+
+            // then
+            assertThat(applied.getFirst().result()).isEqualTo(Result.CANCEL_REQUIRED);
+            assertThat(payment.getStatus()).isEqualTo(PaymentStatus.FAILED);
+            assertThat(payment.getReconciledAt()).isNotNull();
+            verify(orderService, never()).markAsPaid(any());
+        }
+
+        @Test
+        @DisplayName("조회된 승인이 같은 주문을 재시도해 성공한 다른 결제의 거래면 취소하지 않고 닫는다")
+        void apply_ApprovedByRetriedPayment_ClosesWithoutCancel() {
+            // given
+            Payment payment = createPayment();
+            payment.fail(PgResponse.TIMEOUT_CODE, "처리 시간 초과");
+            Payment retried = createPayment();
+            ReflectionTestUtils.setField(retried, "id", 101L);
+            retried.approve("TXN2");
+            Order order = createOrder();
+            order.markAsPaid();
+            given(paymentRepository.findById(PAYMENT_ID)).willReturn(Optional.of(payment));
+            given(orderService.findById(ORDER_ID)).willReturn(order);
+            given(paymentRepository.findByOrderIdAndStatus(ORDER_ID, PaymentStatus.APPROVED))
+                    .willReturn(Optional.of(retried));
+
+            // when
+            List<Applied> applied = reconciliationService.apply(List.of(lookup(PgState.APPROVED, "TXN2")));
+
+            // then
+            assertThat(applied.getFirst().result()).isEqualTo(Result.CLOSED);
+            assertThat(payment.getStatus()).isEqualTo(PaymentStatus.FAILED);
+            assertThat(payment.getReconciledAt()).isNotNull();
+            assertThat(retried.getStatus()).isEqualTo(PaymentStatus.APPROVED);
+        }
+    }
+
+    @Nested
+    @DisplayName("PG 거래 내역이 없는 결제")
+    class NotFoundAtPgTest {
+
+        @Test
+        @DisplayName("대기 중인 결제는 실패로 확정한다")
+        void apply_Pending_Fails() {
+            // given
+            Payment payment = createPayment();
+            given(paymentRepository.findById(PAYMENT_ID)).willReturn(Optional.of(payment));
+
+            // when
+            List<Applied> applied = reconciliationService.apply(List.of(lookup(PgState.NOT_FOUND, null)));
+
+            // then
+            assertThat(applied.getFirst().result()).isEqualTo(Result.FAILED);
+            assertThat(payment.getStatus()).isEqualTo(PaymentStatus.FAILED);
+            assertThat(payment.getReconciledAt()).isNotNull();
+        }
+
+        @Test
+        @DisplayName("이미 실패한 결제는 상태를 유지한 채 정산 완료로 표시한다")
+        void apply_Failed_Closes() {
+            // given
+            Payment payment = createPayment();
+            payment.fail("카드 한도 초과");
+            given(paymentRepository.findById(PAYMENT_ID)).willReturn(Optional.of(payment));
+
+            // when
+            List<Applied> applied = reconciliationService.apply(List.of(lookup(PgState.NOT_FOUND, null)));
+
+            // then
+            assertThat(applied.getFirst().result()).isEqualTo(Result.CLOSED);
+            assertThat(payment.getFailureReason()).isEqualTo("카드 한도 초과");
+        }
+    }
+
+    @Test
+    @DisplayName("조회하는 사이 정상 흐름에서 승인된 결제는 건너뛴다")
+    void apply_AlreadyApproved_Skips() {
+        // given
+        Payment payment = createPayment();
+        payment.approve("TXN1");
+        given(paymentRepository.findById(PAYMENT_ID)).willReturn(Optional.of(payment));
+
+        // when
+        List<Applied> applied = reconciliationService.apply(List.of(lookup(PgState.APPROVED, "TXN1")));
+
+        // then
+        assertThat(applied.getFirst().result()).isEqualTo(Result.SKIPPED);
+        verify(orderService, never()).findById(any());
+    }
+
+    private PgLookup lookup(PgState state, String transactionId) {
+        ReconciliationTarget target = new ReconciliationTarget(PAYMENT_ID, ORDER_ID, "ORD-1", null, 50000L,
+                LocalDateTime.now().minusHours(1));
+        return new PgLookup(target, state, transactionId);
+    }
+
+    private Payment createPayment() {
+        Payment payment = Payment.builder()
+                .orderId(ORDER_ID)
+                .memberId(1L)
+                .amount(Money.of(50000L))
+                .method(PaymentMethod.CREDIT_CARD)
+                .idempotencyKey("IDEM-12345")
+                .build();
+        ReflectionTestUtils.setField(payment, "id", PAYMENT_ID);
+        return payment;
+    }
+
+    private Order createOrder() {
+        return Order.builder()
+                .memberId(1L)
+                .shippingInfo(ShippingInfo.builder()
+                        .recipientName("홍길동")
+                        .recipientPhone("010-1234-5678")
+                        .zipCode("12345")
+                        .address1("서울시 강남구")
+                        .build())
+                .build();
+    }
+}
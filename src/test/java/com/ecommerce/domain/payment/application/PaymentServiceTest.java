@@ -0,0 +1,330 @@
+package com.ecommerce.domain.payment.application;
+
+import com.ecommerce.domain.inventory.exception.InventoryException;
+import com.ecommerce.domain.payment.application.PaymentTransactionService.PaymentAttempt;
+import com.ecommerce.domain.payment.dao.PaymentRepository;
+import com.ecommerce.domain.model.Money;
+import com.ecommerce.domain.payment.domain.Payment;
+import com.ecommerce.domain.payment.domain.PaymentMethod;
+import com.ecommerce.domain.payment.domain.PaymentStatus;
+import com.ecommerce.domain.payment.dto.PaymentRequest;
+import com.ecommerce.domain.payment.dto.PaymentResponse;
+import com.ecommerce.domain.payment.exception.PaymentException;
+import com.ecommerce.global.idempotency.IdempotencyCache;
+import com.ecommerce.global.idempotency.IdempotencyService;
+import com.ecommerce.global.idempotency.IdempotencyService.IdempotencyResult;
+import com.ecommerce.infra.pg.AsyncPgClient;
+import com.ecommerce.infra.pg.PgResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentServiceTest {
+
+    private static final String IDEMPOTENCY_KEY = "key-1";
+
+    @InjectMocks
+    private PaymentService paymentService;
+
+    @Mock
+    private PaymentRepository paymentRepository;
+
+    @Mock
+    private PaymentTransactionService paymentTransactionService;
+
+    @Mock
+    private AsyncPgClient asyncPgClient;
+
+    @Mock
+    private IdempotencyService idempotencyService;
+
+    @Spy
+    private IdempotencyCache idempotencyCache = new IdempotencyCache(new SimpleMeterRegistry(), 100, 600, 100);
+
+    private PaymentRequest request;
+    private PaymentAttempt attempt;
+
+    @BeforeEach
+    void setUp() {
+        request = new PaymentRequest();
+        ReflectionTestUtils.setField(request, "orderId", 10L);
+        ReflectionTestUtils.setField(request, "method", PaymentMethod.CREDIT_CARD);
+        ReflectionTestUtils.setField(request, "idempotencyKey", IDEMPOTENCY_KEY);
+        ReflectionTestUtils.setField(request, "cardNumber", "4000000000000000");
+        attempt = new PaymentAttempt(100L, 10L, "ORD-1", 50000L);
+    }
+
+    @Nested
+    @DisplayName("결제 처리")
+    class ProcessPaymentTest {
+
+        @Test
+        @DisplayName("PENDING 저장 후 PG 승인을 받고 별도 트랜잭션에서 결제를 확정한다")
+        void processPayment_Success() {
+            // given
+            given(idempotencyService.checkAndCreate(IDEMPOTENCY_KEY, "PAYMENT"))
+                    .willReturn(IdempotencyResult.newRequest());
+            given(paymentTransactionService.begin(1L, request)).willReturn(attempt);
+            given(asyncPgClient.approve(any()))
+                    .willReturn(CompletableFuture.completedFuture(PgResponse.success("TXN1")));
+            given(paymentTransactionService.approve(100L, "TXN1", IDEMPOTENCY_KEY))
+                    .willReturn(PaymentResponse.builder().id(100L).status(PaymentStatus.APPROVED).build());
+
+            // when
+            PaymentResponse response = paymentService.processPayment(1L, request);
+
+            // then
+            assertThat(response.getStatus()).isEqualTo(PaymentStatus.APPROVED);
+            InOrder order = inOrder(paymentTransactionService, asyncPgClient);
+            order.verify(paymentTransactionService).begin(1L, request);
+            order.verify(asyncPgClient).approve(any());
+            order.verify(paymentTransactionService).approve(100L, "TXN1", IDEMPOTENCY_KEY);
+            verify(asyncPgClient, never()).cancel(anyString(), anyLong());
+        }
+
+        @Test
+        @DisplayName("PG 승인이 거절되면 결제를 실패로 기록하고 확정하지 않는다")
+        void processPayment_PgDeclined_RecordsFailure() {
+            // given
+            given(idempotencyService.checkAndCreate(IDEMPOTENCY_KEY, "PAYMENT"))
+                    .willReturn(IdempotencyResult.newRequest());
+            given(paymentTransactionService.begin(1L, request)).willReturn(attempt);
+            given(asyncPgClient.approve(any()))
+                    .willReturn(CompletableFuture.completedFuture(PgResponse.failure("2001", "잔액 부족")));
+            given(paymentTransactionService.fail(100L, "2001", "잔액 부족", IDEMPOTENCY_KEY))
+                    .willReturn(PaymentResponse.builder().id(100L).status(PaymentStatus.FAILED).build());
+
+            // when
+            PaymentResponse response = paymentService.processPayment(1L, request);
+
+            // then
+            assertThat(response.getStatus()).isEqualTo(PaymentStatus.FAILED);
+            verify(paymentTransactionService, never()).approve(any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("최종 트랜잭션이 실패하면 PG 승인을 취소하고 결제를 실패로 기록한다")
+        void processPayment_ConfirmFails_CancelsPgApproval() {
+            // given
+            given(idempotencyService.checkAndCreate(IDEMPOTENCY_KEY, "PAYMENT"))
+                    .willReturn(IdempotencyResult.newRequest());
+            given(paymentTransactionService.begin(1L, request)).willReturn(attempt);
+            given(asyncPgClient.approve(any()))
+                    .willReturn(CompletableFuture.completedFuture(PgResponse.success("TXN1")));
+            given(paymentTransactionService.approve(100L, "TXN1", IDEMPOTENCY_KEY))
+                    .willThrow(InventoryException.insufficientStock());
+            given(asyncPgClient.cancel("TXN1", 50000L))
+                    .willReturn(CompletableFuture.completedFuture(PgResponse.cancelled("TXN1")));
+
+            // when & then
+            assertThatThrownBy(() -> paymentService.processPayment(1L, request))
+                    .isInstanceOf(InventoryException.class);
+            verify(asyncPgClient).cancel("TXN1", 50000L);
+            verify(paymentTransactionService).fail(any(), any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("승인 마감을 넘겨 결과가 불명확하면 실패로 기록하지 않고 PENDING과 키를 유지한다")
+        void processPayment_Timeout_KeepsPending() {
+            // given
+            given(idempotencyService.checkAndCreate(IDEMPOTENCY_KEY, "PAYMENT"))
+                    .willReturn(IdempotencyResult.newRequest());
+            given(paymentTransactionService.begin(1L, request)).willReturn(attempt);
+            given(asyncPgClient.approve(any()))
+                    .willReturn(CompletableFuture.completedFuture(PgResponse.timeout()));
+            given(paymentRepository.findById(100L)).willReturn(Optional.of(createPendingPayment()));
+
+            // when
+            PaymentResponse response = paymentService.processPayment(1L, request);
+
+            // then
+            assertThat(response.getStatus()).isEqualTo(PaymentStatus.PENDING);
+            verify(paymentTransactionService, never()).fail(any(), any(), any(), any());
+            verify(idempotencyService, never()).delete(anyString(), anyString());
+        }
+
+        @Test
+        @DisplayName("PG 호출 중 예외가 나도 승인 여부를 알 수 없으므로 PENDING으로 남긴다")
+        void processPayment_PgCallFails_KeepsPending() {
+            // given
+            given(idempotencyService.checkAndCreate(IDEMPOTENCY_KEY, "PAYMENT"))
+                    .willReturn(IdempotencyResult.newRequest());
+            given(paymentTransactionService.begin(1L, request)).willReturn(attempt);
+            given(asyncPgClient.approve(any()))
+                    .willReturn(CompletableFuture.failedFuture(new IllegalStateException("connection reset")));
+            given(paymentRepository.findById(100L)).willReturn(Optional.of(createPendingPayment()));
+
+            // when
+            PaymentResponse response = paymentService.processPayment(1L, request);
+
+            // then
+            assertThat(response.getStatus()).isEqualTo(PaymentStatus.PENDING);
+            verify(paymentTransactionService, never()).fail(any(), any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("PG에 보내기 전에 거절(9998)되면 확정된 실패로 기록한다")
+        void processPayment_Unavailable_RecordsFailure() {
+            // given
+            given(idempotencyService.checkAndCreate(IDEMPOTENCY_KEY, "PAYMENT"))
+                    .willReturn(IdempotencyResult.newRequest());
+            given(paymentTransactionService.begin(1L, request)).willReturn(attempt);
+            given(asyncPgClient.approve(any()))
+                    .willReturn(CompletableFuture.completedFuture(PgResponse.unavailable()));
+            given(paymentTransactionService.fail(100L, PgResponse.UNAVAILABLE_CODE, "PG 호출 일시 제한", IDEMPOTENCY_KEY))
+                    .willReturn(PaymentResponse.builder().id(100L).status(PaymentStatus.FAILED).build());
+
+            // when
+            PaymentResponse response = paymentService.processPayment(1L, request);
+
+            // then
+            assertThat(response.getStatus()).isEqualTo(PaymentStatus.FAILED);
+        }
+
+        @Test
+        @DisplayName("보상 중 실패 기록이 실패해도 원래 오류를 던지고 새 오류는 suppressed로 남긴다")
+        void processPayment_CompensationFailRecordFails_KeepsOriginalError() {
+            // given
+            given(idempotencyService.checkAndCreate(IDEMPOTENCY_KEY, "PAYMENT"))
+                    .willReturn(IdempotencyResult.newRequest());
+            given(paymentTransactionService.begin(1L, request)).willReturn(attempt);
+            given(asyncPgClient.approve(any()))
+                    .willReturn(CompletableFuture.completedFuture(PgResponse.success("TXN1")));
+            given(paymentTransactionService.approve(100L, "TXN1", IDEMPOTENCY_KEY))
+                    .willThrow(InventoryException.insufficientStock());
+            given(asyncPgClient.cancel("TXN1", 50000L))
+                    .willReturn(CompletableFuture.completedFuture(PgResponse.cancelled("TXN1")));
+            IllegalStateException recordFailure = new IllegalStateException("db down");
+            given(paymentTransactionService.fail(any(), any(), any(), any())).willThrow(recordFailure);
+
+            // when & then
+            assertThatThrownBy(() -> paymentService.processPayment(1L, request))
+                    .isInstanceOf(InventoryException.class)
+                    .satisfies(e -> assertThat(e.getSuppressed()).containsExactly(recordFailure));
+        }
+
+        @Test
+        @DisplayName("같은 멱등키의 요청이 진행 중이면 PG를 호출하지 않는다")
+        void processPayment_InProgress_ThrowsException() {
+            // given
+            given(idempotencyService.checkAndCreate(IDEMPOTENCY_KEY, "PAYMENT"))
+                    .willReturn(IdempotencyResult.inProgress());
+
+            // when & then
+            assertThatThrownBy(() -> paymentService.processPayment(1L, request))
+                    .isInstanceOf(PaymentException.class);
+            verify(asyncPgClient, never()).approve(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("멱등 키 메모리 선점")
+    class IdempotencyClaimTest {
+
+        @Test
+        @DisplayName("승인된 결제를 같은 키로 재시도하면 DB 접근 없이 캐시된 응답을 돌려준다")
+        void processPayment_RetryAfterApproval_ReturnsCachedResponse() {
+            // given
+            given(idempotencyService.checkAndCreate(IDEMPOTENCY_KEY, "PAYMENT"))
+                    .willReturn(IdempotencyResult.newRequest());
+            given(paymentTransactionService.begin(1L, request)).willReturn(attempt);
+            given(asyncPgClient.approve(any()))
+                    .willReturn(CompletableFuture.completedFuture(PgResponse.success("TXN1")));
+            given(paymentTransactionService.approve(100L, "TXN1", IDEMPOTENCY_KEY))
+                    .willReturn(PaymentResponse.builder().id(100L).status(PaymentStatus.APPROVED).build());
+            PaymentResponse first = paymentService.processPayment(1L, request);
+
+            // when
+            PaymentResponse retried = paymentService.processPayment(1L, request);
+
+            // then
+            assertThat(retried).isSameAs(first);
+            verify(idempotencyService, times(1)).checkAndCreate(IDEMPOTENCY_KEY, "PAYMENT");
+            verify(paymentTransactionService, times(1)).begin(1L, request);
+            verifyNoInteractions(paymentRepository);
+        }
+
+        @Test
+        @DisplayName("거절된 결제는 키를 풀어 같은 키로 다시 결제할 수 있다")
+        void processPayment_Declined_ReleasesKey() {
+            // given
+            given(idempotencyService.checkAndCreate(IDEMPOTENCY_KEY, "PAYMENT"))
+                    .willReturn(IdempotencyResult.newRequest());
+            given(paymentTransactionService.begin(1L, request)).willReturn(attempt);
+            given(asyncPgClient.approve(any()))
+                    .willReturn(CompletableFuture.completedFuture(PgResponse.failure("2001", "잔액 부족")));
+            given(paymentTransactionService.fail(100L, "2001", "잔액 부족", IDEMPOTENCY_KEY))
+                    .willReturn(PaymentResponse.builder().id(100L).status(PaymentStatus.FAILED).build());
+
+            // when
+            paymentService.processPayment(1L, request);
+            paymentService.processPayment(1L, request);
+
+            // then
+            verify(idempotencyService, times(2)).checkAndCreate(IDEMPOTENCY_KEY, "PAYMENT");
+        }
+
+        @Test
+        @DisplayName("같은 키의 요청이 메모리에서 처리 중이면 마감 시간까지 기다린 뒤 중복으로 거절한다")
+        void processPayment_InFlight_ThrowsAfterWait() {
+            // given
+            idempotencyCache.claim("PAYMENT", IDEMPOTENCY_KEY);
+
+            // when & then
+            assertThatThrownBy(() -> paymentService.processPayment(1L, request))
+                    .isInstanceOf(PaymentException.class);
+            verifyNoInteractions(idempotencyService, paymentTransactionService, asyncPgClient);
+        }
+
+        @Test
+        @DisplayName("다른 인스턴스가 같은 키를 먼저 저장했으면 중복 결제로 거절한다")
+        void processPayment_DbKeyConflict_ThrowsException() {
+            // given
+            given(idempotencyService.checkAndCreate(IDEMPOTENCY_KEY, "PAYMENT"))
+                    .willThrow(new DataIntegrityViolationException("duplicate key"));
+
+            // when & then
+            assertThatThrownBy(() -> paymentService.processPayment(1L, request))
+                    .isInstanceOf(PaymentException.class);
+            verify(asyncPgClient, never()).approve(any());
+        }
+    }
+
+    private Payment createPendingPayment() {
+        Payment payment = Payment.builder()
+                .orderId(10L)
+                .memberId(1L)
+                .amount(Money.of(50000L))
+                .method(PaymentMethod.CREDIT_CARD)
+                .idempotencyKey(IDEMPOTENCY_KEY)
+                .build();
+        ReflectionTestUtils.setField(payment, "id", 100L);
+        return payment;
+    }
+}
@@ -130,6 +130,40 @@ class PaymentTest {
         }
     }
 
+    @Nested
+    @DisplayName("정산 승인")
+    class ReconcileApprovedTest {
+
+        @Test
+        @DisplayName("실패로 기록된 결제도 PG 승인 내역이 있으면 승인으로 정정된다")
+        void reconcileApproved_FromFailed_Success() {
+            // given
+            Payment payment = createPayment();
+            payment.fail("처리 시간 초과");
+
+            // when
+            payment.reconcileApproved("TXN-12345");
+
+            // then
+            assertThat(payment.getStatus()).isEqualTo(PaymentStatus.APPROVED);
+            assertThat(payment.getPgTransactionId()).isEqualTo("TXN-12345");
+            assertThat(payment.getFailureReason()).isNull();
+            assertThat(payment.getReconciledAt()).isNotNull();
+        }
+
+        @Test
+        @DisplayName("이미 승인된 결제는 정산 승인할 수 없다")
+        void reconcileApproved_AlreadyApproved_ThrowsException() {
+            // given
+            Payment payment = createPayment();
+            payment.approve("TXN-12345");
+
+            // when & then
+            assertThatThrownBy(() -> payment.reconcileApproved("TXN-12345"))
+                    .isInstanceOf(PaymentException.class);
+        }
+    }
+
     private Payment createPayment() {
         return Payment.builder()
                 .orderId(1L)
@@ -15,11 +15,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.List;
-import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
-import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
 
 @ExtendWith(MockitoExtension.class)
@@ -31,6 +29,9 @@ class CategoryServiceTest {
     @Mock
     private CategoryRepository categoryRepository;
 
+    @Mock
+    private CategoryTreeHolder categoryTreeHolder;
+
     @Nested
     @DisplayName("루트 카테고리 조회")
     class GetRootCategoriesTest {
@@ -42,8 +43,7 @@ class CategoryServiceTest {
             Category category1 = createCategory(1L, "전자제품", null);
             Category category2 = createCategory(2L, "의류", null);
 
-            given(categoryRepository.findByParentIsNullAndActiveTrueOrderBySortOrderAsc())
-                    .willReturn(List.of(category1, category2));
+            given(categoryTreeHolder.get()).willReturn(CategoryTree.of(List.of(category1, category2)));
 
             // when
             List<CategoryResponse> responses = categoryService.getRootCategories();
@@ -67,8 +67,7 @@ class CategoryServiceTest {
             Category child1 = createCategory(2L, "노트북", parent);
             Category child2 = createCategory(3L, "스마트폰", parent);
 
-            given(categoryRepository.findByParentIdAndActiveTrueOrderBySortOrderAsc(1L))
-                    .willReturn(List.of(child1, child2));
+            given(categoryTreeHolder.get()).willReturn(CategoryTree.of(List.of(parent, child1, child2)));
 
             // when
             List<CategoryResponse> responses = categoryService.getSubCategories(1L);
@@ -89,7 +88,7 @@ class CategoryServiceTest {
             // given
             Category category = createCategory(1L, "전자제품", null);
 
-            given(categoryRepository.findByIdWithChildren(1L)).willReturn(Optional.of(category));
+            given(categoryTreeHolder.get()).willReturn(CategoryTree.of(List.of(category)));
 
             // when
             CategoryResponse response = categoryService.getCategoryWithChildren(1L);
@@ -103,7 +102,7 @@ class CategoryServiceTest {
         @DisplayName("존재하지 않는 카테고리 조회 시 예외가 발생한다")
         void getCategoryWithChildren_NotFound_ThrowsException() {
             // given
-            given(categoryRepository.findByIdWithChildren(anyLong())).willReturn(Optional.empty());
+            given(categoryTreeHolder.get()).willReturn(CategoryTree.of(List.of()));
 
             // when & then
             assertThatThrownBy(() -> categoryService.getCategoryWithChildren(999L))
@@ -127,14 +126,59 @@ class CategoryServiceTest {
             Category category2 = createCategory(2L, "노트북", category1);
             Category category3 = createCategory(3L, "의류", null);
 
-            given(categoryRepository.findAllActiveOrderByDepthAndSortOrder())
-                    .willReturn(List.of(category1, category3, category2));
+            given(categoryTreeHolder.get()).willReturn(CategoryTree.of(List.of(category1, category2, category3)));
 
             // when
             List<CategoryResponse> responses = categoryService.getAllCategories();
 
             // then
             assertThat(responses).hasSize(3);
+            assertThat(responses).extracting(CategoryResponse::getId).containsExactly(1L, 3L, 2L);
+        }
+    }
+
+    @Nested
+    @DisplayName("하위 카테고리 ID 조회")
+    class GetDescendantIdsTest {
+
+        @Test
+        @DisplayName("자신과 활성 하위 카테고리 전체의 ID를 조회한다")
+        void getDescendantIds_Success() {
+            // given
+            Category root = createCategory(1L, "전자제품", null);
+            Category laptop = createCategory(2L, "노트북", root);
+            Category gaming = createCategory(3L, "게이밍 노트북", laptop);
+            Category inactive = createCategory(4L, "단종", root);
+            Category underInactive = createCategory(5L, "단종 하위", inactive);
+            inactive.deactivate();
+
+            given(categoryTreeHolder.get())
+                    .willReturn(CategoryTree.of(List.of(root, laptop, gaming, inactive, underInactive)));
+
+            // when
+            List<Long> ids = categoryService.getDescendantIds(1L);
+
+            // then
+            assertThat(ids).containsExactly(1L, 2L, 3L);
+        }
+
+        @Test
+        @DisplayName("카테고리와 활성 하위 카테고리를 트리로 조회한다")
+        void getCategoryWithChildren_Nested() {
+            // given
+            Category root = createCategory(1L, "전자제품", null);
+            Category laptop = createCategory(2L, "노트북", root);
+            Category gaming = createCategory(3L, "게이밍 노트북", laptop);
+
+            given(categoryTreeHolder.get()).willReturn(CategoryTree.of(List.of(gaming, laptop, root)));
+
+            // when
+            CategoryResponse response = categoryService.getCategoryWithChildren(1L);
+
+            // then
+            assertThat(response.getChildren()).extracting(CategoryResponse::getId).containsExactly(2L);
+            assertThat(response.getChildren().get(0).getChildren())
+                    .extracting(CategoryResponse::getId).containsExactly(3L);
         }
     }
 
@@ -0,0 +1,60 @@
+package com.ecommerce.domain.product.application;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProductSearchIndexTest {
+
+    private ProductSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ProductSearchIndex();
+        index.index(1L, "삼성 갤럭시북 노트북", "가벼운 업무용 노트북");
+        index.index(2L, "노트북 파우치", "15인치 노트북 보호 케이스");
+        index.index(3L, "무선 마우스", "노트북과 함께 쓰기 좋은 마우스");
+        index.index(4L, "Apple MacBook Air", "M3 chip laptop");
+        index.markReady();
+    }
+
+    @Test
+    @DisplayName("띄어쓰기와 조사가 붙은 한글도 부분 일치로 찾는다")
+    void search_KoreanNgram() {
+        assertThat(index.search("노트북")).containsExactlyInAnyOrder(1L, 2L, 3L);
+        assertThat(index.search("갤럭시")).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("상품명에 포함된 상품이 설명에만 포함된 상품보다 앞선다")
+    void search_RanksNameMatchFirst() {
+        assertThat(index.search("노트북")).last().isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("대소문자를 구분하지 않고 모든 단어를 포함한 상품만 찾는다")
+    void search_AllWordsRequired() {
+        assertThat(index.search("macbook AIR")).containsExactly(4L);
+        assertThat(index.search("macbook 파우치")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("상품이 변경되면 이전 단어는 색인에서 빠진다")
+    void index_Update_ReplacesTerms() {
+        // when
+        index.index(2L, "태블릿 파우치", "11인치 태블릿 보호 케이스");
+
+        // then
+        assertThat(index.search("노트북")).containsExactlyInAnyOrder(1L, 3L);
+        assertThat(index.search("태블릿")).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("한 글자 검색어는 색인으로 처리하지 않는다")
+    void canSearch_SingleCharacter() {
+        assertThat(index.canSearch("폰")).isFalse();
+        assertThat(index.canSearch("노트북")).isTrue();
+    }
+}
@@ -6,11 +6,16 @@ import com.ecommerce.domain.product.domain.Category;
 import com.ecommerce.domain.product.domain.Product;
 import com.ecommerce.domain.product.domain.ProductStatus;
 import com.ecommerce.domain.product.dto.ProductListResponse;
+import com.ecommerce.domain.product.dto.ProductListRow;
 import com.ecommerce.domain.product.dto.ProductResponse;
 import com.ecommerce.domain.product.dto.ProductSearchRequest;
 import com.ecommerce.domain.product.exception.ProductException;
+import com.ecommerce.global.common.CursorResponse;
+import com.ecommerce.global.common.PageCursor;
 import com.ecommerce.global.common.PageResponse;
+import com.ecommerce.global.error.BusinessException;
 import com.ecommerce.global.error.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -18,9 +23,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDateTime;
@@ -31,7 +38,10 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class ProductServiceTest {
@@ -42,6 +52,18 @@ class ProductServiceTest {
     @Mock
     private ProductRepository productRepository;
 
+    @Mock
+    private ProductSearchIndex productSearchIndex;
+
+    @Mock
+    private CategoryService categoryService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(productService, "productListingReader",
+                new ProductListingReader(productRepository, categoryService));
+    }
+
     @Nested
     @DisplayName("상품 단건 조회")
     class GetProductTest {
@@ -102,16 +124,14 @@ class ProductServiceTest {
         @DisplayName("전체 상품 목록을 조회한다")
         void getProducts_All_Success() {
             // given
-            Product product1 = createActiveProduct(1L, "상품1", 10000L);
-            Product product2 = createActiveProduct(2L, "상품2", 20000L);
-            Page<Product> productPage = new PageImpl<>(
-                    List.of(product1, product2),
+            Page<ProductListRow> rowPage = new PageImpl<>(
+                    List.of(createRow(1L, "상품1", 10000L), createRow(2L, "상품2", 20000L)),
                     PageRequest.of(0, 20),
                     2
             );
 
-            given(productRepository.findByStatus(any(ProductStatus.class), any(PageRequest.class)))
-                    .willReturn(productPage);
+            given(productRepository.findListRowsByStatus(any(ProductStatus.class), any(PageRequest.class)))
+                    .willReturn(rowPage);
 
             ProductSearchRequest request = new ProductSearchRequest();
             request.setPage(0);
@@ -156,15 +176,14 @@ class ProductServiceTest {
         @DisplayName("카테고리별 상품을 조회한다")
         void getProducts_ByCategory_Success() {
             // given
-            Product product = createActiveProduct(1L, "의류", 50000L);
-            Page<Product> productPage = new PageImpl<>(
-                    List.of(product),
+            Page<ProductListRow> rowPage = new PageImpl<>(
+                    List.of(createRow(1L, "의류", 50000L)),
                     PageRequest.of(0, 20),
                     1
             );
 
-            given(productRepository.findByCategoryIdAndStatus(anyLong(), any(ProductStatus.class), any(PageRequest.class)))
-                    .willReturn(productPage);
+            given(productRepository.findListRowsByCategoryIdAndStatus(anyLong(), any(ProductStatus.class), any(PageRequest.class)))
+                    .willReturn(rowPage);
 
             ProductSearchRequest request = new ProductSearchRequest();
             request.setCategoryId(1L);
@@ -179,6 +198,139 @@ class ProductServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("커서 기반 상품 목록 조회")
+    class GetProductsByCursorTest {
+
+        @Test
+        @DisplayName("다음 페이지가 있으면 마지막 상품의 (생성일시, ID)로 다음 커서를 만든다")
+        void getProductsByCursor_FirstPage() {
+            // given
+            Product first = createActiveProduct(2L, "상품2", 10000L);
+            Product second = createActiveProduct(1L, "상품1", 10000L);
+            given(productRepository.findSliceByStatus(eq(ProductStatus.ACTIVE), any()))
+                    .willReturn(new SliceImpl<>(List.of(first, second), PageRequest.of(0, 2), true));
+
+            // when
+            CursorResponse<ProductListResponse> response = productService.getProductsByCursor(null, null, 2);
+
+            // then
+            assertThat(response.getContent()).extracting(ProductListResponse::getId).containsExactly(2L, 1L);
+            assertThat(response.isHasNext()).isTrue();
+            assertThat(PageCursor.decode(response.getNextCursor()))
+                    .isEqualTo(PageCursor.of(second.getCreatedAt(), 1L));
+        }
+
+        @Test
+        @DisplayName("커서 이후의 상품을 조회하고 마지막 페이지에서는 다음 커서가 없다")
+        void getProductsByCursor_NextPage() {
+            // given
+            PageCursor cursor = PageCursor.of(LocalDateTime.of(2025, 1, 1, 12, 0), 10L);
+            Product product = createActiveProduct(9L, "상품9", 10000L);
+            given(productRepository.findSliceByCategoryIdAndStatusBefore(
+                    eq(1L), eq(ProductStatus.ACTIVE), eq(cursor.createdAt()), eq(10L), any()))
+                    .willReturn(new SliceImpl<>(List.of(product), PageRequest.of(0, 20), false));
+
+            // when
+            CursorResponse<ProductListResponse> response =
+                    productService.getProductsByCursor(1L, cursor.encode(), 20);
+
+            // then
+            assertThat(response.getContent()).hasSize(1);
+            assertThat(response.isHasNext()).isFalse();
+            assertThat(response.getNextCursor()).isNull();
+        }
+
+        @Test
+        @DisplayName("잘못된 커서는 예외가 발생한다")
+        void getProductsByCursor_InvalidCursor_ThrowsException() {
+            assertThatThrownBy(() -> productService.getProductsByCursor(null, "not-a-cursor", 20))
+                    .isInstanceOf(BusinessException.class)
+                    .satisfies(e -> assertThat(((BusinessException) e).getErrorCode())
+                            .isEqualTo(ErrorCode.INVALID_INPUT));
+        }
+    }
+
+    @Nested
+    @DisplayName("검색 색인 조회")
+    class SearchByIndexTest {
+
+        @Test
+        @DisplayName("색인 순위대로 해당 페이지의 상품만 ID로 조회한다")
+        void getProducts_ByIndex_Success() {
+            // given
+            ProductListRow first = createRow(3L, "게이밍 노트북", 2000000L);
+            ProductListRow second = createRow(1L, "노트북 파우치", 30000L);
+            given(productSearchIndex.canSearch("노트북")).willReturn(true);
+            given(productSearchIndex.search("노트북")).willReturn(List.of(3L, 1L, 2L));
+            given(productRepository.findListRowsByIdIn(List.of(3L, 1L)))
+                    .willReturn(List.of(second, first));
+
+            ProductSearchRequest request = new ProductSearchRequest();
+            request.setKeyword("노트북");
+            request.setSize(2);
+
+            // when
+            PageResponse<ProductListResponse> response = productService.getProducts(request);
+
+            // then
+            assertThat(response.getContent()).extracting(ProductListResponse::getId).containsExactly(3L, 1L);
+            assertThat(response.getTotalElements()).isEqualTo(3);
+            assertThat(response.getTotalPages()).isEqualTo(2);
+            assertThat(response.isHasNext()).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("상품 목록 캐시")
+    class ListingCacheTest {
+
+        @Test
+        @DisplayName("앞쪽 페이지는 캐시에서 응답하고, 상품이 변경되면 캐시를 비운다")
+        void getProducts_CachedUntilProductChanged() {
+            // given
+            ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager();
+            ReflectionTestUtils.setField(productService, "cacheManager", cacheManager);
+            ReflectionTestUtils.setField(productService, "cachedPages", 5);
+
+            Product product = createActiveProduct(1L, "상품1", 10000L);
+            given(productRepository.findListRowsByStatus(any(ProductStatus.class), any(PageRequest.class)))
+                    .willReturn(new PageImpl<>(List.of(createRow(1L, "상품1", 10000L)), PageRequest.of(0, 20), 1));
+
+            ProductSearchRequest request = new ProductSearchRequest();
+
+            // when
+            productService.getProducts(request);
+            productService.getProducts(request);
+            new ProductCacheEvictionListener(cacheManager).onChange(product);
+            productService.getProducts(request);
+
+            // then
+            verify(productRepository, times(2)).findListRowsByStatus(any(ProductStatus.class), any(PageRequest.class));
+        }
+
+        @Test
+        @DisplayName("설정한 페이지 수를 넘는 페이지는 캐시하지 않는다")
+        void getProducts_BeyondCachedPages_NotCached() {
+            // given
+            ReflectionTestUtils.setField(productService, "cacheManager", new ConcurrentMapCacheManager());
+            ReflectionTestUtils.setField(productService, "cachedPages", 1);
+
+            given(productRepository.findListRowsByStatus(any(ProductStatus.class), any(PageRequest.class)))
+                    .willReturn(new PageImpl<>(List.of(), PageRequest.of(1, 20), 0));
+
+            ProductSearchRequest request = new ProductSearchRequest();
+            request.setPage(1);
+
+            // when
+            productService.getProducts(request);
+            productService.getProducts(request);
+
+            // then
+            verify(productRepository, times(2)).findListRowsByStatus(any(ProductStatus.class), any(PageRequest.class));
+        }
+    }
+
     @Nested
     @DisplayName("신상품 조회")
     class GetNewArrivalsTest {
@@ -187,12 +339,12 @@ class ProductServiceTest {
         @DisplayName("최신 상품 10개를 조회한다")
         void getNewArrivals_Success() {
             // given
-            List<Product> products = List.of(
-                    createActiveProduct(1L, "신상품1", 10000L),
-                    createActiveProduct(2L, "신상품2", 20000L)
+            List<ProductListRow> rows = List.of(
+                    createRow(1L, "신상품1", 10000L),
+                    createRow(2L, "신상품2", 20000L)
             );
-            given(productRepository.findTop10ByStatusOrderByCreatedAtDesc(ProductStatus.ACTIVE))
-                    .willReturn(products);
+            given(productRepository.findNewArrivalRows(eq(ProductStatus.ACTIVE), any(PageRequest.class)))
+                    .willReturn(rows);
 
             // when
             List<ProductListResponse> response = productService.getNewArrivals();
@@ -217,6 +369,10 @@ class ProductServiceTest {
         return product;
     }
 
+    private ProductListRow createRow(Long id, String name, long price) {
+        return new ProductListRow(id, name, price, price, "전자제품", false, null);
+    }
+
     private Product createInactiveProduct(Long id, String name) {
         Category category = createCategory(1L, "전자제품");
         Product product = Product.builder()
@@ -0,0 +1,188 @@
+package com.ecommerce.global.benchmark;
+
+import com.ecommerce.domain.model.Money;
+import com.ecommerce.domain.order.dao.OrderItemRepository;
+import com.ecommerce.domain.order.dao.OrderRepository;
+import com.ecommerce.domain.order.domain.Order;
+import com.ecommerce.domain.order.domain.OrderItem;
+import com.ecommerce.domain.order.domain.ShippingInfo;
+import com.ecommerce.domain.order.dto.OrderItemResponse;
+import com.ecommerce.domain.order.dto.OrderItemRow;
+import com.ecommerce.domain.order.dto.OrderResponse;
+import com.ecommerce.domain.order.dto.OrderSummaryRow;
+import com.ecommerce.domain.product.dao.CategoryRepository;
+import com.ecommerce.domain.product.dao.ProductRepository;
+import com.ecommerce.domain.product.domain.Category;
+import com.ecommerce.domain.product.domain.Product;
+import com.ecommerce.domain.product.domain.ProductStatus;
+import com.ecommerce.domain.product.dto.ProductListResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 엔티티 조회 후 DTO 변환과 프로젝션 조회를 같은 데이터로 측정해 로그로 남긴다. 할당량은 JIT/GC 상태에 따라 흔들리므로
+// 비교는 단정하지 않는다. 기본 test 태스크에서는 제외되고 ./gradlew benchmark 로 실행한다
+@Tag("benchmark")
+@SpringBootTest
+class ListingProjectionBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ListingProjectionBenchmarkTest.class);
+
+    private static final int PRODUCT_COUNT = 200;
+    private static final int ORDER_COUNT = 50;
+    private static final int ITEMS_PER_ORDER = 5;
+    private static final int PAGE_SIZE = 20;
+    private static final int WARMUP = 200;
+    private static final int ITERATIONS = 1000;
+    private static final long MEMBER_ID = 1L;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderItemRepository orderItemRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() {
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        Category category = categoryRepository.save(Category.builder().name("벤치마크").sortOrder(1).build());
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < PRODUCT_COUNT; i++) {
+            Product product = Product.builder()
+                    .name("상품" + i)
+                    .description("상품 설명 ".repeat(50))
+                    .basePrice(Money.of(20000))
+                    .sellingPrice(Money.of(15000))
+                    .category(category)
+                    .thumbnailUrl("https://cdn.example.com/" + i + ".jpg")
+                    .build();
+            product.activate();
+            products.add(product);
+        }
+        productRepository.saveAll(products);
+
+        List<Order> orders = new ArrayList<>();
+        for (int i = 0; i < ORDER_COUNT; i++) {
+            Order order = Order.builder()
+                    .memberId(MEMBER_ID)
+                    .shippingInfo(ShippingInfo.builder()
+                            .recipientName("홍길동")
+                            .recipientPhone("010-1234-5678")
+                            .zipCode("12345")
+                            .address1("서울시 강남구")
+                            .build())
+                    .build();
+            for (int j = 0; j < ITEMS_PER_ORDER; j++) {
+                order.addOrderItem(OrderItem.builder()
+                        .productId((long) j + 1)
+                        .productName("상품" + j)
+                        .unitPrice(Money.of(1000))
+                        .quantity(1)
+                        .build());
+            }
+            orders.add(order);
+        }
+        orderRepository.saveAll(orders);
+    }
+
+    @AfterEach
+    void tearDown() {
+        orderItemRepository.deleteAllInBatch();
+        orderRepository.deleteAllInBatch();
+        productRepository.deleteAllInBatch();
+        categoryRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("상품 목록: 엔티티 조회와 프로젝션 조회의 요청당 시간과 할당량을 기록한다")
+    void productListing() {
+        PageRequest pageRequest = PageRequest.of(0, PAGE_SIZE);
+
+        measure("product/entity", () -> productRepository
+                .findByStatus(ProductStatus.ACTIVE, pageRequest)
+                .map(ProductListResponse::from)
+                .getContent());
+        measure("product/projection", () -> productRepository
+                .findListRowsByStatus(ProductStatus.ACTIVE, pageRequest)
+                .map(ProductListResponse::from)
+                .getContent());
+    }
+
+    @Test
+    @DisplayName("주문 목록: 엔티티 조회와 헤더/항목 프로젝션 2회 조회의 요청당 시간과 할당량을 기록한다")
+    void orderListing() {
+        PageRequest pageRequest = PageRequest.of(0, PAGE_SIZE);
+
+        // 데이터가 모두 MEMBER_ID의 주문이므로 같은 정렬의 엔티티 페이지 조회를 비교 기준으로 쓴다
+        PageRequest sortedPageRequest = PageRequest.of(0, PAGE_SIZE,
+                Sort.by(Sort.Direction.DESC, "createdAt", "id"));
+        measure("order/entity", () -> orderRepository
+                .findAll(sortedPageRequest)
+                .map(OrderResponse::from)
+                .getContent());
+        measure("order/projection", () -> {
+            List<OrderSummaryRow> rows = orderRepository.findSummaryRowsByMemberId(MEMBER_ID, pageRequest)
+                    .getContent();
+            Map<Long, List<OrderItemResponse>> items = orderItemRepository
+                    .findRowsByOrderIdIn(rows.stream().map(OrderSummaryRow::id).toList())
+                    .stream()
+                    .collect(Collectors.groupingBy(OrderItemRow::orderId,
+                            Collectors.mapping(OrderItemResponse::from, Collectors.toList())));
+            return rows.stream()
+                    .map(row -> OrderResponse.from(row, items.getOrDefault(row.id(), List.of())))
+                    .toList();
+        });
+    }
+
+    private void measure(String name, Supplier<List<?>> operation) {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+        for (int i = 0; i < WARMUP; i++) {
+            readOnly.execute(status -> operation.get());
+        }
+
+        long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            List<?> result = readOnly.execute(status -> operation.get());
+            assertThat(result).hasSize(PAGE_SIZE);
+        }
+        long elapsed = System.nanoTime() - startedAt;
+        long allocated = threads.getCurrentThreadAllocatedBytes() - allocatedBefore;
+
+        log.info("{}: {} ns/op, {} B/op", name, elapsed / ITERATIONS, allocated / ITERATIONS);
+    }
+}
@@ -0,0 +1,66 @@
+package com.ecommerce.global.config;
+
+import com.ecommerce.domain.model.Money;
+import com.ecommerce.domain.order.dao.OrderRepository;
+import com.ecommerce.domain.order.domain.Order;
+import com.ecommerce.domain.order.domain.OrderItem;
+import com.ecommerce.domain.order.domain.ShippingInfo;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class PersistenceConfigTest {
+
+    private static final int ITEM_COUNT = 20;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("주문 항목 INSERT는 JDBC 배치로 묶여 항목 수와 무관한 구문 수로 실행된다")
+    void saveOrder_InsertsAreBatched() {
+        // given
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        Order order = Order.builder()
+                .memberId(1L)
+                .shippingInfo(ShippingInfo.builder()
+                        .recipientName("홍길동")
+                        .recipientPhone("010-1234-5678")
+                        .zipCode("12345")
+                        .address1("서울시 강남구")
+                        .build())
+                .build();
+        for (int i = 0; i < ITEM_COUNT; i++) {
+            order.addOrderItem(OrderItem.builder()
+                    .productId((long) i + 1)
+                    .productName("상품" + i)
+                    .unitPrice(Money.of(1000))
+                    .quantity(1)
+                    .build());
+        }
+        statistics.clear();
+
+        // when
+        orderRepository.save(order);
+        entityManager.flush();
+
+        // then
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(ITEM_COUNT + 1);
+        // 시퀀스 조회 2회 + 주문 INSERT 1회 + 주문 항목 배치 INSERT 1회
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(6);
+    }
+}
@@ -0,0 +1,66 @@
+package com.ecommerce.global.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import tools.jackson.databind.json.JsonMapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestBulkheadFilterTest {
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+    @Test
+    @DisplayName("허용 수 안의 요청은 통과시키고 처리 후 허용 수를 반납한다")
+    void doFilter_WithinLimit_PassesAndReleases() throws Exception {
+        // given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        RequestBulkheadFilter filter = new RequestBulkheadFilter(1, 0, jsonMapper, meterRegistry);
+
+        // when
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/products"), first, new MockFilterChain());
+        MockHttpServletResponse second = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/products"), second, new MockFilterChain());
+
+        // then
+        assertThat(first.getStatus()).isEqualTo(200);
+        assertThat(second.getStatus()).isEqualTo(200);
+        assertThat(meterRegistry.get("http.bulkhead.available").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("허용 수를 넘는 API 요청은 503으로 거절하고 지표에 반영한다")
+    void doFilter_OverLimit_Rejected() throws Exception {
+        // given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        RequestBulkheadFilter filter = new RequestBulkheadFilter(0, 0, jsonMapper, meterRegistry);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        filter.doFilter(new MockHttpServletRequest("POST", "/api/orders"), response, new MockFilterChain());
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(503);
+        assertThat(response.getContentAsString()).contains("C006");
+        assertThat(meterRegistry.get("http.bulkhead.rejected").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("API가 아닌 경로는 제한하지 않는다")
+    void doFilter_NonApiPath_NotLimited() throws Exception {
+        // given
+        RequestBulkheadFilter filter = new RequestBulkheadFilter(0, 0, jsonMapper, new SimpleMeterRegistry());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        filter.doFilter(new MockHttpServletRequest("GET", "/actuator/health"), response, new MockFilterChain());
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(200);
+    }
+}
@@ -0,0 +1,68 @@
+package com.ecommerce.global.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SecurityConfigTest {
+
+    @Nested
+    @DisplayName("비밀번호 인코더")
+    class PasswordEncoderTest {
+
+        @Test
+        @DisplayName("접두사 없는 기존 BCrypt 해시도 검사하고 재해시 대상으로 본다")
+        void legacyHash_MatchesAndNeedsUpgrade() {
+            // given
+            PasswordEncoder encoder = SecurityConfig.delegatingPasswordEncoder("bcrypt", 4);
+            String legacy = new BCryptPasswordEncoder(4).encode("password1!");
+
+            // when & then
+            assertThat(encoder.matches("password1!", legacy)).isTrue();
+            assertThat(encoder.upgradeEncoding(legacy)).isTrue();
+        }
+
+        @Test
+        @DisplayName("새 해시는 설정한 알고리즘 접두사를 붙이고 재해시 대상이 아니다")
+        void encode_PrefixedWithEncoderId() {
+            // given
+            PasswordEncoder encoder = SecurityConfig.delegatingPasswordEncoder("bcrypt", 4);
+
+            // when
+            String encoded = encoder.encode("password1!");
+
+            // then
+            assertThat(encoded).startsWith("{bcrypt}");
+            assertThat(encoder.upgradeEncoding(encoded)).isFalse();
+        }
+
+        @Test
+        @DisplayName("BCrypt 비용을 올리면 낮은 비용으로 만든 해시가 재해시 대상이 된다")
+        void raisedStrength_NeedsUpgrade() {
+            // given
+            String weak = SecurityConfig.delegatingPasswordEncoder("bcrypt", 4).encode("password1!");
+            PasswordEncoder stronger = SecurityConfig.delegatingPasswordEncoder("bcrypt", 5);
+
+            // when & then
+            assertThat(stronger.matches("password1!", weak)).isTrue();
+            assertThat(stronger.upgradeEncoding(weak)).isTrue();
+        }
+
+        @Test
+        @DisplayName("알고리즘을 바꿔도 이전 알고리즘 해시로 로그인할 수 있다")
+        void switchedAlgorithm_StillMatchesOldHash() {
+            // given
+            String bcrypt = SecurityConfig.delegatingPasswordEncoder("bcrypt", 4).encode("password1!");
+            PasswordEncoder pbkdf2 = SecurityConfig.delegatingPasswordEncoder("pbkdf2", 4);
+
+            // when & then
+            assertThat(pbkdf2.matches("password1!", bcrypt)).isTrue();
+            assertThat(pbkdf2.upgradeEncoding(bcrypt)).isTrue();
+            assertThat(pbkdf2.encode("password1!")).startsWith("{pbkdf2}");
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.ecommerce.global.idempotency;
+
+import com.ecommerce.global.idempotency.IdempotencyCache.Claim;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class IdempotencyCacheTest {
+
+    private static final String RESOURCE_TYPE = "PAYMENT";
+    private static final String KEY = "key-1";
+
+    private IdempotencyCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new IdempotencyCache(new SimpleMeterRegistry(), 100, 600, 1000);
+    }
+
+    @Nested
+    @DisplayName("키 선점")
+    class ClaimTest {
+
+        @Test
+        @DisplayName("동시에 같은 키를 선점하면 한 요청만 소유자가 된다")
+        void claim_Concurrent_SingleOwner() throws Exception {
+            // given
+            int threads = 50;
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Claim<String>>> futures = new ArrayList<>();
+
+            // when
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int i = 0; i < threads; i++) {
+                    futures.add(executor.submit(() -> {
+                        start.await();
+                        return cache.<String>claim(RESOURCE_TYPE, KEY);
+                    }));
+                }
+                start.countDown();
+            }
+
+            // then
+            long owners = 0;
+            for (Future<Claim<String>> future : futures) {
+                if (future.get().owner()) {
+                    owners++;
+                }
+            }
+            assertThat(owners).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("리소스 유형이 다르면 같은 키도 따로 선점한다")
+        void claim_DifferentResourceType_Independent() {
+            // when
+            Claim<String> payment = cache.claim(RESOURCE_TYPE, KEY);
+            Claim<String> order = cache.claim("ORDER", KEY);
+
+            // then
+            assertThat(payment.owner()).isTrue();
+            assertThat(order.owner()).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("결과 공유")
+    class AwaitTest {
+
+        @Test
+        @DisplayName("처리 중인 요청을 기다리던 중복 요청은 같은 응답을 받는다")
+        void await_InFlight_ReceivesOwnerResponse() throws Exception {
+            // given
+            Claim<String> owner = cache.claim(RESOURCE_TYPE, KEY);
+            Claim<String> duplicate = cache.claim(RESOURCE_TYPE, KEY);
+
+            // when
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                Future<?> waiting = executor.submit(() -> cache.await(duplicate));
+                cache.complete(owner, "response");
+
+                // then
+                assertThat(waiting.get()).isEqualTo(Optional.of("response"));
+            }
+        }
+
+        @Test
+        @DisplayName("완료된 키를 다시 선점하면 캐시된 응답을 그대로 받는다")
+        void claim_Completed_ReturnsCachedResponse() {
+            // given
+            Claim<String> owner = cache.claim(RESOURCE_TYPE, KEY);
+            cache.complete(owner, "response");
+
+            // when
+            Claim<String> retried = cache.claim(RESOURCE_TYPE, KEY);
+
+            // then
+            assertThat(retried.owner()).isFalse();
+            assertThat(cache.await(retried)).contains("response");
+        }
+
+        @Test
+        @DisplayName("키를 풀면 기다리던 요청은 응답을 받고 이후 요청은 새로 선점한다")
+        void release_AllowsNewClaim() {
+            // given
+            Claim<String> owner = cache.claim(RESOURCE_TYPE, KEY);
+            Claim<String> duplicate = cache.claim(RESOURCE_TYPE, KEY);
+
+            // when
+            cache.release(owner, "failed");
+
+            // then
+            assertThat(cache.await(duplicate)).contains("failed");
+            assertThat(cache.<String>claim(RESOURCE_TYPE, KEY).owner()).isTrue();
+        }
+
+        @Test
+        @DisplayName("처리에 실패하면 기다리던 요청도 같은 예외를 받고 키가 풀린다")
+        void fail_PropagatesErrorAndReleases() {
+            // given
+            Claim<String> owner = cache.claim(RESOURCE_TYPE, KEY);
+            Claim<String> duplicate = cache.claim(RESOURCE_TYPE, KEY);
+
+            // when
+            cache.fail(owner, new IllegalStateException("처리 실패"));
+
+            // then
+            assertThatThrownBy(() -> cache.await(duplicate))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessage("처리 실패");
+            assertThat(cache.<String>claim(RESOURCE_TYPE, KEY).owner()).isTrue();
+        }
+
+        @Test
+        @DisplayName("마감 시간 안에 끝나지 않으면 빈 결과를 돌려준다")
+        void await_Timeout_ReturnsEmpty() {
+            // given
+            IdempotencyCache shortWait = new IdempotencyCache(new SimpleMeterRegistry(), 100, 600, 50);
+            shortWait.claim(RESOURCE_TYPE, KEY);
+            Claim<String> duplicate = shortWait.claim(RESOURCE_TYPE, KEY);
+
+            // when & then
+            assertThat(shortWait.await(duplicate)).isEmpty();
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.ecommerce.global.security;
+
+import com.ecommerce.global.error.BusinessException;
+import com.ecommerce.global.error.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BoundedPasswordEncoderTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor();
+    private BoundedPasswordEncoder encoder;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        callers.shutdownNow();
+        encoder.shutdown();
+    }
+
+    @Test
+    @DisplayName("해시 결과를 그대로 돌려준다")
+    void matches_DelegatesResult() {
+        // given
+        encoder = new BoundedPasswordEncoder(new PlainEncoder(null), 1, 1, 1000, new SimpleMeterRegistry());
+
+        // when & then
+        assertThat(encoder.matches("password", "{plain}password")).isTrue();
+        assertThat(encoder.matches("wrong", "{plain}password")).isFalse();
+    }
+
+    @Test
+    @DisplayName("풀과 대기열이 모두 차면 해시하지 않고 SERVICE_BUSY로 거절한다")
+    void matches_QueueFull_Rejects() throws Exception {
+        // given
+        CountDownLatch started = new CountDownLatch(1);
+        encoder = new BoundedPasswordEncoder(new PlainEncoder(started), 1, 1, 5000, new SimpleMeterRegistry());
+        callers.submit(() -> encoder.matches("password", "{plain}password"));
+        started.await();
+        callers.submit(() -> encoder.matches("password", "{plain}password"));
+        Thread.sleep(100);
+
+        // when & then
+        assertThatThrownBy(() -> encoder.matches("password", "{plain}password"))
+                .isInstanceOf(BusinessException.class)
+                .satisfies(e -> assertThat(((BusinessException) e).getErrorCode()).isEqualTo(ErrorCode.SERVICE_BUSY));
+    }
+
+    @Test
+    @DisplayName("마감 시간 안에 해시가 끝나지 않으면 SERVICE_BUSY로 거절한다")
+    void matches_Timeout_Rejects() {
+        // given
+        encoder = new BoundedPasswordEncoder(new PlainEncoder(new CountDownLatch(1)), 1, 1, 50,
+                new SimpleMeterRegistry());
+
+        // when & then
+        assertThatThrownBy(() -> encoder.matches("password", "{plain}password"))
+                .isInstanceOf(BusinessException.class)
+                .satisfies(e -> assertThat(((BusinessException) e).getErrorCode()).isEqualTo(ErrorCode.SERVICE_BUSY));
+    }
+
+    // started가 주어지면 해시 시작을 알리고 release될 때까지 멈춰 느린 해시를 흉내 낸다
+    private class PlainEncoder implements PasswordEncoder {
+
+        private final CountDownLatch started;
+
+        PlainEncoder(CountDownLatch started) {
+            this.started = started;
+        }
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            return "{plain}" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            if (started != null) {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return encode(rawPassword).equals(encodedPassword);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.ecommerce.global.security;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "test-secret-key-must-be-at-least-256-bits-long-for-hs256-algorithm";
+
+    private MeterRegistry meterRegistry;
+    private JwtTokenProvider jwtTokenProvider;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        jwtTokenProvider = createProvider(SECRET, 3_600_000L);
+    }
+
+    @Nested
+    @DisplayName("인증 정보 조회")
+    class ResolveAuthenticationTest {
+
+        @Test
+        @DisplayName("유효한 토큰에서 회원 정보를 꺼낸다")
+        void resolveAuthentication_ValidToken() {
+            // given
+            String token = jwtTokenProvider.createAccessToken(1L, "user@example.com");
+
+            // when
+            Optional<Authentication> authentication = jwtTokenProvider.resolveAuthentication(token);
+
+            // then
+            assertThat(authentication).isPresent();
+            JwtAuthenticationPrincipal principal = (JwtAuthenticationPrincipal) authentication.get().getPrincipal();
+            assertThat(principal.memberId()).isEqualTo(1L);
+            assertThat(principal.email()).isEqualTo("user@example.com");
+        }
+
+        @Test
+        @DisplayName("같은 토큰은 한 번만 서명을 검증하고 이후에는 캐시에서 꺼낸다")
+        void resolveAuthentication_SecondCall_UsesCache() {
+            // given
+            String token = jwtTokenProvider.createAccessToken(1L, "user@example.com");
+
+            // when
+            jwtTokenProvider.resolveAuthentication(token);
+            Optional<Authentication> cached = jwtTokenProvider.resolveAuthentication(token);
+
+            // then
+            assertThat(cached).isPresent();
+            assertThat(meterRegistry.get("jwt.verify").timer().count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("다른 키로 서명된 토큰은 인증하지 않는다")
+        void resolveAuthentication_InvalidSignature_ReturnsEmpty() {
+            // given
+            JwtTokenProvider other = createProvider(SECRET.replace('t', 'x'), 3_600_000L);
+            String token = other.createAccessToken(1L, "user@example.com");
+
+            // when & then
+            assertThat(jwtTokenProvider.resolveAuthentication(token)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("만료된 토큰은 인증하지 않는다")
+        void resolveAuthentication_ExpiredToken_ReturnsEmpty() {
+            // given
+            JwtTokenProvider expiring = createProvider(SECRET, -1_000L);
+            String token = expiring.createAccessToken(1L, "user@example.com");
+
+            // when & then
+            assertThat(expiring.resolveAuthentication(token)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("리프레시 토큰 검증")
+    class RefreshTokenTest {
+
+        @Test
+        @DisplayName("서명이 유효한 리프레시 토큰만 통과시킨다")
+        void isValidRefreshToken_RefreshToken_ReturnsTrue() {
+            // given
+            String token = jwtTokenProvider.createRefreshToken(1L, "user@example.com");
+
+            // when & then
+            assertThat(jwtTokenProvider.isValidRefreshToken(token)).isTrue();
+        }
+
+        @Test
+        @DisplayName("액세스 토큰은 리프레시 토큰으로 인정하지 않는다")
+        void isValidRefreshToken_AccessToken_ReturnsFalse() {
+            // given
+            String token = jwtTokenProvider.createAccessToken(1L, "user@example.com");
+
+            // when & then
+            assertThat(jwtTokenProvider.isValidRefreshToken(token)).isFalse();
+        }
+
+        @Test
+        @DisplayName("형식이 잘못된 토큰은 예외 없이 거절한다")
+        void isValidRefreshToken_Malformed_ReturnsFalse() {
+            assertThat(jwtTokenProvider.isValidRefreshToken("not-a-jwt")).isFalse();
+        }
+    }
+
+    private JwtTokenProvider createProvider(String secret, long accessTokenValidity) {
+        JwtTokenProvider provider = new JwtTokenProvider(meterRegistry);
+        ReflectionTestUtils.setField(provider, "secretString", secret);
+        ReflectionTestUtils.setField(provider, "accessTokenValidity", accessTokenValidity);
+        ReflectionTestUtils.setField(provider, "refreshTokenValidity", 604_800_000L);
+        ReflectionTestUtils.setField(provider, "verifiedCacheMaximumSize", 100L);
+        provider.init();
+        return provider;
+    }
+}
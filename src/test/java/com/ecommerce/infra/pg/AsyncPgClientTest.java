@@ -0,0 +1,139 @@
+package com.ecommerce.infra.pg;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class AsyncPgClientTest {
+
+    @Mock
+    private PgClient pgClient;
+
+    private final CountDownLatch hang = new CountDownLatch(1);
+    private AsyncPgClient asyncPgClient;
+
+    @AfterEach
+    void tearDown() {
+        hang.countDown();
+        if (asyncPgClient != null) {
+            asyncPgClient.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("마감 시간 안에 승인되면 PG 응답을 그대로 돌려준다")
+    void approve_WithinDeadline_ReturnsResponse() {
+        // given
+        asyncPgClient = create(1000, 10, closedBreaker());
+        given(pgClient.approve(any())).willReturn(PgResponse.success("TXN1"));
+
+        // when
+        PgResponse response = asyncPgClient.approve(request()).join();
+
+        // then
+        assertThat(response.isSuccess()).isTrue();
+        assertThat(response.getTransactionId()).isEqualTo("TXN1");
+        verify(pgClient, never()).inquiryByOrderNumber(any());
+    }
+
+    @Test
+    @DisplayName("마감 시간을 넘기면 주문번호 조회로 승인 여부를 확정한다")
+    void approve_Timeout_ResolvedByInquiry() {
+        // given
+        asyncPgClient = create(50, 10, closedBreaker());
+        given(pgClient.approve(any())).willAnswer(invocation -> {
+            hang.await();
+            return PgResponse.success("LATE");
+        });
+        given(pgClient.inquiryByOrderNumber("ORD-1")).willReturn(PgResponse.success("TXN1"));
+
+        // when
+        PgResponse response = asyncPgClient.approve(request()).join();
+
+        // then
+        assertThat(response.getTransactionId()).isEqualTo("TXN1");
+    }
+
+    @Test
+    @DisplayName("조회로도 확정되지 않으면 타임아웃 응답을 돌려준다")
+    void approve_TimeoutAndNotFound_ReturnsTimeout() {
+        // given
+        asyncPgClient = create(50, 10, closedBreaker());
+        given(pgClient.approve(any())).willAnswer(invocation -> {
+            hang.await();
+            return PgResponse.success("LATE");
+        });
+        given(pgClient.inquiryByOrderNumber("ORD-1")).willReturn(PgResponse.failure("4001", "거래 내역 없음"));
+
+        // when
+        PgResponse response = asyncPgClient.approve(request()).join();
+
+        // then
+        assertThat(response.getResponseCode()).isEqualTo("9999");
+    }
+
+    @Test
+    @DisplayName("진행 중인 승인이 한도에 차면 PG를 호출하지 않고 거절한다")
+    void approve_BulkheadFull_Rejected() {
+        // given
+        asyncPgClient = create(5000, 1, closedBreaker());
+        given(pgClient.approve(any())).willAnswer(invocation -> {
+            hang.await();
+            return PgResponse.success("TXN1");
+        });
+        asyncPgClient.approve(request());
+
+        // when
+        PgResponse response = asyncPgClient.approve(request()).join();
+
+        // then
+        assertThat(response.getResponseCode()).isEqualTo("9998");
+    }
+
+    @Test
+    @DisplayName("서킷이 열려 있으면 PG를 호출하지 않고 즉시 거절한다")
+    void approve_CircuitOpen_FailsFast() {
+        // given
+        PgCircuitBreaker circuitBreaker = closedBreaker();
+        circuitBreaker.record(false);
+        asyncPgClient = create(1000, 10, circuitBreaker);
+
+        // when
+        PgResponse response = asyncPgClient.approve(request()).join();
+
+        // then
+        assertThat(response.getResponseCode()).isEqualTo("9998");
+        verify(pgClient, never()).approve(any());
+    }
+
+    private AsyncPgClient create(long approveTimeoutMs, int maxInFlight, PgCircuitBreaker circuitBreaker) {
+        return new AsyncPgClient(pgClient, new SimpleMeterRegistry(), approveTimeoutMs, 100, 1000,
+                maxInFlight, circuitBreaker);
+    }
+
+    private PgCircuitBreaker closedBreaker() {
+        return new PgCircuitBreaker(10, 1, 50, 60_000, 1, System::currentTimeMillis);
+    }
+
+    private PgRequest request() {
+        return PgRequest.builder()
+                .orderNumber("ORD-1")
+                .amount(10000)
+                .cardNumber("4000000000000000")
+                .paymentMethod("CREDIT_CARD")
+                .build();
+    }
+}
@@ -0,0 +1,82 @@
+package com.ecommerce.infra.pg;
+
+import com.ecommerce.infra.pg.PgCircuitBreaker.State;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PgCircuitBreakerTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final PgCircuitBreaker circuitBreaker = new PgCircuitBreaker(10, 4, 50, 1000, 2, now::get);
+
+    @Test
+    @DisplayName("최소 호출 수를 채우기 전에는 실패가 많아도 열리지 않는다")
+    void record_BelowMinimumCalls_StaysClosed() {
+        // when
+        circuitBreaker.record(false);
+        circuitBreaker.record(false);
+        circuitBreaker.record(false);
+
+        // then
+        assertThat(circuitBreaker.getState()).isEqualTo(State.CLOSED);
+        assertThat(circuitBreaker.tryAcquire()).isTrue();
+    }
+
+    @Test
+    @DisplayName("실패율이 임계치를 넘으면 열려서 호출을 즉시 거절한다")
+    void record_FailureRateExceeded_Opens() {
+        // when
+        circuitBreaker.record(true);
+        circuitBreaker.record(true);
+        circuitBreaker.record(false);
+        circuitBreaker.record(false);
+
+        // then
+        assertThat(circuitBreaker.getState()).isEqualTo(State.OPEN);
+        assertThat(circuitBreaker.tryAcquire()).isFalse();
+    }
+
+    @Test
+    @DisplayName("차단 시간이 지나면 시험 호출만 허용하고, 모두 성공하면 닫힌다")
+    void tryAcquire_AfterOpenDuration_HalfOpenThenCloses() {
+        // given
+        openCircuit();
+        now.addAndGet(1000);
+
+        // when & then
+        assertThat(circuitBreaker.tryAcquire()).isTrue();
+        assertThat(circuitBreaker.tryAcquire()).isTrue();
+        assertThat(circuitBreaker.tryAcquire()).isFalse();
+        assertThat(circuitBreaker.getState()).isEqualTo(State.HALF_OPEN);
+
+        circuitBreaker.record(true);
+        circuitBreaker.record(true);
+        assertThat(circuitBreaker.getState()).isEqualTo(State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("시험 호출이 실패하면 다시 열린다")
+    void record_HalfOpenFailure_Reopens() {
+        // given
+        openCircuit();
+        now.addAndGet(1000);
+        circuitBreaker.tryAcquire();
+
+        // when
+        circuitBreaker.record(false);
+
+        // then
+        assertThat(circuitBreaker.getState()).isEqualTo(State.OPEN);
+        assertThat(circuitBreaker.tryAcquire()).isFalse();
+    }
+
+    private void openCircuit() {
+        for (int i = 0; i < 4; i++) {
+            circuitBreaker.record(false);
+        }
+    }
+}